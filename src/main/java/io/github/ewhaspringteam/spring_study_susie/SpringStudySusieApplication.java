@@ -2,8 +2,10 @@ package io.github.ewhaspringteam.spring_study_susie;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class SpringStudySusieApplication {
 
 	public static void main(String[] args) {
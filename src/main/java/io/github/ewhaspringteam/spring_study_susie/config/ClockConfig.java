@@ -0,0 +1,19 @@
+package io.github.ewhaspringteam.spring_study_susie.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * 현재 시각 (게시글 날짜 경계, 초기화 시간, 댓글 작성/수정 시각 등)
+ * 테스트에서는 @Primary Clock 을 등록해서 시간을 마음대로 흘려보낼 수 있음
+ */
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
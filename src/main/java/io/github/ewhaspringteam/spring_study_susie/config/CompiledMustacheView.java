@@ -0,0 +1,108 @@
+package io.github.ewhaspringteam.spring_study_susie.config;
+
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+import io.github.ewhaspringteam.spring_study_susie.profiling.ViewRenderEvent;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.web.servlet.view.MustacheView;
+import org.springframework.core.io.Resource;
+
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.Map;
+
+/**
+ * 컴파일한 템플릿을 재사용하는 MustacheView
+ * 기본 MustacheView 는 렌더링할 때마다 템플릿(과 그 안의 partial)을 다시 읽고 컴파일함
+ * 뷰 객체는 뷰 리졸버가 캐시하므로 여기서 한 번만 컴파일해 두면 이후 요청은 실행만 함
+ * (spring.mustache.servlet.cache=false 면 뷰 자체가 매번 새로 만들어지므로 수정한 템플릿이 바로 반영됨)
+ */
+public class CompiledMustacheView extends MustacheView {
+
+    private Mustache.Compiler compiler;
+    private String charset;
+    private volatile Template template;
+
+    @Override
+    public void setCompiler(Mustache.Compiler compiler) {
+        super.setCompiler(compiler);
+        this.compiler = compiler;
+    }
+
+    @Override
+    public void setCharset(String charset) {
+        super.setCharset(charset);
+        this.charset = charset;
+    }
+
+    /**
+     * 컴파일된 템플릿 (처음 호출할 때 컴파일)
+     */
+    public Template getTemplate() throws IOException {
+        Template compiled = template;
+        if (compiled == null) {
+            Resource resource = getApplicationContext().getResource(getUrl());
+            try (Reader reader = charset != null
+                    ? new InputStreamReader(resource.getInputStream(), Charset.forName(charset))
+                    : new InputStreamReader(resource.getInputStream())) {
+                compiled = compiler.compile(reader);
+            }
+            template = compiled;
+        }
+        return compiled;
+    }
+
+    @Override
+    protected void renderMergedTemplateModel(Map<String, Object> model, HttpServletRequest request,
+                                             HttpServletResponse response) throws Exception {
+        Template compiled = getTemplate();
+        ViewRenderEvent event = new ViewRenderEvent();
+        if (!event.isEnabled()) {
+            compiled.execute(model, response.getWriter());
+            return;
+        }
+
+        // 기록 중일 때만 쓴 문자 수를 셈
+        CountingWriter writer = new CountingWriter(response.getWriter());
+        event.begin();
+        compiled.execute(model, writer);
+        event.end();
+        if (event.shouldCommit()) {
+            event.view = getBeanName();
+            event.charsRendered = writer.count;
+            event.commit();
+        }
+    }
+
+    private static class CountingWriter extends FilterWriter {
+
+        private long count;
+
+        CountingWriter(Writer out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            out.write(c);
+            count++;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            out.write(cbuf, off, len);
+            count += len;
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            out.write(str, off, len);
+            count += len;
+        }
+    }
+}
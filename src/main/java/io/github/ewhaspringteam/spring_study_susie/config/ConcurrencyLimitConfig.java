@@ -0,0 +1,22 @@
+package io.github.ewhaspringteam.spring_study_susie.config;
+
+import io.github.ewhaspringteam.spring_study_susie.throttle.ConcurrencyLimitInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 동시 처리 한도 인터셉터 등록 (어느 핸들러에 적용할지는 인터셉터가 판단)
+ */
+@Configuration
+public class ConcurrencyLimitConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private ConcurrencyLimitInterceptor concurrencyLimitInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(concurrencyLimitInterceptor);
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.ewhaspringteam.spring_study_susie.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.view.MustacheViewResolver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 자동 설정된 Mustache 뷰 리졸버가 CompiledMustacheView 를 만들도록 변경
+ * (리졸버 자체의 prefix/suffix/charset 등 설정은 spring.mustache.* 그대로 사용)
+ */
+@Configuration
+public class MustacheViewConfig {
+
+    @Bean
+    public static BeanPostProcessor compiledMustacheViewPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof MustacheViewResolver resolver) {
+                    resolver.setViewClass(CompiledMustacheView.class);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,109 @@
+package io.github.ewhaspringteam.spring_study_susie.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.github.ewhaspringteam.spring_study_susie.datasource.H2ReplicaSynchronizer;
+import io.github.ewhaspringteam.spring_study_susie.datasource.ReadYourWritesTracker;
+import io.github.ewhaspringteam.spring_study_susie.datasource.ReplicaProperties;
+import io.github.ewhaspringteam.spring_study_susie.datasource.ReplicaRoutingPolicy;
+import io.github.ewhaspringteam.spring_study_susie.datasource.ReplicationJpaTransactionManager;
+import io.github.ewhaspringteam.spring_study_susie.datasource.ReplicationRoutingDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * primary / replica 데이터소스 구성
+ * app.datasource.replica.enabled=true 일 때만 라우팅을 켜고, 아니면 스프링 부트 기본 DataSource를 그대로 사용
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicationDataSourceConfig {
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource replicaDataSource(ReplicaProperties replicaProperties) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replicaProperties.getUrl())
+                .username(replicaProperties.getUsername())
+                .password(replicaProperties.getPassword())
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public H2ReplicaSynchronizer h2ReplicaSynchronizer(@Qualifier("primaryDataSource") DataSource primary,
+                                                       @Qualifier("replicaDataSource") DataSource replica,
+                                                       ReplicaProperties replicaProperties) {
+        return new H2ReplicaSynchronizer(primary, replica, replicaProperties.getSyncInterval());
+    }
+
+    @Bean
+    public ReplicaRoutingPolicy replicaRoutingPolicy(H2ReplicaSynchronizer synchronizer,
+                                                     ReadYourWritesTracker readYourWritesTracker,
+                                                     ReplicaProperties replicaProperties) {
+        return new ReplicaRoutingPolicy(readYourWritesTracker, synchronizer, replicaProperties.getMaxLag());
+    }
+
+    /**
+     * JPA가 사용할 DataSource
+     * 커넥션을 실제로 쓰는 시점까지 미뤄야 readOnly 여부를 보고 라우팅할 수 있음
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReplicaRoutingPolicy replicaRoutingPolicy) {
+        ReplicationRoutingDataSource routing = new ReplicationRoutingDataSource(replicaRoutingPolicy);
+        routing.setTargetDataSources(Map.of(
+                ReplicationRoutingDataSource.PRIMARY, primary,
+                ReplicationRoutingDataSource.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /**
+     * readOnly 트랜잭션의 읽기 대상을 시작 시점에 정하는 트랜잭션 매니저 (스프링 부트 기본 JpaTransactionManager 대체)
+     */
+    @Bean
+    public PlatformTransactionManager transactionManager(ReplicaRoutingPolicy replicaRoutingPolicy,
+                                                         ObjectProvider<TransactionManagerCustomizers> customizers) {
+        ReplicationJpaTransactionManager transactionManager = new ReplicationJpaTransactionManager(replicaRoutingPolicy);
+        customizers.ifAvailable(c -> c.customize(transactionManager));
+        return transactionManager;
+    }
+
+    /**
+     * 트랜잭션이 끝나면 커넥션을 반납하도록 설정
+     * (open-in-view 세션이 첫 readOnly 트랜잭션의 replica 커넥션을 잡고 쓰기까지 하는 것을 막음)
+     */
+    @Bean
+    public HibernatePropertiesCustomizer connectionReleaseCustomizer() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                "DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION");
+    }
+}
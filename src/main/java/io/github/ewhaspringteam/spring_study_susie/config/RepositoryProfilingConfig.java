@@ -0,0 +1,31 @@
+package io.github.ewhaspringteam.spring_study_susie.config;
+
+import io.github.ewhaspringteam.spring_study_susie.profiling.RepositoryEventInterceptor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * 모든 리포지토리 프록시에 RepositoryEventInterceptor 를 추가 (JFR 기록 중일 때만 이벤트를 남김)
+ * 리포지토리가 만들어지기 전(afterPropertiesSet 전)에 팩토리 빈에 등록해야 함
+ */
+@Configuration
+public class RepositoryProfilingConfig {
+
+    @Bean
+    public static BeanPostProcessor repositoryProfilingPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory ->
+                            factory.addRepositoryProxyPostProcessor((proxyFactory, information) ->
+                                    proxyFactory.addAdvice(new RepositoryEventInterceptor(
+                                            information.getRepositoryInterface().getSimpleName()))));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,12 @@
+package io.github.ewhaspringteam.spring_study_susie.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 작업 활성화 (버킷 정리 등 백그라운드 작업)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,32 @@
+package io.github.ewhaspringteam.spring_study_susie.config;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.UUID;
+
+/**
+ * Hibernate 2차 캐시용 JCache CacheManager
+ * 기본 CacheManager는 JVM 전체에서 하나라 컨텍스트가 여러 개 뜨면(테스트 등) 다른 DB의 엔티티가 캐시로 섞임
+ * 컨텍스트마다 별도 URI로 만들어 격리함 (file/classpath 가 아닌 URI라 설정은 그대로 application.conf 에서 읽음)
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        return Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("urn:spring-study-susie:" + UUID.randomUUID()), getClass().getClassLoader());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer cacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+}
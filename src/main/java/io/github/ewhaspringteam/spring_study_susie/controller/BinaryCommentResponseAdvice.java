@@ -0,0 +1,70 @@
+package io.github.ewhaspringteam.spring_study_susie.controller;
+
+import io.github.ewhaspringteam.spring_study_susie.dto.CommentDto;
+import io.github.ewhaspringteam.spring_study_susie.dto.CommentTree;
+import io.github.ewhaspringteam.spring_study_susie.dto.CompactCommentTree;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 댓글 API 응답을 CBOR/Smile 로 보낼 때 모바일용 압축 형태로 바꿔주는 advice
+ * Accept 헤더로 바이너리 포맷이 선택된 경우에만 동작하고, JSON 응답은 그대로 둠
+ * - comments: 중첩 트리 대신 CompactCommentTree (필드별 배열 + 부모 인덱스)
+ * - comment: 날짜를 포맷된 문자열 대신 epoch millis 로
+ */
+@ControllerAdvice(assignableTypes = CommentController.class)
+public class BinaryCommentResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return MappingJackson2CborHttpMessageConverter.class.isAssignableFrom(converterType)
+                || MappingJackson2SmileHttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(body instanceof Map<?, ?> map)) {
+            return body;
+        }
+
+        Map<String, Object> compact = new LinkedHashMap<>((Map<String, Object>) map);
+        if (compact.get("comments") instanceof CommentTree tree) {
+            compact.put("comments", CompactCommentTree.fromTree(tree));
+        } else if (compact.get("comments") instanceof List<?> comments) {
+            compact.put("comments", CompactCommentTree.fromHierarchy((List<CommentDto>) comments));
+        }
+        if (compact.get("comment") instanceof CommentDto comment) {
+            compact.put("comment", toCompact(comment));
+        }
+        return compact;
+    }
+
+    private Map<String, Object> toCompact(CommentDto comment) {
+        Map<String, Object> compact = new LinkedHashMap<>();
+        compact.put("id", comment.getId());
+        compact.put("postId", comment.getPostId());
+        compact.put("parentId", comment.getParentId());
+        compact.put("authorId", comment.getAuthorId());
+        compact.put("content", comment.getContent());
+        compact.put("createdAt", comment.getCreatedAtEpochMillis());
+        compact.put("updatedAt", comment.getUpdatedAtEpochMillis());
+        compact.put("depth", comment.getDepth());
+        compact.put("deleted", comment.getDeleted());
+        compact.put("version", comment.getVersion());
+        return compact;
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.ewhaspringteam.spring_study_susie.controller;
+
+import io.github.ewhaspringteam.spring_study_susie.service.SecondLevelCacheService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+public class CacheController {
+
+    @Autowired
+    private SecondLevelCacheService secondLevelCacheService;
+
+    /**
+     * 2차 캐시 적중률 조회 (캐시 크기 조정용)
+     */
+    @GetMapping("/api/admin/cache/stats")
+    public Map<String, Object> getCacheStats() {
+        return Map.of(
+            "success", true,
+            "regions", secondLevelCacheService.getRegionStats()
+        );
+    }
+}
@@ -1,20 +1,62 @@
 package io.github.ewhaspringteam.spring_study_susie.controller;
 
 import io.github.ewhaspringteam.spring_study_susie.dto.CommentDto;
+import io.github.ewhaspringteam.spring_study_susie.dto.CommentSyncDto;
+import io.github.ewhaspringteam.spring_study_susie.idempotency.IdempotencyStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.ewhaspringteam.spring_study_susie.service.CommentReactionService;
 import io.github.ewhaspringteam.spring_study_susie.service.CommentService;
+import io.github.ewhaspringteam.spring_study_susie.service.CommentStreamService;
+import io.github.ewhaspringteam.spring_study_susie.service.PostVersionTracker;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
+import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
 
 @Controller
 public class CommentController {
 
+    // 댓글 API 가 내보내는 포맷 (Accept 가 */* 이면 JSON)
+    private static final List<MediaType> COMMENT_FORMATS = List.of(
+            MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, new MediaType("application", "x-jackson-smile"));
+
     @Autowired
     private CommentService commentService;
 
+    @Autowired
+    private CommentStreamService commentStreamService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PostVersionTracker postVersionTracker;
+
+    @Autowired
+    private CommentReactionService commentReactionService;
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @Autowired
+    private ContentNegotiationManager contentNegotiationManager;
+
     /**
      * 댓글 작성
      */
@@ -90,15 +132,45 @@ public class CommentController {
         }
     }
 
+    /**
+     * 댓글 좋아요
+     */
+    @PostMapping("/comments/{commentId}/like")
+    public String likeComment(@PathVariable Long commentId,
+                              @RequestParam Long postId,
+                              RedirectAttributes redirectAttributes) {
+        try {
+            commentReactionService.like(commentId);
+            return "redirect:/posts/" + postId;
+        } catch (RuntimeException e) {
+            redirectAttributes.addFlashAttribute("error", e.getMessage());
+            return "redirect:/posts/" + postId;
+        }
+    }
+
     /**
      * AJAX - 댓글 목록 조회 (JSON)
      */
     @GetMapping("/api/posts/{postId}/comments")
     @ResponseBody
-    public Map<String, Object> getComments(@PathVariable Long postId) {
+    public Map<String, Object> getComments(@PathVariable Long postId,
+                                           NativeWebRequest webRequest,
+                                           HttpServletResponse response) {
+        // 응답 포맷(JSON/CBOR/Smile)이 Accept 에 따라 달라지므로 캐시가 구분하도록
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+
+        // 마지막으로 받아간 뒤 댓글이 바뀌지 않았으면 DB 조회 없이 304
+        // 포맷마다 바이트가 다르므로 ETag 에 포맷을 넣음 (강한 ETag 는 바이트가 같은 응답끼리만 같아야 함)
+        PostVersionTracker.Version version = postVersionTracker.getCacheableVersion(postId);
+        if (version != null
+                && webRequest.checkNotModified(version.getETag(responseFormat(webRequest)), version.getModifiedAt())) {
+            return null;
+        }
+
         try {
-            var comments = commentService.getCommentsByPost(postId);
+            var comments = commentService.getCommentTree(postId);
             var stats = commentService.getCommentStats(postId);
+            postVersionTracker.track(postId);
             
             return Map.of(
                 "success", true,
@@ -114,20 +186,22 @@ public class CommentController {
     }
 
     /**
-     * AJAX - 댓글 작성 (JSON)
+     * AJAX - since 버전 이후 바뀐 댓글만 조회 (재접속 시 델타 동기화)
+     * mode=delta 이면 changes 를 순서대로 적용, mode=snapshot 이면 comments 로 전체를 교체하고 version 을 저장
      */
-    @PostMapping("/api/posts/{postId}/comments")
+    @GetMapping("/api/posts/{postId}/comments/changes")
     @ResponseBody
-    public Map<String, Object> createCommentApi(@PathVariable Long postId,
-                                              @RequestBody CommentDto commentDto) {
+    public Map<String, Object> getCommentChanges(@PathVariable Long postId,
+                                                 @RequestParam(defaultValue = "0") long since) {
         try {
-            commentDto.setPostId(postId);
-            CommentDto savedComment = commentService.createComment(commentDto);
-            
+            CommentSyncDto sync = commentService.getCommentChanges(postId, since);
+
             return Map.of(
                 "success", true,
-                "message", "댓글이 작성되었습니다!",
-                "comment", savedComment
+                "mode", sync.getMode(),
+                "version", sync.getVersion(),
+                sync.isSnapshot() ? "comments" : "changes",
+                sync.isSnapshot() ? sync.getComments() : sync.getChanges()
             );
         } catch (RuntimeException e) {
             return Map.of(
@@ -137,6 +211,77 @@ public class CommentController {
         }
     }
 
+    /**
+     * AJAX - 댓글 목록 스트리밍 조회 (JSON, 응답 모양은 위와 같음)
+     * 댓글이 많은 게시글용: 트리를 다 만들지 않고 DB에서 읽는 대로 내보냄, Accept-Encoding: gzip 이면 압축
+     */
+    @GetMapping("/api/posts/{postId}/comments/stream")
+    public void streamComments(@PathVariable Long postId,
+                               HttpServletRequest request,
+                               HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        // 첫 바이트를 쓰기 전에 확인할 수 있는 실패만 일반 실패 응답으로 보냄
+        if (!commentStreamService.postExists(postId)) {
+            objectMapper.writeValue(response.getOutputStream(), Map.of(
+                "success", false,
+                "message", "게시글을 찾을 수 없습니다."
+            ));
+            return;
+        }
+
+        boolean gzip = acceptsGzip(request);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        // syncFlush: 서비스가 flush 할 때마다 압축된 데이터도 바로 클라이언트로 나가도록
+        OutputStream out = gzip
+                ? new GZIPOutputStream(response.getOutputStream(), 8192, true)
+                : response.getOutputStream();
+        // 쓰는 도중 실패하면 닫지 않고 예외를 그대로 던짐
+        // (닫으면 잘린 본문이 정상 종료된 응답처럼 나가므로, 컨테이너가 연결을 끊어서 클라이언트가 실패로 알게 함)
+        commentStreamService.writeCommentTree(postId, out);
+        out.close();
+    }
+
+    // Accept 로 고른 응답 포맷 이름 (json, cbor, x-jackson-smile), 메시지 컨버터와 같은 규칙으로 고름
+    private String responseFormat(NativeWebRequest webRequest) {
+        try {
+            for (MediaType requested : contentNegotiationManager.resolveMediaTypes(webRequest)) {
+                for (MediaType format : COMMENT_FORMATS) {
+                    if (requested.isCompatibleWith(format)) {
+                        return format.getSubtype();
+                    }
+                }
+            }
+        } catch (HttpMediaTypeNotAcceptableException e) {
+            // Accept 를 읽을 수 없으면 기본 포맷
+        }
+        return MediaType.APPLICATION_JSON.getSubtype();
+    }
+
+    private boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+    }
+
+    /**
+     * AJAX - 댓글 작성 (JSON)
+     */
+    @PostMapping("/api/posts/{postId}/comments")
+    @ResponseBody
+    public Map<String, Object> createCommentApi(@PathVariable Long postId,
+                                              @RequestBody CommentDto commentDto,
+                                              @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+                                              HttpServletResponse response) {
+        commentDto.setPostId(postId);
+        return idempotent("comment", idempotencyKey, commentDto, response,
+                () -> createCommentResponse(commentDto, "댓글이 작성되었습니다!"));
+    }
+
     /**
      * AJAX - 대댓글 작성 (JSON)
      */
@@ -144,15 +289,22 @@ public class CommentController {
     @ResponseBody
     public Map<String, Object> createReplyApi(@PathVariable Long postId,
                                             @PathVariable Long parentId,
-                                            @RequestBody CommentDto commentDto) {
+                                            @RequestBody CommentDto commentDto,
+                                            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+                                            HttpServletResponse response) {
+        commentDto.setPostId(postId);
+        commentDto.setParentId(parentId);
+        return idempotent("reply", idempotencyKey, commentDto, response,
+                () -> createCommentResponse(commentDto, "답글이 작성되었습니다!"));
+    }
+
+    private Map<String, Object> createCommentResponse(CommentDto commentDto, String message) {
         try {
-            commentDto.setPostId(postId);
-            commentDto.setParentId(parentId);
             CommentDto savedComment = commentService.createComment(commentDto);
-            
+
             return Map.of(
                 "success", true,
-                "message", "답글이 작성되었습니다!",
+                "message", message,
                 "comment", savedComment
             );
         } catch (RuntimeException e) {
@@ -163,24 +315,102 @@ public class CommentController {
         }
     }
 
+    /**
+     * Idempotency-Key 가 있으면 같은 키의 재시도에 처음 응답을 그대로 돌려줌
+     * 키는 엔드포인트와 게시글 단위로 구분하고, 내용이 다른 요청은 거절
+     */
+    private Map<String, Object> idempotent(String endpoint, String idempotencyKey, CommentDto commentDto,
+                                           HttpServletResponse response, Supplier<Map<String, Object>> action) {
+        String scope = endpoint + ":" + commentDto.getPostId();
+        String fingerprint = commentDto.getParentId() + "|" + commentDto.getAuthorId() + "|" + commentDto.getContent();
+        IdempotencyStore.Result result = idempotencyStore.execute(scope, idempotencyKey, fingerprint, action);
+        if (result.isReplayed()) {
+            response.setHeader(IdempotencyStore.REPLAYED_HEADER, "true");
+        }
+        return result.getBody();
+    }
+
     /**
      * AJAX - 댓글 수정 (JSON)
+     * If-Match 에 받아 둔 댓글의 ETag(또는 본문의 version)를 보내면 그 버전일 때만 수정하고,
+     * 그 사이 다른 요청이 먼저 바꿨으면 409 와 함께 현재 댓글을 돌려줌 (클라이언트가 보고 다시 시도)
+     * 응답의 ETag 는 수정된 댓글의 새 버전
      */
     @PutMapping("/api/comments/{commentId}")
     @ResponseBody
     public Map<String, Object> updateCommentApi(@PathVariable Long commentId,
-                                              @RequestBody Map<String, String> request) {
+                                              @RequestBody Map<String, String> request,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                              HttpServletResponse response) {
         try {
             String content = request.get("content");
             String authorId = request.get("authorId");
+            Long expectedVersion = parseVersion(ifMatch != null ? ifMatch : request.get("version"));
             
-            CommentDto updatedComment = commentService.updateComment(commentId, content, authorId);
+            CommentDto updatedComment = commentService.updateComment(commentId, content, authorId, expectedVersion);
+            response.setHeader(HttpHeaders.ETAG, toETag(updatedComment.getVersion()));
             
             return Map.of(
                 "success", true,
                 "message", "댓글이 수정되었습니다!",
                 "comment", updatedComment
             );
+        } catch (ObjectOptimisticLockingFailureException e) {
+            Optional<CommentDto> current = commentService.getCommentById(commentId);
+            if (current.isEmpty()) {
+                return Map.of(
+                    "success", false,
+                    "message", "댓글을 찾을 수 없습니다."
+                );
+            }
+            response.setStatus(HttpServletResponse.SC_CONFLICT);
+            response.setHeader(HttpHeaders.ETAG, toETag(current.get().getVersion()));
+            return Map.of(
+                "success", false,
+                "message", "다른 곳에서 먼저 수정된 댓글입니다. 최신 내용을 확인한 뒤 다시 시도해 주세요.",
+                "comment", current.get()
+            );
+        } catch (RuntimeException e) {
+            return Map.of(
+                "success", false,
+                "message", e.getMessage()
+            );
+        }
+    }
+
+    // If-Match("3", W/"3") 또는 본문 version("3")에서 버전 숫자만 꺼냄, "*" 나 없으면 버전 확인 안 함
+    private Long parseVersion(String value) {
+        if (value == null || value.isBlank() || "*".equals(value.trim())) {
+            return null;
+        }
+        String version = value.trim();
+        if (version.startsWith("W/")) {
+            version = version.substring(2);
+        }
+        try {
+            return Long.valueOf(version.replace("\"", ""));
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("잘못된 버전입니다: " + value);
+        }
+    }
+
+    private String toETag(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * AJAX - 댓글 좋아요 (JSON)
+     */
+    @PostMapping("/api/comments/{commentId}/reactions")
+    @ResponseBody
+    public Map<String, Object> likeCommentApi(@PathVariable Long commentId) {
+        try {
+            long reactionCount = commentReactionService.like(commentId);
+
+            return Map.of(
+                "success", true,
+                "reactionCount", reactionCount
+            );
         } catch (RuntimeException e) {
             return Map.of(
                 "success", false,
@@ -1,12 +1,15 @@
 package io.github.ewhaspringteam.spring_study_susie.controller;
 
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 
+// 스프링 입문 실습용 페이지라 운영(prod)에서는 등록하지 않음
 @Controller
+@Profile("!prod")
 public class HelloController {
 
     @GetMapping("hello")
@@ -0,0 +1,45 @@
+package io.github.ewhaspringteam.spring_study_susie.controller;
+
+import io.github.ewhaspringteam.spring_study_susie.dto.ModerationResultDto;
+import io.github.ewhaspringteam.spring_study_susie.service.ModerationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@RestController
+public class ModerationController {
+
+    @Autowired
+    private ModerationService moderationService;
+
+    /**
+     * 작성자의 게시글/댓글 일괄 정리
+     * from/to (예: 2025-01-01T00:00) 를 주면 그 사이에 작성된 것만, 없으면 전부
+     * requesterId 는 요청한 사람 (관리자만 가능)
+     */
+    @DeleteMapping("/api/admin/moderation/authors/{authorId}")
+    public Map<String, Object> moderateAuthor(@PathVariable String authorId,
+                                              @RequestParam String requesterId,
+                                              @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                              @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        try {
+            ModerationResultDto result = moderationService.moderateAuthor(requesterId, authorId, from, to);
+            return Map.of(
+                "success", true,
+                "message", "정리되었습니다.",
+                "result", result
+            );
+        } catch (RuntimeException e) {
+            return Map.of(
+                "success", false,
+                "message", e.getMessage()
+            );
+        }
+    }
+}
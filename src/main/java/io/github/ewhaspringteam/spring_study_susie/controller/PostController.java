@@ -1,18 +1,28 @@
 package io.github.ewhaspringteam.spring_study_susie.controller;
 
 import io.github.ewhaspringteam.spring_study_susie.dto.PostDto;
+import io.github.ewhaspringteam.spring_study_susie.repository.PostCommentSummaryRow;
 import io.github.ewhaspringteam.spring_study_susie.service.PostService;
+import io.github.ewhaspringteam.spring_study_susie.service.CommentReactionService;
 import io.github.ewhaspringteam.spring_study_susie.service.CommentService;
+import io.github.ewhaspringteam.spring_study_susie.service.PostVersionTracker;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.RequestContextUtils;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Controller
 public class PostController {
@@ -23,6 +33,15 @@ public class PostController {
     @Autowired
     private CommentService commentService;
 
+    @Autowired
+    private PostVersionTracker postVersionTracker;
+
+    @Autowired
+    private CommentReactionService commentReactionService;
+
+    @Value("${app.reactions.top-size:5}")
+    private int topCommentSize;
+
     /**
      * 메인 페이지 - 오늘의 게시글 또는 게시글 작성 페이지
      */
@@ -36,11 +55,17 @@ public class PostController {
             model.addAttribute("post", post);
             
             // 댓글 정보 추가
-            var comments = commentService.getCommentsByPost(post.getId());
             var commentStats = commentService.getCommentStats(post.getId());
-            
-            model.addAttribute("comments", comments);
+
+            // 좋아요 수와 인기 댓글 (메모리 집계에서 바로 계산)
+            // 댓글은 배열 트리로 받아서 템플릿이 바로 순회 (댓글마다 DTO 를 만들지 않음)
+            var comments = commentReactionService.applyReactionCounts(post.getId(), commentService.getCommentTree(post.getId()));
+            var topComments = commentReactionService.getTopComments(comments, topCommentSize);
+
+            model.addAttribute("comments", comments.getRoots());
             model.addAttribute("commentStats", commentStats);
+            model.addAttribute("topComments", topComments);
+            model.addAttribute("hasTopComments", !topComments.isEmpty());
             model.addAttribute("newComment", new io.github.ewhaspringteam.spring_study_susie.dto.CommentDto());
             
             return "post/today";
@@ -78,17 +103,28 @@ public class PostController {
      * 게시글 상세 조회
      */
     @GetMapping("/posts/{id}")
-    public String showPost(@PathVariable Long id, Model model) {
+    public String showPost(@PathVariable Long id, Model model, WebRequest webRequest, HttpServletRequest request) {
+        // 게시글 내용은 바뀌지 않으므로 댓글 버전과 좋아요 수가 같으면 DB 조회 없이 304
+        // 좋아요는 댓글 버전/수정 시각을 바꾸지 않으므로 ETag 에 반응 수 합계를 넣고 ETag 로만 비교
+        // 리다이렉트로 넘어온 성공/오류 메시지가 있으면 그 메시지를 보여줘야 하므로 조건부 처리를 하지 않음 (ETag 도 붙이지 않음)
+        Map<String, ?> flash = RequestContextUtils.getInputFlashMap(request);
+        PostVersionTracker.Version version = postVersionTracker.getCacheableVersion(id);
+        if (version != null && (flash == null || flash.isEmpty())
+                && webRequest.checkNotModified(version.getETag() + "-" + commentReactionService.getReactionTotal(id))) {
+            return null;
+        }
+
         Optional<PostDto> post = postService.getPostById(id);
         
         if (post.isPresent()) {
+            postVersionTracker.track(id);
             model.addAttribute("post", post.get());
             
-            // 댓글 정보 추가
-            var comments = commentService.getCommentsByPost(id);
+            // 댓글 정보 추가 (오늘의 게시글 화면처럼 좋아요 수를 붙인 배열 트리)
+            var comments = commentReactionService.applyReactionCounts(id, commentService.getCommentTree(id));
             var commentStats = commentService.getCommentStats(id);
             
-            model.addAttribute("comments", comments);
+            model.addAttribute("comments", comments.getRoots());
             model.addAttribute("commentStats", commentStats);
             model.addAttribute("newComment", new io.github.ewhaspringteam.spring_study_susie.dto.CommentDto());
             
@@ -104,6 +140,18 @@ public class PostController {
     @GetMapping("/posts")
     public String listPosts(Model model) {
         List<PostDto> posts = postService.getAllPosts();
+
+        // 댓글 수는 게시글 수와 상관없이 한 번의 집계 쿼리로 채움
+        Map<Long, PostCommentSummaryRow> summaries = commentService.getCommentSummaries(
+                posts.stream().map(PostDto::getId).collect(Collectors.toList()));
+        for (PostDto post : posts) {
+            PostCommentSummaryRow summary = summaries.get(post.getId());
+            if (summary != null) {
+                post.setCommentCount(summary.getActiveComments());
+                post.setLatestCommentAt(summary.getLatestCommentAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")));
+            }
+        }
+
         model.addAttribute("posts", posts);
         return "post/list";
     }
@@ -0,0 +1,66 @@
+package io.github.ewhaspringteam.spring_study_susie.controller;
+
+import io.github.ewhaspringteam.spring_study_susie.profiling.JfrProfiler;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+public class ProfilingController {
+
+    @Autowired
+    private JfrProfiler jfrProfiler;
+
+    /**
+     * JFR 기록 시작 (duration 예: 90s, 5m / 없으면 app.profiling.default-duration)
+     */
+    @PostMapping("/api/admin/profiling/start")
+    public Map<String, Object> start(@RequestParam(required = false) String duration) {
+        try {
+            jfrProfiler.start(duration != null ? DurationStyle.detectAndParse(duration) : null);
+            return Map.of(
+                "success", true,
+                "message", "기록을 시작했습니다."
+            );
+        } catch (IllegalArgumentException e) {
+            return Map.of(
+                "success", false,
+                "message", "기록 시간 형식이 잘못되었습니다."
+            );
+        } catch (RuntimeException e) {
+            return Map.of(
+                "success", false,
+                "message", e.getMessage()
+            );
+        }
+    }
+
+    /**
+     * JFR 기록 중지
+     */
+    @PostMapping("/api/admin/profiling/stop")
+    public Map<String, Object> stop() {
+        boolean stopped = jfrProfiler.stop();
+        return Map.of(
+            "success", stopped,
+            "message", stopped ? "기록을 중지했습니다." : "기록 중이 아닙니다."
+        );
+    }
+
+    /**
+     * 단계별 집계 (요청, 리포지토리, DTO 변환, 트리 구성, 렌더링)
+     * 기록 중에도 조회할 수 있고, 멈춘 뒤에는 마지막 기록의 결과
+     */
+    @GetMapping("/api/admin/profiling/stats")
+    public Map<String, Object> stats() {
+        return Map.of(
+            "success", true,
+            "stats", jfrProfiler.getStats()
+        );
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.ewhaspringteam.spring_study_susie.controller;
+
+import io.github.ewhaspringteam.spring_study_susie.dto.SearchPageDto;
+import io.github.ewhaspringteam.spring_study_susie.search.SearchIndexService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+public class SearchController {
+
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    /**
+     * 게시글/댓글 검색 (관련도순)
+     * type 은 post, comment (없으면 모두), page 는 0부터
+     */
+    @GetMapping("/api/search")
+    public Map<String, Object> search(@RequestParam String q,
+                                      @RequestParam(required = false) String type,
+                                      @RequestParam(defaultValue = "0") int page,
+                                      @RequestParam(defaultValue = "20") int size) {
+        try {
+            SearchPageDto result = searchIndexService.search(q, type, page, size);
+            return Map.of(
+                "success", true,
+                "result", result
+            );
+        } catch (RuntimeException e) {
+            return Map.of(
+                "success", false,
+                "message", e.getMessage()
+            );
+        }
+    }
+
+    /**
+     * 검색 색인 크기와 검색 시간
+     */
+    @GetMapping("/api/admin/search/stats")
+    public Map<String, Object> getStats() {
+        return Map.of(
+            "success", true,
+            "stats", searchIndexService.getStats()
+        );
+    }
+}
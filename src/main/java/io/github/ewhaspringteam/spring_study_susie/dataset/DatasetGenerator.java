@@ -0,0 +1,324 @@
+package io.github.ewhaspringteam.spring_study_susie.dataset;
+
+import io.github.ewhaspringteam.spring_study_susie.entity.Comment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 게시글과 댓글 트리를 분포에 맞춰 만들어서 DB 에 채움 (성능 측정, 부하 테스트용)
+ * - 게시글: 오늘부터 days 일 전까지 날짜(자정 경계)마다 하나씩 (앱 규칙과 같이 하루 한 건, 오늘 글은 지금보다 앞)
+ * - 작성자: Zipf 분포 (소수의 작성자가 대부분의 글을 씀), 전날 게시글 작성자는 다음 날 쓰지 않음
+ * - 최상위 댓글 수: 게시글마다 기하 분포, 답글 수: depth 별 평균의 포아송 분포 (최대 5단계)
+ * - 논리 삭제: 답글이 있는 댓글 중 deleted-ratio 만큼 (답글보다 나중에 삭제됨)
+ * - 시각: 답글은 부모보다 나중이고 게시글 초기화 시간과 지금을 넘지 않음
+ * 같은 시드, 설정, 기준 시각이면 같은 데이터를 만듦 (fingerprint 로 확인, 날짜 경계가 기준 시각에 따라 달라지므로 기준 시각도 같아야 함)
+ * JPA 를 거치지 않고 id 를 직접 매겨서 batch-size 개씩 INSERT 배치로 넣은 뒤 IDENTITY 를 이어서 매기도록 옮김
+ * (다른 쓰기가 없을 때, 만들 날짜에 게시글이 없는 DB 에서 실행해야 함)
+ * CLI: mvn spring-boot:run -Dspring-boot.run.arguments="--spring.datasource.url=jdbc:h2:file:./data/board
+ *      --app.dataset.enabled=true --app.dataset.exit-on-complete=true --app.warmup.enabled=false"
+ * 테스트/벤치마크에서는 generate(설정) 를 직접 호출하거나 app.dataset.enabled=true 로 띄움
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class DatasetGenerator implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(DatasetGenerator.class);
+
+    private static final int MAX_DEPTH = 4;
+
+    // 단어를 만들 음절
+    private static final String[] SYLLABLES = {
+            "가", "나", "다", "라", "마", "바", "사", "아", "자", "차", "카", "타", "파", "하",
+            "고", "노", "도", "로", "모", "보", "소", "오", "조", "초", "구", "누", "두", "루",
+            "무", "부", "수", "우", "주", "추", "기", "니", "디", "리", "미", "비", "시", "이",
+            "지", "치", "한", "국", "말", "글", "날", "밤", "봄", "별", "꽃", "길", "집", "책"
+    };
+
+    private static final String POST_INSERT =
+            "INSERT INTO posts (id, title, content, author_id, created_at, reset_time, version) VALUES (?, ?, ?, ?, ?, ?, 0)";
+    private static final String COMMENT_INSERT =
+            "INSERT INTO comments (id, content, author_id, created_at, updated_at, post_id, parent_id, depth, deleted, version) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    @Autowired
+    private DatasetProperties properties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private Clock clock;
+
+    private volatile Result lastResult;
+
+    /**
+     * 생성 결과 (fingerprint 는 id 와 시각을 기준 시각 now 에 대한 상대값으로 계산한 해시)
+     */
+    public record Result(int posts, long comments, long deletedComments, long elapsedMillis, long fingerprint,
+                         LocalDateTime now) {}
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Result result = generate(properties);
+        lastResult = result;
+        long rows = result.posts() + result.comments();
+        log.info("합성 데이터 생성: 게시글 {}, 댓글 {} (논리 삭제 {}), {}ms ({} 행/분), fingerprint {}",
+                result.posts(), result.comments(), result.deletedComments(), result.elapsedMillis(),
+                rows * 60_000 / Math.max(1, result.elapsedMillis()), Long.toHexString(result.fingerprint()));
+
+        if (properties.isExitOnComplete()) {
+            System.exit(SpringApplication.exit(applicationContext));
+        }
+    }
+
+    /**
+     * 기동 때 만든 결과 (만들지 않았으면 null)
+     */
+    public Result getLastResult() {
+        return lastResult;
+    }
+
+    /**
+     * 설정대로 게시글과 댓글을 지금 기준으로 만들어서 넣음
+     */
+    public Result generate(DatasetProperties spec) {
+        return generate(spec, LocalDateTime.now(clock));
+    }
+
+    /**
+     * 설정대로 게시글과 댓글을 기준 시각 now 까지로 만들어서 넣음 (같은 결과를 다시 만들 때는 앞 결과의 now 를 넘김)
+     */
+    public Result generate(DatasetProperties spec, LocalDateTime now) {
+        long startedAt = System.nanoTime();
+        Generation generation = new Generation(spec, now.withNano(0));
+        generation.run();
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        return new Result(generation.posts, generation.comments, generation.deletedComments, elapsedMillis,
+                generation.fingerprint, generation.now);
+    }
+
+    // 한 번의 생성 상태 (난수, 분포, 다음 id, INSERT 대기 행)
+    private class Generation {
+
+        private final DatasetProperties spec;
+        private final Random random;
+        private final ZipfDistribution authors;
+        private final ZipfDistribution words;
+        private final String[] vocabulary;
+        private final LocalDateTime now;
+        private final long firstPostId;
+        private final long firstCommentId;
+
+        private long nextPostId;
+        private long nextCommentId;
+        private final List<Object[]> postRows = new ArrayList<>();
+        private final List<Object[]> commentRows = new ArrayList<>();
+
+        private int posts;
+        private long comments;
+        private long deletedComments;
+        private long fingerprint = 1;
+
+        private Generation(DatasetProperties spec, LocalDateTime now) {
+            this.spec = spec;
+            this.now = now;
+            this.random = new Random(spec.getSeed());
+            this.authors = new ZipfDistribution(spec.getAuthors(), spec.getAuthorSkew());
+            this.words = new ZipfDistribution(spec.getVocabulary(), 1.0);
+            this.vocabulary = vocabulary(spec.getVocabulary(), new Random(spec.getSeed() ^ 0x5DEECE66DL));
+            this.firstPostId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM posts", Long.class);
+            this.firstCommentId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM comments", Long.class);
+            this.nextPostId = firstPostId;
+            this.nextCommentId = firstCommentId;
+        }
+
+        private void run() {
+            int previousAuthor = 0;
+            // 오래된 날부터 만들어서 id 가 시각 순서를 따르게 함
+            for (int day = spec.getDays() - 1; day >= 0; day--) {
+                // 그 날짜 자정부터 하루 (오늘은 지금까지) 중 한 시각
+                LocalDateTime startOfDay = now.toLocalDate().minusDays(day).atStartOfDay();
+                long length = day == 0 ? Math.max(1, Duration.between(startOfDay, now).toSeconds()) : 86_400;
+                LocalDateTime createdAt = startOfDay.plusSeconds((long) (random.nextDouble() * length));
+
+                int author = authors.sample(random);
+                for (int retry = 0; retry < 10 && author == previousAuthor; retry++) {
+                    author = authors.sample(random);
+                }
+                // 분포가 한 작성자에게 너무 몰려서 계속 같으면 다음 작성자로
+                if (author == previousAuthor) {
+                    author = author % spec.getAuthors() + 1;
+                }
+                previousAuthor = author;
+                post(author, createdAt);
+            }
+            flush();
+            // 이후 앱에서 만드는 행이 생성한 id 다음부터 매겨지도록
+            jdbcTemplate.execute("ALTER TABLE posts ALTER COLUMN id RESTART WITH " + nextPostId);
+            jdbcTemplate.execute("ALTER TABLE comments ALTER COLUMN id RESTART WITH " + nextCommentId);
+        }
+
+        private void post(int author, LocalDateTime createdAt) {
+            long id = nextPostId++;
+            LocalDateTime resetTime = createdAt.plusDays(1).plusSeconds((long) (random.nextDouble() * spec.getResetSpread().toSeconds()));
+            String title = text(2, 5);
+            String content = text(10, 60);
+            postRows.add(new Object[] {id, title, content, "user" + author, Timestamp.valueOf(createdAt), Timestamp.valueOf(resetTime)});
+            posts++;
+            mix(id - firstPostId, author, title.hashCode(), content.hashCode(), secondsBeforeNow(createdAt), secondsBeforeNow(resetTime));
+
+            // 초기화된 뒤나 지금보다 나중에 달린 댓글은 없음
+            LocalDateTime cap = resetTime.isBefore(now) ? resetTime : now;
+            int topLevel = geometric(spec.getCommentsPerPost());
+            for (int i = 0; i < topLevel; i++) {
+                comment(id, null, 0, createdAt, cap);
+                // 서브트리 단위로 끊어서 넣음 (부모 행의 삭제 여부가 자식을 만든 뒤에 정해지므로)
+                if (commentRows.size() >= spec.getBatchSize()) {
+                    flush();
+                }
+            }
+        }
+
+        // 댓글과 그 아래 답글들을 만들고 이 댓글의 작성 시각을 돌려줌
+        private LocalDateTime comment(long postId, Long parentId, int depth, LocalDateTime after, LocalDateTime cap) {
+            long id = nextCommentId++;
+            LocalDateTime createdAt = later(after, cap);
+            int author = authors.sample(random);
+            Object[] row = {id, text(3, 20), "user" + author, Timestamp.valueOf(createdAt), null, postId, parentId, depth, false};
+            commentRows.add(row);
+            comments++;
+
+            int replies = depth < MAX_DEPTH ? poisson(fanout(depth)) : 0;
+            LocalDateTime lastReply = null;
+            for (int i = 0; i < replies; i++) {
+                LocalDateTime replyAt = comment(postId, id, depth + 1, createdAt, cap);
+                if (lastReply == null || replyAt.isAfter(lastReply)) {
+                    lastReply = replyAt;
+                }
+            }
+
+            // 삭제는 답글이 다 달린 뒤 (삭제된 댓글에는 답글을 달 수 없음)
+            if (lastReply != null && random.nextDouble() < spec.getDeletedRatio()) {
+                row[1] = Comment.DELETED_CONTENT;
+                row[4] = Timestamp.valueOf(later(lastReply, cap));
+                row[8] = true;
+                deletedComments++;
+            }
+            mix(id - firstCommentId, parentId == null ? -1 : parentId - firstCommentId, depth, author,
+                    row[1].hashCode(), (Boolean) row[8] ? 1 : 0, secondsBeforeNow(createdAt));
+            return createdAt;
+        }
+
+        private void flush() {
+            if (postRows.isEmpty() && commentRows.isEmpty()) {
+                return;
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!postRows.isEmpty()) {
+                    jdbcTemplate.batchUpdate(POST_INSERT, postRows);
+                }
+                if (!commentRows.isEmpty()) {
+                    jdbcTemplate.batchUpdate(COMMENT_INSERT, commentRows);
+                }
+            });
+            postRows.clear();
+            commentRows.clear();
+        }
+
+        // after 이후 지수 분포만큼 지난 시각 (cap 을 넘지 않음)
+        private LocalDateTime later(LocalDateTime after, LocalDateTime cap) {
+            long delay = (long) (-Math.log(1 - random.nextDouble()) * spec.getReplyDelay().toSeconds());
+            LocalDateTime at = after.plusSeconds(delay);
+            return at.isAfter(cap) ? (after.isAfter(cap) ? after : cap) : at;
+        }
+
+        private double fanout(int depth) {
+            List<Double> fanout = spec.getReplyFanout();
+            return depth < fanout.size() ? fanout.get(depth) : 0;
+        }
+
+        // 평균 mean 의 기하 분포 (0 이상)
+        private int geometric(double mean) {
+            if (mean <= 0) {
+                return 0;
+            }
+            double p = 1 / (mean + 1);
+            return (int) (Math.log(1 - random.nextDouble()) / Math.log(1 - p));
+        }
+
+        // 평균 mean 의 포아송 분포 (mean 이 작을 때용)
+        private int poisson(double mean) {
+            double limit = Math.exp(-mean);
+            double product = random.nextDouble();
+            int count = 0;
+            while (product > limit) {
+                product *= random.nextDouble();
+                count++;
+            }
+            return count;
+        }
+
+        private String text(int minWords, int maxWords) {
+            int count = minWords + random.nextInt(maxWords - minWords + 1);
+            StringBuilder sb = new StringBuilder(count * 4);
+            for (int i = 0; i < count; i++) {
+                if (i > 0) {
+                    sb.append(' ');
+                }
+                sb.append(vocabulary[words.sample(random) - 1]);
+            }
+            return sb.toString();
+        }
+
+        private long secondsBeforeNow(LocalDateTime at) {
+            return Duration.between(at, now).toSeconds();
+        }
+
+        private void mix(long... values) {
+            for (long value : values) {
+                fingerprint = fingerprint * 1_000_003 + value;
+            }
+        }
+    }
+
+    // 음절 2~3개로 된 단어 목록
+    private static String[] vocabulary(int size, Random random) {
+        String[] words = new String[size];
+        for (int i = 0; i < size; i++) {
+            StringBuilder sb = new StringBuilder();
+            int syllables = 2 + random.nextInt(2);
+            for (int j = 0; j < syllables; j++) {
+                sb.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            }
+            words[i] = sb.toString();
+        }
+        return words;
+    }
+}
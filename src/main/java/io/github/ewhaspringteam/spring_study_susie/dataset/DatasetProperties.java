@@ -0,0 +1,155 @@
+package io.github.ewhaspringteam.spring_study_susie.dataset;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 합성 데이터 생성 설정 (app.dataset.*)
+ */
+@ConfigurationProperties(prefix = "app.dataset")
+public class DatasetProperties {
+
+    // 기동 때 생성 (다른 기동 작업보다 먼저, 메모리 색인은 생성된 데이터로 만들어짐)
+    private boolean enabled = false;
+
+    // 생성이 끝나면 종료 (파일 DB 를 채우는 CLI 용)
+    private boolean exitOnComplete = false;
+
+    // 같은 시드와 설정이면 같은 데이터 (시각은 생성 시점 기준 상대값이 같음)
+    private long seed = 42;
+
+    // 오늘부터 며칠 전까지 게시글을 만들지 (앱 규칙대로 하루에 하나씩)
+    private int days = 30;
+
+    // 작성자 수와 활동량 분포 (Zipf 지수, 클수록 소수의 작성자에게 몰림)
+    private int authors = 10_000;
+    private double authorSkew = 1.1;
+
+    // 게시글당 최상위 댓글 수 평균 (기하 분포라 댓글이 몰리는 게시글이 생김)
+    private int commentsPerPost = 200;
+
+    // depth 별 댓글 하나에 달리는 답글 수 평균 (포아송, depth 0~3 까지만 답글 가능)
+    private List<Double> replyFanout = new ArrayList<>(List.of(1.2, 0.8, 0.5, 0.3));
+
+    // 답글이 있는 댓글 중 논리 삭제된 비율 (답글이 없으면 앱이 물리 삭제하므로 남지 않음)
+    private double deletedRatio = 0.1;
+
+    // 부모(게시글/댓글) 작성 후 답글이 달리기까지 걸리는 시간 평균 (지수 분포)
+    private Duration replyDelay = Duration.ofHours(2);
+
+    // 초기화 시간 = 작성 후 하루 + 0 ~ reset-spread
+    private Duration resetSpread = Duration.ofHours(24);
+
+    // 본문에 쓰는 단어 수 (빈도는 Zipf)
+    private int vocabulary = 5_000;
+
+    // INSERT 배치 하나의 댓글 수 (배치 하나가 트랜잭션 하나)
+    private int batchSize = 5_000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isExitOnComplete() {
+        return exitOnComplete;
+    }
+
+    public void setExitOnComplete(boolean exitOnComplete) {
+        this.exitOnComplete = exitOnComplete;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public int getDays() {
+        return days;
+    }
+
+    public void setDays(int days) {
+        this.days = days;
+    }
+
+    public int getAuthors() {
+        return authors;
+    }
+
+    public void setAuthors(int authors) {
+        this.authors = authors;
+    }
+
+    public double getAuthorSkew() {
+        return authorSkew;
+    }
+
+    public void setAuthorSkew(double authorSkew) {
+        this.authorSkew = authorSkew;
+    }
+
+    public int getCommentsPerPost() {
+        return commentsPerPost;
+    }
+
+    public void setCommentsPerPost(int commentsPerPost) {
+        this.commentsPerPost = commentsPerPost;
+    }
+
+    public List<Double> getReplyFanout() {
+        return replyFanout;
+    }
+
+    public void setReplyFanout(List<Double> replyFanout) {
+        this.replyFanout = replyFanout;
+    }
+
+    public double getDeletedRatio() {
+        return deletedRatio;
+    }
+
+    public void setDeletedRatio(double deletedRatio) {
+        this.deletedRatio = deletedRatio;
+    }
+
+    public Duration getReplyDelay() {
+        return replyDelay;
+    }
+
+    public void setReplyDelay(Duration replyDelay) {
+        this.replyDelay = replyDelay;
+    }
+
+    public Duration getResetSpread() {
+        return resetSpread;
+    }
+
+    public void setResetSpread(Duration resetSpread) {
+        this.resetSpread = resetSpread;
+    }
+
+    public int getVocabulary() {
+        return vocabulary;
+    }
+
+    public void setVocabulary(int vocabulary) {
+        this.vocabulary = vocabulary;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+}
@@ -0,0 +1,31 @@
+package io.github.ewhaspringteam.spring_study_susie.dataset;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * 1~n 중 하나를 1/k^exponent 에 비례하는 확률로 고름 (k 가 작을수록 자주 나옴)
+ * 누적 분포를 미리 만들어 두고 이분 탐색
+ */
+class ZipfDistribution {
+
+    private final double[] cumulative;
+
+    ZipfDistribution(int n, double exponent) {
+        cumulative = new double[n];
+        double sum = 0;
+        for (int k = 1; k <= n; k++) {
+            sum += 1.0 / Math.pow(k, exponent);
+            cumulative[k - 1] = sum;
+        }
+    }
+
+    int sample(Random random) {
+        double u = random.nextDouble() * cumulative[cumulative.length - 1];
+        int index = Arrays.binarySearch(cumulative, u);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return Math.min(index, cumulative.length - 1) + 1;
+    }
+}
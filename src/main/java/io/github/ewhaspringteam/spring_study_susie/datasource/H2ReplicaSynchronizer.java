@@ -0,0 +1,203 @@
+package io.github.ewhaspringteam.spring_study_susie.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.*;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 테스트용 복제기 (실제 DB 복제를 흉내냄)
+ * 주기적으로 primary H2의 스키마와 데이터를 replica H2로 통째로 복사
+ * 데이터 복사는 replica 쪽 한 트랜잭션 안에서 이루어지므로 읽는 쪽은 이전 스냅샷을 보다가 커밋 시점에 새 스냅샷을 보게 됨
+ */
+public class H2ReplicaSynchronizer implements ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(H2ReplicaSynchronizer.class);
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final Duration syncInterval;
+
+    private ScheduledExecutorService executor;
+    private volatile String schemaSignature = "";
+    private volatile long lastSyncedAt = 0L;
+
+    public H2ReplicaSynchronizer(DataSource primary, DataSource replica, Duration syncInterval) {
+        this.primary = primary;
+        this.replica = replica;
+        this.syncInterval = syncInterval;
+    }
+
+    public void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "h2-replica-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = syncInterval.toMillis();
+        executor.scheduleWithFixedDelay(this::syncQuietly, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 마지막으로 동기화에 성공한 뒤 지난 시간
+     */
+    @Override
+    public Duration currentLag() {
+        if (lastSyncedAt == 0L) {
+            return Duration.ofMillis(Long.MAX_VALUE);
+        }
+        return Duration.ofMillis(System.currentTimeMillis() - lastSyncedAt);
+    }
+
+    private void syncQuietly() {
+        try {
+            sync();
+        } catch (SQLException e) {
+            log.warn("replica 동기화 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * primary -> replica 한 번 동기화
+     */
+    public synchronized void sync() throws SQLException {
+        long startedAt = System.currentTimeMillis();
+
+        try (Connection source = primary.getConnection();
+             Connection target = replica.getConnection()) {
+            String signature = readSchemaSignature(source);
+            if (!signature.equals(schemaSignature)) {
+                copySchema(source, target);
+                schemaSignature = signature;
+            }
+            copyData(source, target);
+        }
+
+        // 복사를 시작한 시점까지의 쓰기는 반영되었음
+        lastSyncedAt = startedAt;
+    }
+
+    private String readSchemaSignature(Connection source) throws SQLException {
+        StringBuilder sb = new StringBuilder();
+        try (Statement stmt = source.createStatement();
+             ResultSet rs = stmt.executeQuery(
+                     "SELECT TABLE_NAME, COLUMN_NAME, DATA_TYPE FROM INFORMATION_SCHEMA.COLUMNS " +
+                     "WHERE TABLE_SCHEMA = 'PUBLIC' ORDER BY TABLE_NAME, ORDINAL_POSITION")) {
+            while (rs.next()) {
+                sb.append(rs.getString(1)).append('.').append(rs.getString(2))
+                        .append(':').append(rs.getString(3)).append(';');
+            }
+        }
+        return sb.toString();
+    }
+
+    private void copySchema(Connection source, Connection target) throws SQLException {
+        List<String> ddl = new ArrayList<>();
+        try (Statement stmt = source.createStatement();
+             ResultSet rs = stmt.executeQuery("SCRIPT NODATA NOPASSWORDS NOSETTINGS")) {
+            while (rs.next()) {
+                String sql = rs.getString(1);
+                if (!sql.startsWith("CREATE USER")) {
+                    ddl.add(sql);
+                }
+            }
+        }
+
+        try (Statement stmt = target.createStatement()) {
+            stmt.execute("DROP ALL OBJECTS");
+            for (String sql : ddl) {
+                stmt.execute(sql);
+            }
+            // 테이블을 통째로 다시 채우므로 replica에서는 참조 무결성 검사를 끔
+            stmt.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        }
+    }
+
+    private void copyData(Connection source, Connection target) throws SQLException {
+        List<String> tables = new ArrayList<>();
+        try (Statement stmt = source.createStatement();
+             ResultSet rs = stmt.executeQuery(
+                     "SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES " +
+                     "WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_TYPE = 'BASE TABLE'")) {
+            while (rs.next()) {
+                tables.add(rs.getString(1));
+            }
+        }
+
+        // primary는 REPEATABLE READ 트랜잭션 하나에서 읽어서 테이블 간 일관된 스냅샷을 얻음
+        // (기본값 READ COMMITTED 면 테이블마다 그 순간 커밋된 값을 읽어서, posts 를 복사한 뒤 달린 댓글이 replica에서 부모 없는 행이 됨)
+        // H2 MVStore 는 첫 읽기 시점의 스냅샷을 트랜잭션 끝까지 유지함
+        int isolation = source.getTransactionIsolation();
+        source.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+        source.setAutoCommit(false);
+        source.setReadOnly(true);
+        target.setAutoCommit(false);
+        try {
+            for (String table : tables) {
+                copyTable(source, target, table);
+            }
+            target.commit();
+            source.commit();
+        } catch (SQLException e) {
+            target.rollback();
+            source.rollback();
+            throw e;
+        } finally {
+            target.setAutoCommit(true);
+            source.setAutoCommit(true);
+            source.setReadOnly(false);
+            source.setTransactionIsolation(isolation);
+        }
+    }
+
+    private void copyTable(Connection source, Connection target, String table) throws SQLException {
+        try (Statement delete = target.createStatement()) {
+            delete.executeUpdate("DELETE FROM \"" + table + "\"");
+        }
+
+        try (Statement select = source.createStatement();
+             ResultSet rs = select.executeQuery("SELECT * FROM \"" + table + "\"")) {
+            ResultSetMetaData meta = rs.getMetaData();
+            int columnCount = meta.getColumnCount();
+
+            StringBuilder columns = new StringBuilder();
+            StringBuilder params = new StringBuilder();
+            for (int i = 1; i <= columnCount; i++) {
+                if (i > 1) {
+                    columns.append(", ");
+                    params.append(", ");
+                }
+                columns.append('"').append(meta.getColumnName(i)).append('"');
+                params.append('?');
+            }
+
+            String insert = "INSERT INTO \"" + table + "\" (" + columns + ") VALUES (" + params + ")";
+            try (PreparedStatement ps = target.prepareStatement(insert)) {
+                int batched = 0;
+                while (rs.next()) {
+                    for (int i = 1; i <= columnCount; i++) {
+                        ps.setObject(i, rs.getObject(i));
+                    }
+                    ps.addBatch();
+                    if (++batched % 500 == 0) {
+                        ps.executeBatch();
+                    }
+                }
+                ps.executeBatch();
+            }
+        }
+    }
+}
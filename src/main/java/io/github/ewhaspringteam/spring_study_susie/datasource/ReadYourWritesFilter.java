@@ -0,0 +1,62 @@
+package io.github.ewhaspringteam.spring_study_susie.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 요청한 작성자를 ReplicationContext에 기록하는 필터
+ * 작성자는 X-Author-Id 헤더, authorId 파라미터, 쓰기 때 심어둔 쿠키 순서로 확인
+ * (폼 작성 후 redirect 되는 페이지, 본문에 authorId를 담는 API 쓰기 뒤의 요청에는 authorId가 없으므로 쿠키로 이어줌)
+ * 쿠키는 쓰기가 커밋된 뒤에 ReadYourWritesTracker가 심음
+ */
+@Component
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String AUTHOR_HEADER = "X-Author-Id";
+    static final String AUTHOR_COOKIE = "ryw_author";
+
+    @Autowired
+    private ReplicaProperties replicaProperties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !replicaProperties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        ReplicationContext.setCurrentAuthor(resolveAuthor(request));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicationContext.clear();
+        }
+    }
+
+    private String resolveAuthor(HttpServletRequest request) {
+        String authorId = request.getHeader(AUTHOR_HEADER);
+        if (authorId == null) {
+            authorId = request.getParameter("authorId");
+        }
+        if (authorId == null && request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if (AUTHOR_COOKIE.equals(cookie.getName())) {
+                    authorId = URLDecoder.decode(cookie.getValue(), StandardCharsets.UTF_8);
+                }
+            }
+        }
+        return authorId;
+    }
+}
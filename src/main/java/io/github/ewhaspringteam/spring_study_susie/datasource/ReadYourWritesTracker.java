@@ -0,0 +1,103 @@
+package io.github.ewhaspringteam.spring_study_susie.datasource;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 최근에 글을 쓴 작성자 기록
+ * 쓰기 직후 일정 시간 동안은 그 작성자의 읽기를 primary로 보내서 자기 댓글이 안 보이는 일을 막음
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    @Autowired
+    private ReplicaProperties replicaProperties;
+
+    // 작성자 ID -> primary 고정이 풀리는 시각 (epoch millis)
+    private final Map<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    /**
+     * 쓰기 기록
+     * 트랜잭션 안이면 커밋된 뒤에 기록 (롤백된 쓰기로 primary에 묶거나 쿠키를 심지 않음)
+     */
+    public void recordWrite(String authorId) {
+        if (authorId == null || !replicaProperties.isEnabled()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            pin(authorId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pin(authorId);
+            }
+        });
+    }
+
+    private void pin(String authorId) {
+        long until = System.currentTimeMillis() + replicaProperties.getReadYourWritesWindow().toMillis();
+        pinnedUntil.put(authorId, until);
+
+        // 요청 처리 중이면 쿠키를 심어서 다음 요청도 같은 작성자로 확인하고, 이 요청의 남은 읽기도 primary로 보냄
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return;
+        }
+        HttpServletResponse response = attributes.getResponse();
+        if (response != null && !response.isCommitted()) {
+            Cookie cookie = new Cookie(ReadYourWritesFilter.AUTHOR_COOKIE, URLEncoder.encode(authorId, StandardCharsets.UTF_8));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) replicaProperties.getReadYourWritesWindow().toSeconds());
+            response.addCookie(cookie);
+        }
+        if (ReplicationContext.getCurrentAuthor() == null) {
+            ReplicationContext.setCurrentAuthor(authorId);
+        }
+    }
+
+    /**
+     * 해당 작성자의 읽기를 primary로 보내야 하는지 확인
+     */
+    public boolean isPinnedToPrimary(String authorId) {
+        if (authorId == null) {
+            return false;
+        }
+        Long until = pinnedUntil.get(authorId);
+        if (until == null) {
+            return false;
+        }
+        if (until < System.currentTimeMillis()) {
+            // 만료된 항목은 읽는 김에 정리
+            pinnedUntil.remove(authorId, until);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 만료된 항목 정리 (다시 읽지 않는 작성자의 항목이 계속 쌓이지 않도록)
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        pinnedUntil.values().removeIf(until -> until < now);
+    }
+
+    public int size() {
+        return pinnedUntil.size();
+    }
+}
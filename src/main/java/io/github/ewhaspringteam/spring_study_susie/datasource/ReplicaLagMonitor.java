@@ -0,0 +1,11 @@
+package io.github.ewhaspringteam.spring_study_susie.datasource;
+
+import java.time.Duration;
+
+/**
+ * 복제본이 primary보다 얼마나 뒤처져 있는지 알려주는 인터페이스
+ */
+public interface ReplicaLagMonitor {
+
+    Duration currentLag();
+}
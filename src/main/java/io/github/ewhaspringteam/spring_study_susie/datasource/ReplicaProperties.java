@@ -0,0 +1,84 @@
+package io.github.ewhaspringteam.spring_study_susie.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 읽기 전용 복제본(replica) 설정 (app.datasource.replica.*)
+ */
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public class ReplicaProperties {
+
+    // 복제본 라우팅 사용 여부
+    private boolean enabled = false;
+
+    private String url = "jdbc:h2:mem:replicadb";
+    private String username = "sa";
+    private String password = "";
+
+    // 복제 지연이 이 값을 넘으면 읽기도 primary로 보냄
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    // 쓰기 직후 같은 작성자의 읽기를 primary로 고정하는 시간 (read-your-writes)
+    private Duration readYourWritesWindow = Duration.ofSeconds(10);
+
+    // 로컬용 H2 복제기의 동기화 주기
+    private Duration syncInterval = Duration.ofSeconds(1);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public Duration getMaxLag() {
+        return maxLag;
+    }
+
+    public void setMaxLag(Duration maxLag) {
+        this.maxLag = maxLag;
+    }
+
+    public Duration getReadYourWritesWindow() {
+        return readYourWritesWindow;
+    }
+
+    public void setReadYourWritesWindow(Duration readYourWritesWindow) {
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+
+    public Duration getSyncInterval() {
+        return syncInterval;
+    }
+
+    public void setSyncInterval(Duration syncInterval) {
+        this.syncInterval = syncInterval;
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.ewhaspringteam.spring_study_susie.datasource;
+
+import java.time.Duration;
+
+/**
+ * readOnly 트랜잭션을 어느 쪽에서 읽을지 결정
+ */
+public class ReplicaRoutingPolicy {
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final ReplicaLagMonitor lagMonitor;
+    private final Duration maxLag;
+
+    public ReplicaRoutingPolicy(ReadYourWritesTracker readYourWritesTracker,
+                                ReplicaLagMonitor lagMonitor,
+                                Duration maxLag) {
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.lagMonitor = lagMonitor;
+        this.maxLag = maxLag;
+    }
+
+    public String chooseReadTarget() {
+        // 방금 글을 쓴 작성자는 자기 글이 보이도록 primary에서 읽음
+        if (readYourWritesTracker.isPinnedToPrimary(ReplicationContext.getCurrentAuthor())) {
+            return ReplicationRoutingDataSource.PRIMARY;
+        }
+
+        // 복제 지연이 허용치를 넘으면 primary로 대체
+        if (lagMonitor.currentLag().compareTo(maxLag) > 0) {
+            return ReplicationRoutingDataSource.PRIMARY;
+        }
+
+        return ReplicationRoutingDataSource.REPLICA;
+    }
+}
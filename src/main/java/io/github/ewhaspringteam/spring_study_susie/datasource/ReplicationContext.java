@@ -0,0 +1,38 @@
+package io.github.ewhaspringteam.spring_study_susie.datasource;
+
+/**
+ * 현재 스레드의 라우팅 정보
+ * - 요청한 작성자 ID (read-your-writes 판단용)
+ * - 진행 중인 readOnly 트랜잭션이 읽을 대상 (primary / replica)
+ */
+public final class ReplicationContext {
+
+    private static final ThreadLocal<String> CURRENT_AUTHOR = new ThreadLocal<>();
+    private static final ThreadLocal<String> READ_TARGET = new ThreadLocal<>();
+
+    private ReplicationContext() {}
+
+    public static void setCurrentAuthor(String authorId) {
+        CURRENT_AUTHOR.set(authorId);
+    }
+
+    public static String getCurrentAuthor() {
+        return CURRENT_AUTHOR.get();
+    }
+
+    public static void clear() {
+        CURRENT_AUTHOR.remove();
+    }
+
+    static void setReadTarget(String readTarget) {
+        READ_TARGET.set(readTarget);
+    }
+
+    static String getReadTarget() {
+        return READ_TARGET.get();
+    }
+
+    static void clearReadTarget() {
+        READ_TARGET.remove();
+    }
+}
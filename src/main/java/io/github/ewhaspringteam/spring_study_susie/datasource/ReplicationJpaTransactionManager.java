@@ -0,0 +1,58 @@
+package io.github.ewhaspringteam.spring_study_susie.datasource;
+
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * readOnly 트랜잭션 시작 시 읽을 대상(primary/replica)을 미리 정하는 트랜잭션 매니저
+ * replica에서 읽는 트랜잭션은 2차 캐시/쿼리 캐시를 쓰지 않음
+ * (뒤처진 replica 결과가 캐시에 들어가면 primary에서 읽는 작성자에게도 옛 데이터가 보이기 때문.
+ *  Hibernate는 캐시 조회에 실패한 쿼리 결과를 CacheMode.GET 이어도 저장하므로 조회까지 함께 끔)
+ * 캐시 모드는 쿼리를 실행하기 전에 정해져야 하므로 커넥션을 얻는 라우팅 시점이 아니라 여기서 정함
+ */
+public class ReplicationJpaTransactionManager extends JpaTransactionManager {
+
+    private static final String RETRIEVE_MODE = "jakarta.persistence.cache.retrieveMode";
+    private static final String STORE_MODE = "jakarta.persistence.cache.storeMode";
+
+    private final ReplicaRoutingPolicy routingPolicy;
+
+    public ReplicationJpaTransactionManager(ReplicaRoutingPolicy routingPolicy) {
+        this.routingPolicy = routingPolicy;
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        super.doBegin(transaction, definition);
+
+        if (definition.isReadOnly()) {
+            String readTarget = routingPolicy.chooseReadTarget();
+            ReplicationContext.setReadTarget(readTarget);
+            setCacheEnabled(!ReplicationRoutingDataSource.REPLICA.equals(readTarget));
+        }
+    }
+
+    @Override
+    protected void doCleanupAfterCompletion(Object transaction) {
+        if (ReplicationContext.getReadTarget() != null) {
+            // open-in-view로 세션이 이어질 수 있으므로 원래 캐시 모드로 되돌림
+            setCacheEnabled(true);
+            ReplicationContext.clearReadTarget();
+        }
+        super.doCleanupAfterCompletion(transaction);
+    }
+
+    private void setCacheEnabled(boolean enabled) {
+        Object resource = TransactionSynchronizationManager.getResource(obtainEntityManagerFactory());
+        if (resource instanceof EntityManagerHolder holder) {
+            EntityManager entityManager = holder.getEntityManager();
+            entityManager.setProperty(RETRIEVE_MODE, enabled ? CacheRetrieveMode.USE : CacheRetrieveMode.BYPASS);
+            entityManager.setProperty(STORE_MODE, enabled ? CacheStoreMode.USE : CacheStoreMode.BYPASS);
+        }
+    }
+}
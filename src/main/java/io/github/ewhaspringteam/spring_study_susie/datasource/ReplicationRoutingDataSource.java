@@ -0,0 +1,34 @@
+package io.github.ewhaspringteam.spring_study_susie.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * readOnly 트랜잭션은 replica로, 나머지는 primary로 보내는 라우팅 DataSource
+ * 트랜잭션 속성이 정해진 뒤에 커넥션을 얻어야 하므로 LazyConnectionDataSourceProxy로 감싸서 사용
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private final ReplicaRoutingPolicy routingPolicy;
+
+    public ReplicationRoutingDataSource(ReplicaRoutingPolicy routingPolicy) {
+        this.routingPolicy = routingPolicy;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+
+        // 트랜잭션 시작 시 이미 정해둔 대상이 있으면 그대로 사용
+        String readTarget = ReplicationContext.getReadTarget();
+        if (readTarget != null) {
+            return readTarget;
+        }
+        return routingPolicy.chooseReadTarget();
+    }
+}
@@ -0,0 +1,119 @@
+package io.github.ewhaspringteam.spring_study_susie.dto;
+
+import io.github.ewhaspringteam.spring_study_susie.entity.CommentChange;
+
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 댓글 변경 기록 응답용 DTO
+ * 클라이언트는 commentId 기준으로 덮어쓰기(CREATED/UPDATED)하거나 제거(DELETED/REMOVED)하면 됨
+ * (같은 변경을 두 번 적용해도 결과가 같음)
+ */
+public class CommentChangeDto {
+
+    private Long version;
+    private String type;
+    private Long commentId;
+    private Long parentId;
+    private String authorId;
+    private String content;
+    private Integer depth;
+    private String createdAt;
+    private String updatedAt;
+
+    // 기본 생성자
+    public CommentChangeDto() {}
+
+    // Entity -> DTO 변환
+    public static CommentChangeDto fromEntity(CommentChange change) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+        CommentChangeDto dto = new CommentChangeDto();
+        dto.version = change.getVersion();
+        dto.type = change.getType().name();
+        dto.commentId = change.getCommentId();
+        dto.parentId = change.getParentId();
+        dto.authorId = change.getAuthorId();
+        dto.content = change.getContent();
+        dto.depth = change.getDepth();
+        if (change.getCreatedAt() != null) {
+            dto.createdAt = change.getCreatedAt().format(formatter);
+        }
+        if (change.getUpdatedAt() != null) {
+            dto.updatedAt = change.getUpdatedAt().format(formatter);
+        }
+        return dto;
+    }
+
+    // Getter와 Setter
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public Long getCommentId() {
+        return commentId;
+    }
+
+    public void setCommentId(Long commentId) {
+        this.commentId = commentId;
+    }
+
+    public Long getParentId() {
+        return parentId;
+    }
+
+    public void setParentId(Long parentId) {
+        this.parentId = parentId;
+    }
+
+    public String getAuthorId() {
+        return authorId;
+    }
+
+    public void setAuthorId(String authorId) {
+        this.authorId = authorId;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public Integer getDepth() {
+        return depth;
+    }
+
+    public void setDepth(Integer depth) {
+        this.depth = depth;
+    }
+
+    public String getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(String createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public String getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(String updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
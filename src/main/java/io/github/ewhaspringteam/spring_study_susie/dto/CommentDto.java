@@ -1,8 +1,11 @@
 package io.github.ewhaspringteam.spring_study_susie.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.github.ewhaspringteam.spring_study_susie.entity.Comment;
 import io.github.ewhaspringteam.spring_study_susie.entity.Post;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
@@ -19,8 +22,19 @@ public class CommentDto {
     private Long parentId;
     private Integer depth;
     private Boolean deleted;
+    private Long version; // 수정 요청 시 If-Match 로 돌려보낼 값
     private List<CommentDto> children = new ArrayList<>();
 
+    // 좋아요 수 (오늘의 게시글 화면에서만 채움, 나머지 응답에는 나가지 않음)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long reactionCount;
+
+    // 바이너리 응답에서 epoch millis 로 내보내기 위한 원본 시각 (JSON에는 포맷된 문자열만 나감)
+    @JsonIgnore
+    private LocalDateTime createdAtTime;
+    @JsonIgnore
+    private LocalDateTime updatedAtTime;
+
     // 기본 생성자
     public CommentDto() {}
 
@@ -39,6 +53,8 @@ public class CommentDto {
         dto.content = comment.getContent();
         dto.authorId = comment.getAuthorId();
         dto.createdAt = comment.getCreatedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
+        dto.createdAtTime = comment.getCreatedAt();
+        dto.updatedAtTime = comment.getUpdatedAt();
         if (comment.getUpdatedAt() != null) {
             dto.updatedAt = comment.getUpdatedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
         }
@@ -46,6 +62,7 @@ public class CommentDto {
         dto.parentId = comment.getParent() != null ? comment.getParent().getId() : null;
         dto.depth = comment.getDepth();
         dto.deleted = comment.getDeleted();
+        dto.version = comment.getVersion();
         
         // 자식 댓글들도 변환
         if (comment.getChildren() != null && !comment.getChildren().isEmpty()) {
@@ -64,6 +81,8 @@ public class CommentDto {
         dto.content = comment.getContent();
         dto.authorId = comment.getAuthorId();
         dto.createdAt = comment.getCreatedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
+        dto.createdAtTime = comment.getCreatedAt();
+        dto.updatedAtTime = comment.getUpdatedAt();
         if (comment.getUpdatedAt() != null) {
             dto.updatedAt = comment.getUpdatedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
         }
@@ -71,18 +90,27 @@ public class CommentDto {
         dto.parentId = comment.getParent() != null ? comment.getParent().getId() : null;
         dto.depth = comment.getDepth();
         dto.deleted = comment.getDeleted();
+        dto.version = comment.getVersion();
         return dto;
     }
 
     // DTO -> Entity 변환 (새 댓글 생성용)
-    public Comment toEntity(Post post, Comment parent) {
+    public Comment toEntity(Post post, Comment parent, LocalDateTime createdAt) {
         if (parent == null) {
             // 최상위 댓글
-            return new Comment(this.content, this.authorId, post);
+            return new Comment(this.content, this.authorId, post, createdAt);
         } else {
             // 대댓글
-            return new Comment(this.content, this.authorId, post, parent);
+            return new Comment(this.content, this.authorId, post, parent, createdAt);
+        }
+    }
+
+    // DTO -> Entity 변환 (부모/게시글을 읽지 않은 참조로 넘기고 depth 를 직접 지정)
+    public Comment toEntity(Post post, Comment parent, int depth, LocalDateTime createdAt) {
+        if (parent == null) {
+            return new Comment(this.content, this.authorId, post, createdAt);
         }
+        return new Comment(this.content, this.authorId, post, parent, depth, createdAt);
     }
 
     // 댓글 깊이에 따른 들여쓰기 문자열 생성
@@ -124,6 +152,22 @@ public class CommentDto {
         this.children.add(child);
     }
 
+    // 작성 시각 (epoch millis)
+    @JsonIgnore
+    public Long getCreatedAtEpochMillis() {
+        return toEpochMillis(createdAtTime);
+    }
+
+    // 수정 시각 (epoch millis, 수정된 적 없으면 null)
+    @JsonIgnore
+    public Long getUpdatedAtEpochMillis() {
+        return toEpochMillis(updatedAtTime);
+    }
+
+    private static Long toEpochMillis(LocalDateTime time) {
+        return time != null ? time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : null;
+    }
+
     // 자식 댓글 개수
     public int getChildrenCount() {
         return children != null ? children.size() : 0;
@@ -202,6 +246,22 @@ public class CommentDto {
         this.deleted = deleted;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Long getReactionCount() {
+        return reactionCount;
+    }
+
+    public void setReactionCount(Long reactionCount) {
+        this.reactionCount = reactionCount;
+    }
+
     public List<CommentDto> getChildren() {
         return children;
     }
@@ -219,6 +279,7 @@ public class CommentDto {
                 ", createdAt='" + createdAt + '\'' +
                 ", depth=" + depth +
                 ", deleted=" + deleted +
+                ", version=" + version +
                 ", childrenCount=" + getChildrenCount() +
                 '}';
     }
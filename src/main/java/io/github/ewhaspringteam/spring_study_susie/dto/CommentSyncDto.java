@@ -0,0 +1,56 @@
+package io.github.ewhaspringteam.spring_study_susie.dto;
+
+import java.util.List;
+
+/**
+ * 델타 동기화 결과
+ * - delta: since 이후의 변경 목록만 (changes)
+ * - snapshot: 너무 오래 전 버전이라 변경 목록 대신 전체 댓글 트리 (comments)
+ * 어느 쪽이든 클라이언트는 version 을 저장해 두었다가 다음 요청의 since 로 보내면 됨
+ */
+public class CommentSyncDto {
+
+    public static final String DELTA = "delta";
+    public static final String SNAPSHOT = "snapshot";
+
+    private String mode;
+    private Long version;
+    private List<CommentChangeDto> changes;
+    private List<CommentDto> comments;
+
+    private CommentSyncDto(String mode, Long version, List<CommentChangeDto> changes, List<CommentDto> comments) {
+        this.mode = mode;
+        this.version = version;
+        this.changes = changes;
+        this.comments = comments;
+    }
+
+    public static CommentSyncDto delta(Long version, List<CommentChangeDto> changes) {
+        return new CommentSyncDto(DELTA, version, changes, null);
+    }
+
+    public static CommentSyncDto snapshot(Long version, List<CommentDto> comments) {
+        return new CommentSyncDto(SNAPSHOT, version, null, comments);
+    }
+
+    public boolean isSnapshot() {
+        return SNAPSHOT.equals(mode);
+    }
+
+    // Getter
+    public String getMode() {
+        return mode;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public List<CommentChangeDto> getChanges() {
+        return changes;
+    }
+
+    public List<CommentDto> getComments() {
+        return comments;
+    }
+}
@@ -0,0 +1,511 @@
+package io.github.ewhaspringteam.spring_study_susie.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.github.ewhaspringteam.spring_study_susie.entity.Comment;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 배열로 펼친 읽기 전용 댓글 트리 (댓글이 많은 게시글의 화면/JSON 응답용)
+ * CommentDto 트리처럼 댓글마다 객체, children 리스트, 포맷된 날짜 문자열을 들고 있지 않고
+ * 필드별 기본형 배열에 전위 순회 순서로 담음 (작성자 ID 는 문자열 표에 한 번씩만 저장)
+ * 계층은 parents[i](부모 위치, 최상위는 -1)와 ends[i](서브트리 바로 다음 위치)로 표현
+ * → i 의 자식은 i + 1 부터 ends[i] 전까지, 자식 c 의 다음 형제는 ends[c]
+ * Mustache 와 JSON 직렬화 모두 Node(배열 위치만 가진 가벼운 뷰)로 바로 순회하고,
+ * 날짜 문자열 등은 그릴 때만 만듦
+ */
+@JsonSerialize(using = CommentTree.Serializer.class)
+public class CommentTree {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    // 수정된 적 없는 댓글의 updatedAt
+    private static final long NO_TIME = Long.MIN_VALUE;
+
+    // 아직 저장되지 않아 버전이 없는 댓글의 version
+    private static final long NO_VERSION = -1L;
+
+    private static final byte DELETED = 1;
+
+    // 깊이별 들여쓰기와 스타일 클래스는 미리 만들어 두고 공유 (깊이는 최대 4)
+    private static final String[] INDENTATIONS = new String[8];
+    private static final String[] DEPTH_CLASSES = new String[8];
+
+    static {
+        for (int depth = 0; depth < INDENTATIONS.length; depth++) {
+            INDENTATIONS[depth] = "　　".repeat(depth);
+            DEPTH_CLASSES[depth] = "comment-depth-" + depth;
+        }
+    }
+
+    private final long postId;
+    private final long[] ids;
+    private final int[] parents;
+    private final int[] ends;
+    private final byte[] depths;
+    private final byte[] flags;
+    private final long[] createdAt;
+    private final long[] updatedAt;
+    private final long[] versions;
+    private final int[] authorRefs;
+    private final String[] authors;
+    private final String[] contents;
+
+    // 좋아요 수 (채우지 않았으면 null → 응답에 나가지 않음)
+    private final long[] reactionCounts;
+
+    private CommentTree(long postId, int size, int authorCount) {
+        this.postId = postId;
+        this.ids = new long[size];
+        this.parents = new int[size];
+        this.ends = new int[size];
+        this.depths = new byte[size];
+        this.flags = new byte[size];
+        this.createdAt = new long[size];
+        this.updatedAt = new long[size];
+        this.versions = new long[size];
+        this.authorRefs = new int[size];
+        this.authors = new String[authorCount];
+        this.contents = new String[size];
+        this.reactionCounts = null;
+    }
+
+    private CommentTree(CommentTree source, long[] reactionCounts) {
+        this.postId = source.postId;
+        this.ids = source.ids;
+        this.parents = source.parents;
+        this.ends = source.ends;
+        this.depths = source.depths;
+        this.flags = source.flags;
+        this.createdAt = source.createdAt;
+        this.updatedAt = source.updatedAt;
+        this.versions = source.versions;
+        this.authorRefs = source.authorRefs;
+        this.authors = source.authors;
+        this.contents = source.contents;
+        this.reactionCounts = reactionCounts;
+    }
+
+    /**
+     * 작성 순으로 정렬된 댓글 목록으로 트리 구성 (형제끼리는 목록 순서 유지)
+     * 부모가 목록에 없는 댓글은 그 아래 댓글들과 함께 빠짐 (CommentService.buildCommentHierarchy 와 같음)
+     */
+    public static CommentTree of(Long postId, List<Comment> comments) {
+        int count = comments.size();
+        Map<Long, Integer> positions = new HashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            positions.put(comments.get(i).getId(), i);
+        }
+
+        // 입력 위치 기준 첫 자식 / 다음 형제 연결 리스트
+        int[] firstChild = new int[count];
+        int[] lastChild = new int[count];
+        int[] nextSibling = new int[count];
+        Arrays.fill(firstChild, -1);
+        Arrays.fill(nextSibling, -1);
+        int firstRoot = -1;
+        int lastRoot = -1;
+        for (int i = 0; i < count; i++) {
+            Comment parent = comments.get(i).getParent();
+            if (parent == null) {
+                if (firstRoot < 0) {
+                    firstRoot = i;
+                } else {
+                    nextSibling[lastRoot] = i;
+                }
+                lastRoot = i;
+                continue;
+            }
+            Integer p = positions.get(parent.getId());
+            if (p == null) {
+                continue;
+            }
+            if (firstChild[p] < 0) {
+                firstChild[p] = i;
+            } else {
+                nextSibling[lastChild[p]] = i;
+            }
+            lastChild[p] = i;
+        }
+
+        // 전위 순회 순서 (order[k] = 입력 위치, parentOf[k] = 트리에서의 부모 위치)
+        int[] order = new int[count];
+        int[] parentOf = new int[count];
+        int size = 0;
+        int[] stack = new int[16];
+        int[] stackParents = new int[16];
+        int top = 0;
+        for (int root = firstRoot; root >= 0; root = nextSibling[root]) {
+            stack[0] = root;
+            stackParents[0] = -1;
+            top = 1;
+            while (top > 0) {
+                top--;
+                int node = stack[top];
+                int index = size++;
+                order[index] = node;
+                parentOf[index] = stackParents[top];
+
+                // 자식을 거꾸로 쌓아서 작성 순으로 꺼내지도록
+                int childCount = 0;
+                for (int child = firstChild[node]; child >= 0; child = nextSibling[child]) {
+                    childCount++;
+                }
+                if (top + childCount > stack.length) {
+                    stack = Arrays.copyOf(stack, (top + childCount) * 2);
+                    stackParents = Arrays.copyOf(stackParents, stack.length);
+                }
+                int slot = top + childCount;
+                for (int child = firstChild[node]; child >= 0; child = nextSibling[child]) {
+                    slot--;
+                    stack[slot] = child;
+                    stackParents[slot] = index;
+                }
+                top += childCount;
+            }
+        }
+
+        Map<String, Integer> authorTable = new HashMap<>();
+        int[] authorRefs = new int[size];
+        for (int k = 0; k < size; k++) {
+            String authorId = comments.get(order[k]).getAuthorId();
+            Integer ref = authorTable.get(authorId);
+            if (ref == null) {
+                ref = authorTable.size();
+                authorTable.put(authorId, ref);
+            }
+            authorRefs[k] = ref;
+        }
+
+        CommentTree tree = new CommentTree(postId, size, authorTable.size());
+        authorTable.forEach((authorId, ref) -> tree.authors[ref] = authorId);
+        System.arraycopy(authorRefs, 0, tree.authorRefs, 0, size);
+        for (int k = 0; k < size; k++) {
+            Comment comment = comments.get(order[k]);
+            tree.ids[k] = comment.getId();
+            tree.parents[k] = parentOf[k];
+            tree.ends[k] = k + 1;
+            tree.depths[k] = comment.getDepth().byteValue();
+            tree.flags[k] = Boolean.TRUE.equals(comment.getDeleted()) ? DELETED : 0;
+            tree.createdAt[k] = toEpochMillis(comment.getCreatedAt());
+            tree.updatedAt[k] = comment.getUpdatedAt() != null ? toEpochMillis(comment.getUpdatedAt()) : NO_TIME;
+            tree.versions[k] = comment.getVersion() != null ? comment.getVersion() : NO_VERSION;
+            tree.contents[k] = comment.getContent();
+        }
+        // 부모는 항상 자식보다 앞에 있으므로 뒤에서부터 서브트리 끝을 부모에게 올려줌
+        for (int k = size - 1; k >= 0; k--) {
+            int parent = tree.parents[k];
+            if (parent >= 0 && tree.ends[k] > tree.ends[parent]) {
+                tree.ends[parent] = tree.ends[k];
+            }
+        }
+        return tree;
+    }
+
+    /**
+     * 같은 트리에 좋아요 수만 붙인 사본 (배열은 공유)
+     */
+    public CommentTree withReactionCounts(long[] reactionCounts) {
+        if (reactionCounts.length != ids.length) {
+            throw new IllegalArgumentException("댓글 수와 좋아요 수 배열의 길이가 다릅니다.");
+        }
+        return new CommentTree(this, reactionCounts);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public long getId(int index) {
+        return ids[index];
+    }
+
+    // 부모 위치 (최상위는 -1)
+    public int getParent(int index) {
+        return parents[index];
+    }
+
+    public int getDepth(int index) {
+        return depths[index];
+    }
+
+    public long getCreatedAtEpochMillis(int index) {
+        return createdAt[index];
+    }
+
+    // 수정된 적 없으면 null
+    public Long getUpdatedAtEpochMillis(int index) {
+        return updatedAt[index] != NO_TIME ? updatedAt[index] : null;
+    }
+
+    // 버전이 없으면 null
+    public Long getVersion(int index) {
+        return versions[index] != NO_VERSION ? versions[index] : null;
+    }
+
+    public long getReactionCount(int index) {
+        return reactionCounts != null ? reactionCounts[index] : 0L;
+    }
+
+    public Node node(int index) {
+        return new Node(index);
+    }
+
+    /**
+     * 최상위 댓글들 (Mustache 에 그대로 넘길 수 있음, 비어 있으면 {{^comments}} 로 처리)
+     */
+    public List<Node> getRoots() {
+        return new Children(0, ids.length);
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    // "yyyy-MM-dd HH:mm" (DateTimeFormatter 를 거치지 않고 고정 길이로 바로 씀 - 댓글마다 두 번씩 불림)
+    private static String format(long epochMillis) {
+        LocalDateTime time = LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZONE);
+        char[] out = new char[16];
+        int year = time.getYear();
+        out[0] = (char) ('0' + year / 1000 % 10);
+        out[1] = (char) ('0' + year / 100 % 10);
+        out[2] = (char) ('0' + year / 10 % 10);
+        out[3] = (char) ('0' + year % 10);
+        out[4] = '-';
+        twoDigits(out, 5, time.getMonthValue());
+        out[7] = '-';
+        twoDigits(out, 8, time.getDayOfMonth());
+        out[10] = ' ';
+        twoDigits(out, 11, time.getHour());
+        out[13] = ':';
+        twoDigits(out, 14, time.getMinute());
+        return new String(out);
+    }
+
+    private static void twoDigits(char[] out, int offset, int value) {
+        out[offset] = (char) ('0' + value / 10);
+        out[offset + 1] = (char) ('0' + value % 10);
+    }
+
+    /**
+     * 댓글 하나의 뷰 (CommentDto 와 같은 이름의 값을 내보내므로 comment_item 템플릿을 그대로 씀)
+     */
+    public class Node {
+
+        private final int index;
+
+        private Node(int index) {
+            this.index = index;
+        }
+
+        public long getId() {
+            return ids[index];
+        }
+
+        public String getContent() {
+            return contents[index];
+        }
+
+        public String getAuthorId() {
+            return authors[authorRefs[index]];
+        }
+
+        public String getCreatedAt() {
+            return format(createdAt[index]);
+        }
+
+        public String getUpdatedAt() {
+            return updatedAt[index] != NO_TIME ? format(updatedAt[index]) : null;
+        }
+
+        public long getPostId() {
+            return postId;
+        }
+
+        public Long getParentId() {
+            return parents[index] >= 0 ? ids[parents[index]] : null;
+        }
+
+        public int getDepth() {
+            return depths[index];
+        }
+
+        public boolean getDeleted() {
+            return (flags[index] & DELETED) != 0;
+        }
+
+        public Long getVersion() {
+            return versions[index] != NO_VERSION ? versions[index] : null;
+        }
+
+        public Long getReactionCount() {
+            return reactionCounts != null ? reactionCounts[index] : null;
+        }
+
+        public List<Node> getChildren() {
+            return new Children(index + 1, ends[index]);
+        }
+
+        public int getChildrenCount() {
+            int count = 0;
+            for (int child = index + 1; child < ends[index]; child = ends[child]) {
+                count++;
+            }
+            return count;
+        }
+
+        public String getIndentation() {
+            return INDENTATIONS[depths[index]];
+        }
+
+        public String getDepthClass() {
+            return DEPTH_CLASSES[depths[index]];
+        }
+
+        public boolean isReply() {
+            return parents[index] >= 0 && depths[index] > 0;
+        }
+
+        // 답글 달기 가능 여부 (CommentDto.canReply 와 같음)
+        public boolean canReply() {
+            return !getDeleted() && depths[index] < 5;
+        }
+    }
+
+    /**
+     * [from, to) 구간에 있는 형제 노드들 (ends 를 따라 건너뛰며 순회)
+     */
+    private class Children extends AbstractList<Node> {
+
+        private final int[] positions;
+
+        Children(int from, int to) {
+            int count = 0;
+            for (int child = from; child < to; child = ends[child]) {
+                count++;
+            }
+            positions = new int[count];
+            int k = 0;
+            for (int child = from; child < to; child = ends[child]) {
+                positions[k++] = child;
+            }
+        }
+
+        @Override
+        public Node get(int i) {
+            return new Node(positions[i]);
+        }
+
+        @Override
+        public int size() {
+            return positions.length;
+        }
+    }
+
+    /**
+     * CommentDto 목록을 직렬화했을 때와 같은 중첩 JSON 으로 씀 (노드 객체를 만들지 않고 배열을 바로 읽음)
+     */
+    static class Serializer extends StdSerializer<CommentTree> {
+
+        // 필드 이름은 미리 인코딩해 두고 재사용 (Jackson 빈 직렬화와 같은 방식)
+        private static final SerializedString FIELD_ID = new SerializedString("id");
+        private static final SerializedString FIELD_CONTENT = new SerializedString("content");
+        private static final SerializedString FIELD_AUTHOR_ID = new SerializedString("authorId");
+        private static final SerializedString FIELD_CREATED_AT = new SerializedString("createdAt");
+        private static final SerializedString FIELD_UPDATED_AT = new SerializedString("updatedAt");
+        private static final SerializedString FIELD_POST_ID = new SerializedString("postId");
+        private static final SerializedString FIELD_PARENT_ID = new SerializedString("parentId");
+        private static final SerializedString FIELD_DEPTH = new SerializedString("depth");
+        private static final SerializedString FIELD_DELETED = new SerializedString("deleted");
+        private static final SerializedString FIELD_VERSION = new SerializedString("version");
+        private static final SerializedString FIELD_REACTION_COUNT = new SerializedString("reactionCount");
+        private static final SerializedString FIELD_INDENTATION = new SerializedString("indentation");
+        private static final SerializedString FIELD_DEPTH_CLASS = new SerializedString("depthClass");
+        private static final SerializedString FIELD_REPLY = new SerializedString("reply");
+        private static final SerializedString FIELD_CHILDREN = new SerializedString("children");
+        private static final SerializedString FIELD_CHILDREN_COUNT = new SerializedString("childrenCount");
+
+        Serializer() {
+            super(CommentTree.class);
+        }
+
+        @Override
+        public void serialize(CommentTree tree, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeStartArray();
+            for (int root = 0; root < tree.size(); root = tree.ends[root]) {
+                writeNode(tree, root, generator);
+            }
+            generator.writeEndArray();
+        }
+
+        private void writeNode(CommentTree tree, int index, JsonGenerator generator) throws IOException {
+            int depth = tree.depths[index];
+            int parent = tree.parents[index];
+
+            generator.writeStartObject();
+            generator.writeFieldName(FIELD_ID);
+            generator.writeNumber(tree.ids[index]);
+            generator.writeFieldName(FIELD_CONTENT);
+            generator.writeString(tree.contents[index]);
+            generator.writeFieldName(FIELD_AUTHOR_ID);
+            generator.writeString(tree.authors[tree.authorRefs[index]]);
+            generator.writeFieldName(FIELD_CREATED_AT);
+            generator.writeString(format(tree.createdAt[index]));
+            generator.writeFieldName(FIELD_UPDATED_AT);
+            generator.writeString(tree.updatedAt[index] != NO_TIME ? format(tree.updatedAt[index]) : null);
+            generator.writeFieldName(FIELD_POST_ID);
+            generator.writeNumber(tree.postId);
+            if (parent >= 0) {
+                generator.writeFieldName(FIELD_PARENT_ID);
+                generator.writeNumber(tree.ids[parent]);
+            } else {
+                generator.writeFieldName(FIELD_PARENT_ID);
+                generator.writeNull();
+            }
+            generator.writeFieldName(FIELD_DEPTH);
+            generator.writeNumber(depth);
+            generator.writeFieldName(FIELD_DELETED);
+            generator.writeBoolean((tree.flags[index] & DELETED) != 0);
+            generator.writeFieldName(FIELD_VERSION);
+            if (tree.versions[index] != NO_VERSION) {
+                generator.writeNumber(tree.versions[index]);
+            } else {
+                generator.writeNull();
+            }
+            if (tree.reactionCounts != null) {
+                generator.writeFieldName(FIELD_REACTION_COUNT);
+                generator.writeNumber(tree.reactionCounts[index]);
+            }
+            generator.writeFieldName(FIELD_INDENTATION);
+            generator.writeString(INDENTATIONS[depth]);
+            generator.writeFieldName(FIELD_DEPTH_CLASS);
+            generator.writeString(DEPTH_CLASSES[depth]);
+            generator.writeFieldName(FIELD_REPLY);
+            generator.writeBoolean(parent >= 0 && depth > 0);
+
+            int childrenCount = 0;
+            generator.writeFieldName(FIELD_CHILDREN);
+            generator.writeStartArray();
+            for (int child = index + 1; child < tree.ends[index]; child = tree.ends[child]) {
+                writeNode(tree, child, generator);
+                childrenCount++;
+            }
+            generator.writeEndArray();
+            generator.writeFieldName(FIELD_CHILDREN_COUNT);
+            generator.writeNumber(childrenCount);
+            generator.writeEndObject();
+        }
+    }
+}
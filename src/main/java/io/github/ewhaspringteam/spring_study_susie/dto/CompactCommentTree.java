@@ -0,0 +1,110 @@
+package io.github.ewhaspringteam.spring_study_susie.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 바이너리 포맷(CBOR/Smile) 응답용 댓글 트리
+ * 노드마다 필드 이름과 children 을 반복하지 않도록 필드별 배열(열 단위)로 펼치고,
+ * 계층은 parents[i] = 부모 노드의 배열 위치(최상위는 -1)로 표현함
+ * 노드는 전위 순회 순서라 부모가 항상 자식보다 앞에 있음 (깊이는 parents 로 계산 가능해서 보내지 않음)
+ */
+public class CompactCommentTree {
+
+    private final long[] ids;
+    private final int[] parents;
+    private final String[] authorIds;
+    private final String[] contents;
+    private final long[] createdAt;
+    private final Long[] updatedAt;
+    private final Long[] versions;
+
+    private CompactCommentTree(int size) {
+        this.ids = new long[size];
+        this.parents = new int[size];
+        this.authorIds = new String[size];
+        this.contents = new String[size];
+        this.createdAt = new long[size];
+        this.updatedAt = new Long[size];
+        this.versions = new Long[size];
+    }
+
+    /**
+     * 계층구조 DTO 목록(최상위 댓글들)을 펼침
+     */
+    public static CompactCommentTree fromHierarchy(List<CommentDto> roots) {
+        List<CommentDto> nodes = new ArrayList<>();
+        List<Integer> parentIndexes = new ArrayList<>();
+        for (CommentDto root : roots) {
+            flatten(root, -1, nodes, parentIndexes);
+        }
+
+        CompactCommentTree tree = new CompactCommentTree(nodes.size());
+        for (int i = 0; i < nodes.size(); i++) {
+            CommentDto node = nodes.get(i);
+            tree.ids[i] = node.getId();
+            tree.parents[i] = parentIndexes.get(i);
+            tree.authorIds[i] = node.getAuthorId();
+            tree.contents[i] = node.getContent();
+            tree.createdAt[i] = node.getCreatedAtEpochMillis();
+            tree.updatedAt[i] = node.getUpdatedAtEpochMillis();
+            tree.versions[i] = node.getVersion();
+        }
+        return tree;
+    }
+
+    /**
+     * 배열 트리를 그대로 옮김 (이미 전위 순회 순서라 부모 위치도 같음)
+     */
+    public static CompactCommentTree fromTree(CommentTree source) {
+        CompactCommentTree tree = new CompactCommentTree(source.size());
+        for (int i = 0; i < source.size(); i++) {
+            CommentTree.Node node = source.node(i);
+            tree.ids[i] = node.getId();
+            tree.parents[i] = source.getParent(i);
+            tree.authorIds[i] = node.getAuthorId();
+            tree.contents[i] = node.getContent();
+            tree.createdAt[i] = source.getCreatedAtEpochMillis(i);
+            tree.updatedAt[i] = source.getUpdatedAtEpochMillis(i);
+            tree.versions[i] = source.getVersion(i);
+        }
+        return tree;
+    }
+
+    private static void flatten(CommentDto node, int parentIndex, List<CommentDto> nodes, List<Integer> parentIndexes) {
+        int index = nodes.size();
+        nodes.add(node);
+        parentIndexes.add(parentIndex);
+        for (CommentDto child : node.getChildren()) {
+            flatten(child, index, nodes, parentIndexes);
+        }
+    }
+
+    public long[] getIds() {
+        return ids;
+    }
+
+    public int[] getParents() {
+        return parents;
+    }
+
+    public String[] getAuthorIds() {
+        return authorIds;
+    }
+
+    public String[] getContents() {
+        return contents;
+    }
+
+    public long[] getCreatedAt() {
+        return createdAt;
+    }
+
+    public Long[] getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Long[] getVersions() {
+        return versions;
+    }
+}
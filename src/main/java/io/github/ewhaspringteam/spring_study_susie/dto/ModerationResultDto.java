@@ -0,0 +1,73 @@
+package io.github.ewhaspringteam.spring_study_susie.dto;
+
+/**
+ * 작성자 일괄 정리 결과
+ */
+public class ModerationResultDto {
+
+    private String authorId;
+    private int postsRemoved;
+    private int commentsRemoved;
+    private int commentsSoftDeleted;
+    private long elapsedMillis;
+
+    public ModerationResultDto(String authorId, int postsRemoved, int commentsRemoved, int commentsSoftDeleted, long elapsedMillis) {
+        this.authorId = authorId;
+        this.postsRemoved = postsRemoved;
+        this.commentsRemoved = commentsRemoved;
+        this.commentsSoftDeleted = commentsSoftDeleted;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    // Getter와 Setter
+    public String getAuthorId() {
+        return authorId;
+    }
+
+    public void setAuthorId(String authorId) {
+        this.authorId = authorId;
+    }
+
+    public int getPostsRemoved() {
+        return postsRemoved;
+    }
+
+    public void setPostsRemoved(int postsRemoved) {
+        this.postsRemoved = postsRemoved;
+    }
+
+    public int getCommentsRemoved() {
+        return commentsRemoved;
+    }
+
+    public void setCommentsRemoved(int commentsRemoved) {
+        this.commentsRemoved = commentsRemoved;
+    }
+
+    public int getCommentsSoftDeleted() {
+        return commentsSoftDeleted;
+    }
+
+    public void setCommentsSoftDeleted(int commentsSoftDeleted) {
+        this.commentsSoftDeleted = commentsSoftDeleted;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "ModerationResultDto{" +
+                "authorId='" + authorId + '\'' +
+                ", postsRemoved=" + postsRemoved +
+                ", commentsRemoved=" + commentsRemoved +
+                ", commentsSoftDeleted=" + commentsSoftDeleted +
+                ", elapsedMillis=" + elapsedMillis +
+                '}';
+    }
+}
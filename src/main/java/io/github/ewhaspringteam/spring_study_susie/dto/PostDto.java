@@ -13,6 +13,10 @@ public class PostDto {
     private String createdAt;
     private String resetTime;
 
+    // 목록 화면용 댓글 요약 (CommentService.getCommentSummaries 로 채움)
+    private Long commentCount = 0L;
+    private String latestCommentAt;
+
     // 기본 생성자
     public PostDto() {}
 
@@ -37,15 +41,15 @@ public class PostDto {
     }
 
     // DTO -> Entity 변환
-    public Post toEntity() {
+    public Post toEntity(LocalDateTime now) {
         LocalDateTime resetDateTime;
         try {
             resetDateTime = LocalDateTime.parse(this.resetTime, DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
         } catch (Exception e) {
             // 기본값: 다음날 오전 9시
-            resetDateTime = LocalDateTime.now().plusDays(1).withHour(9).withMinute(0).withSecond(0).withNano(0);
+            resetDateTime = now.plusDays(1).withHour(9).withMinute(0).withSecond(0).withNano(0);
         }
-        return new Post(this.title, this.content, this.authorId, resetDateTime);
+        return new Post(this.title, this.content, this.authorId, now, resetDateTime);
     }
 
     // Getter와 Setter
@@ -97,6 +101,22 @@ public class PostDto {
         this.resetTime = resetTime;
     }
 
+    public Long getCommentCount() {
+        return commentCount;
+    }
+
+    public void setCommentCount(Long commentCount) {
+        this.commentCount = commentCount;
+    }
+
+    public String getLatestCommentAt() {
+        return latestCommentAt;
+    }
+
+    public void setLatestCommentAt(String latestCommentAt) {
+        this.latestCommentAt = latestCommentAt;
+    }
+
     @Override
     public String toString() {
         return "PostDto{" +
@@ -0,0 +1,74 @@
+package io.github.ewhaspringteam.spring_study_susie.dto;
+
+import java.util.List;
+
+/**
+ * 검색 결과 한 페이지
+ */
+public class SearchPageDto {
+
+    private String query;
+    private long total;
+    private int page;
+    private int size;
+    private long tookMicros;
+    private List<SearchResultDto> results;
+
+    public SearchPageDto(String query, long total, int page, int size, long tookMicros, List<SearchResultDto> results) {
+        this.query = query;
+        this.total = total;
+        this.page = page;
+        this.size = size;
+        this.tookMicros = tookMicros;
+        this.results = results;
+    }
+
+    // Getter와 Setter
+    public String getQuery() {
+        return query;
+    }
+
+    public void setQuery(String query) {
+        this.query = query;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public long getTookMicros() {
+        return tookMicros;
+    }
+
+    public void setTookMicros(long tookMicros) {
+        this.tookMicros = tookMicros;
+    }
+
+    public List<SearchResultDto> getResults() {
+        return results;
+    }
+
+    public void setResults(List<SearchResultDto> results) {
+        this.results = results;
+    }
+}
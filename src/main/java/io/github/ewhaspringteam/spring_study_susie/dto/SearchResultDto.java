@@ -0,0 +1,93 @@
+package io.github.ewhaspringteam.spring_study_susie.dto;
+
+/**
+ * 검색 결과 한 건 (게시글 또는 댓글)
+ */
+public class SearchResultDto {
+
+    private String type; // "post" 또는 "comment"
+    private Long id;
+    private Long postId;
+    private String title; // 게시글만
+    private String snippet;
+    private String authorId;
+    private String createdAt;
+    private double score;
+
+    public SearchResultDto(String type, Long id, Long postId, String title, String snippet,
+                           String authorId, String createdAt, double score) {
+        this.type = type;
+        this.id = id;
+        this.postId = postId;
+        this.title = title;
+        this.snippet = snippet;
+        this.authorId = authorId;
+        this.createdAt = createdAt;
+        this.score = score;
+    }
+
+    // Getter와 Setter
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getPostId() {
+        return postId;
+    }
+
+    public void setPostId(Long postId) {
+        this.postId = postId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getSnippet() {
+        return snippet;
+    }
+
+    public void setSnippet(String snippet) {
+        this.snippet = snippet;
+    }
+
+    public String getAuthorId() {
+        return authorId;
+    }
+
+    public void setAuthorId(String authorId) {
+        this.authorId = authorId;
+    }
+
+    public String getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(String createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+}
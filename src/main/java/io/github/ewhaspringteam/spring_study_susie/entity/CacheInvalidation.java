@@ -0,0 +1,106 @@
+package io.github.ewhaspringteam.spring_study_susie.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인스턴스 간 캐시 무효화 기록 (InvalidationBus)
+ * 쓰기 트랜잭션 안에서 함께 INSERT 되므로 커밋된 변경만 다른 인스턴스에 전달됨
+ * 각 인스턴스는 id 순으로 읽어 가고, 보존 기간이 지난 행은 지움
+ */
+@Entity
+@Table(name = "cache_invalidations")
+public class CacheInvalidation {
+
+    public enum Kind {
+        POST_CREATED,       // 게시글 작성
+        POST_REMOVED,       // 게시글 삭제 (초기화, 관리자 정리), 댓글 포함
+        COMMENT_CHANGED,    // 댓글 작성/수정/삭제 (version 은 댓글 변경 기록의 버전)
+        REACTIONS_CHANGED   // 게시글의 댓글 반응 수 반영
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 기록한 인스턴스 (자기가 쓴 것은 이미 반영했으므로 건너뜀)
+    @Column(nullable = false, length = 64)
+    private String origin;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Kind kind;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "comment_id")
+    private Long commentId;
+
+    @Column
+    private Long version;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    // 기본 생성자
+    public CacheInvalidation() {}
+
+    // Getter와 Setter
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public void setOrigin(String origin) {
+        this.origin = origin;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public void setKind(Kind kind) {
+        this.kind = kind;
+    }
+
+    public Long getPostId() {
+        return postId;
+    }
+
+    public void setPostId(Long postId) {
+        this.postId = postId;
+    }
+
+    public Long getCommentId() {
+        return commentId;
+    }
+
+    public void setCommentId(Long commentId) {
+        this.commentId = commentId;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
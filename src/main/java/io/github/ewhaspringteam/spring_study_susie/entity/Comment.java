@@ -1,14 +1,23 @@
 package io.github.ewhaspringteam.spring_study_susie.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "comments")
+// 삭제된 댓글 정리(CommentCompactor)가 deleted = true AND updated_at < ? 로 후보를 찾을 때 전체를 훑지 않도록
+@Table(name = "comments", indexes = @Index(name = "idx_comments_deleted_updated", columnList = "deleted, updated_at"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "comment") // 쿼리 캐시는 id만 저장하므로 엔티티도 캐시에 있어야 N+1 조회가 생기지 않음
 public class Comment {
 
+    // 자식이 있어서 논리 삭제된 댓글에 남기는 내용
+    public static final String DELETED_CONTENT = "삭제된 댓글입니다.";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -47,41 +56,56 @@ public class Comment {
     @Column(nullable = false)
     private Boolean deleted = false;
 
+    // 낙관적 잠금용 버전 (수정/삭제할 때마다 1씩 증가, 읽은 뒤 다른 요청이 먼저 바꿨으면 저장이 실패함)
+    @Version
+    private Long version;
+
     // 기본 생성자
     public Comment() {}
 
     // 생성자 (최상위 댓글용)
-    public Comment(String content, String authorId, Post post) {
+    public Comment(String content, String authorId, Post post, LocalDateTime createdAt) {
         this.content = content;
         this.authorId = authorId;
         this.post = post;
-        this.createdAt = LocalDateTime.now();
+        this.createdAt = createdAt;
         this.depth = 0;
         this.deleted = false;
     }
 
     // 생성자 (대댓글용)
-    public Comment(String content, String authorId, Post post, Comment parent) {
+    public Comment(String content, String authorId, Post post, Comment parent, LocalDateTime createdAt) {
         this.content = content;
         this.authorId = authorId;
         this.post = post;
         this.parent = parent;
-        this.createdAt = LocalDateTime.now();
+        this.createdAt = createdAt;
         this.depth = parent.getDepth() + 1;
         this.deleted = false;
     }
 
+    // 생성자 (대댓글용, 부모의 depth 를 이미 알고 있을 때 - 부모는 읽지 않은 참조여도 됨)
+    public Comment(String content, String authorId, Post post, Comment parent, int depth, LocalDateTime createdAt) {
+        this.content = content;
+        this.authorId = authorId;
+        this.post = post;
+        this.parent = parent;
+        this.createdAt = createdAt;
+        this.depth = depth;
+        this.deleted = false;
+    }
+
     // 댓글 수정
-    public void updateContent(String content) {
+    public void updateContent(String content, LocalDateTime updatedAt) {
         this.content = content;
-        this.updatedAt = LocalDateTime.now();
+        this.updatedAt = updatedAt;
     }
 
     // 댓글 삭제 (논리적 삭제)
-    public void markAsDeleted() {
+    public void markAsDeleted(LocalDateTime deletedAt) {
         this.deleted = true;
-        this.content = "삭제된 댓글입니다.";
-        this.updatedAt = LocalDateTime.now();
+        this.content = DELETED_CONTENT;
+        this.updatedAt = deletedAt;
     }
 
     // 자식 댓글 추가
@@ -177,6 +201,14 @@ public class Comment {
         this.deleted = deleted;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     @Override
     public String toString() {
         return "Comment{" +
@@ -187,6 +219,7 @@ public class Comment {
                 ", updatedAt=" + updatedAt +
                 ", depth=" + depth +
                 ", deleted=" + deleted +
+                ", version=" + version +
                 '}';
     }
 }
\ No newline at end of file
@@ -0,0 +1,178 @@
+package io.github.ewhaspringteam.spring_study_susie.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글별 댓글 변경 기록 (델타 동기화용)
+ * version 은 게시글마다 1부터 빠짐없이 증가하고, 변경 시점의 댓글 상태를 그대로 담아둠
+ * (댓글이 나중에 삭제되어도 기록만으로 응답할 수 있게)
+ */
+@Entity
+@Table(name = "comment_changes",
+       uniqueConstraints = @UniqueConstraint(name = "uk_comment_changes_post_version", columnNames = {"post_id", "version"}))
+public class CommentChange {
+
+    public enum Type {
+        CREATED,    // 작성
+        UPDATED,    // 내용 수정
+        DELETED,    // 논리적 삭제 (자식이 있어서 "삭제된 댓글입니다"로 남음)
+        REMOVED     // 물리적 삭제
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 게시글이 초기화되어 지워져도 기록은 보존 기간 동안 남도록 연관관계 대신 id 만 저장
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Type type;
+
+    @Column(nullable = false)
+    private Long commentId;
+
+    @Column
+    private Long parentId;
+
+    @Column(length = 50)
+    private String authorId;
+
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    @Column
+    private Integer depth;
+
+    @Column
+    private LocalDateTime createdAt;
+
+    @Column
+    private LocalDateTime updatedAt;
+
+    // 기록된 시각 (보존 기간 계산용)
+    @Column(nullable = false)
+    private LocalDateTime changedAt;
+
+    // 기본 생성자
+    public CommentChange() {}
+
+    // 생성자 (변경 직후의 댓글 상태를 복사)
+    public CommentChange(Long postId, Long version, Type type, Comment comment, LocalDateTime changedAt) {
+        this.postId = postId;
+        this.version = version;
+        this.type = type;
+        this.commentId = comment.getId();
+        this.parentId = comment.getParent() != null ? comment.getParent().getId() : null;
+        this.authorId = comment.getAuthorId();
+        this.content = comment.getContent();
+        this.depth = comment.getDepth();
+        this.createdAt = comment.getCreatedAt();
+        this.updatedAt = comment.getUpdatedAt();
+        this.changedAt = changedAt;
+    }
+
+    // Getter와 Setter
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getPostId() {
+        return postId;
+    }
+
+    public void setPostId(Long postId) {
+        this.postId = postId;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public Long getCommentId() {
+        return commentId;
+    }
+
+    public void setCommentId(Long commentId) {
+        this.commentId = commentId;
+    }
+
+    public Long getParentId() {
+        return parentId;
+    }
+
+    public void setParentId(Long parentId) {
+        this.parentId = parentId;
+    }
+
+    public String getAuthorId() {
+        return authorId;
+    }
+
+    public void setAuthorId(String authorId) {
+        this.authorId = authorId;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public Integer getDepth() {
+        return depth;
+    }
+
+    public void setDepth(Integer depth) {
+        this.depth = depth;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(LocalDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.ewhaspringteam.spring_study_susie.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글별 반응(좋아요) 누적 수
+ * 클릭마다 행을 쓰지 않고 메모리에 모았다가 주기적으로 like_count 에 더함 (CommentReactionService)
+ */
+@Entity
+@Table(name = "comment_reactions", indexes = @Index(name = "idx_comment_reactions_post", columnList = "post_id"))
+public class CommentReaction {
+
+    @Id
+    @Column(name = "comment_id")
+    private Long commentId;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "like_count", nullable = false)
+    private Long likeCount = 0L;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // 기본 생성자
+    public CommentReaction() {}
+
+    // Getter와 Setter
+    public Long getCommentId() {
+        return commentId;
+    }
+
+    public void setCommentId(Long commentId) {
+        this.commentId = commentId;
+    }
+
+    public Long getPostId() {
+        return postId;
+    }
+
+    public void setPostId(Long postId) {
+        this.postId = postId;
+    }
+
+    public Long getLikeCount() {
+        return likeCount;
+    }
+
+    public void setLikeCount(Long likeCount) {
+        this.likeCount = likeCount;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
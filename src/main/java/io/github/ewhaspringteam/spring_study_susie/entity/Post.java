@@ -1,10 +1,15 @@
 package io.github.ewhaspringteam.spring_study_susie.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "posts")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "post") // 작성 후 거의 바뀌지 않으므로 2차 캐시에 보관
 public class Post {
 
     @Id
@@ -26,15 +31,24 @@ public class Post {
     @Column(nullable = false)
     private LocalDateTime resetTime; // 게시판 초기화 시간 (첫 글쓴이가 지정)
 
+    // 낙관적 잠금용 버전 (동시에 고쳐도 나중 저장이 앞의 변경을 덮어쓰지 않도록)
+    @Version
+    private Long version;
+
+    // 마지막 댓글 변경 버전 (댓글을 바꾸는 트랜잭션 끝에 CommentChangeLogService 가 SQL 로만 올림)
+    // 엔티티 저장이 이 값을 덮어쓰지 않도록 INSERT/UPDATE 에서 빼고, 2차 캐시에 든 값은 오래됐을 수 있으므로 읽지 않음
+    @Column(name = "comment_version", columnDefinition = "BIGINT DEFAULT 0 NOT NULL", insertable = false, updatable = false)
+    private Long commentVersion;
+
     // 기본 생성자
     public Post() {}
 
     // 생성자
-    public Post(String title, String content, String authorId, LocalDateTime resetTime) {
+    public Post(String title, String content, String authorId, LocalDateTime createdAt, LocalDateTime resetTime) {
         this.title = title;
         this.content = content;
         this.authorId = authorId;
-        this.createdAt = LocalDateTime.now();
+        this.createdAt = createdAt;
         this.resetTime = resetTime;
     }
 
@@ -87,6 +101,14 @@ public class Post {
         this.resetTime = resetTime;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     @Override
     public String toString() {
         return "Post{" +
@@ -96,6 +118,7 @@ public class Post {
                 ", authorId='" + authorId + '\'' +
                 ", createdAt=" + createdAt +
                 ", resetTime=" + resetTime +
+                ", version=" + version +
                 '}';
     }
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package io.github.ewhaspringteam.spring_study_susie.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Idempotency-Key 설정 (app.idempotency.*)
+ */
+@ConfigurationProperties(prefix = "app.idempotency")
+public class IdempotencyProperties {
+
+    // 같은 키로 다시 보내면 처음 응답을 돌려주는 기간
+    private Duration ttl = Duration.ofHours(24);
+
+    // 기억해 둘 최대 키 수 (넘으면 오래된 것부터 버림)
+    private long maxKeys = 100_000;
+
+    // 같은 키의 요청이 처리 중일 때 기다리는 최대 시간
+    private Duration inFlightTimeout = Duration.ofSeconds(30);
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public long getMaxKeys() {
+        return maxKeys;
+    }
+
+    public void setMaxKeys(long maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+
+    public Duration getInFlightTimeout() {
+        return inFlightTimeout;
+    }
+
+    public void setInFlightTimeout(Duration inFlightTimeout) {
+        this.inFlightTimeout = inFlightTimeout;
+    }
+}
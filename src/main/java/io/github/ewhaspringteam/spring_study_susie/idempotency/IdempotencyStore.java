@@ -0,0 +1,132 @@
+package io.github.ewhaspringteam.spring_study_susie.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 별 응답 저장소 (메모리, 크기 제한 + 만료)
+ * 클라이언트가 타임아웃 후 같은 키로 재시도하면 쓰기를 다시 하지 않고 처음 응답을 그대로 돌려줌
+ * 같은 키의 요청이 동시에 오면 먼저 온 요청만 실행하고 나머지는 그 결과를 기다림
+ * 실패한 응답(success=false)은 저장하지 않으므로 같은 키로 다시 시도할 수 있음
+ */
+@Component
+public class IdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    @Autowired
+    private IdempotencyProperties properties;
+
+    // 엔드포인트별 키 -> 처리 중이거나 끝난 요청
+    private Cache<String, Entry> entries;
+
+    @PostConstruct
+    void init() {
+        entries = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxKeys())
+                .expireAfterWrite(properties.getTtl())
+                .build();
+    }
+
+    /**
+     * 키가 처음이면 action 을 실행하고 응답을 저장, 이미 있으면 저장된 응답(또는 처리 중인 요청의 결과)을 반환
+     * fingerprint 는 요청 내용 요약 - 같은 키로 다른 내용을 보내면 실행하지 않고 실패 응답
+     */
+    public Result execute(String scope, String key, String fingerprint, Supplier<Map<String, Object>> action) {
+        if (key == null || key.isBlank()) {
+            return new Result(action.get(), false);
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            return new Result(failure("Idempotency-Key 는 " + MAX_KEY_LENGTH + "자 이하여야 합니다."), false);
+        }
+
+        String cacheKey = scope + ":" + key;
+        Entry mine = new Entry(fingerprint);
+        Entry existing = entries.asMap().putIfAbsent(cacheKey, mine);
+        if (existing != null) {
+            if (!existing.fingerprint.equals(fingerprint)) {
+                return new Result(failure("같은 Idempotency-Key 로 다른 내용의 요청을 보낼 수 없습니다."), false);
+            }
+            return new Result(await(existing), true);
+        }
+
+        Map<String, Object> response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            entries.asMap().remove(cacheKey, mine);
+            mine.response.completeExceptionally(e);
+            throw e;
+        }
+
+        // 실패 응답은 기다리던 요청에만 전달하고 저장하지 않음
+        if (!Boolean.TRUE.equals(response.get("success"))) {
+            entries.asMap().remove(cacheKey, mine);
+        }
+        mine.response.complete(response);
+        return new Result(response, false);
+    }
+
+    private Map<String, Object> await(Entry entry) {
+        try {
+            return entry.response.get(properties.getInFlightTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            return failure("같은 요청이 아직 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        } catch (ExecutionException e) {
+            return failure(e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return failure("요청이 중단되었습니다.");
+        }
+    }
+
+    private Map<String, Object> failure(String message) {
+        return Map.of(
+            "success", false,
+            "message", message
+        );
+    }
+
+    private static class Entry {
+        private final String fingerprint;
+        private final CompletableFuture<Map<String, Object>> response = new CompletableFuture<>();
+
+        Entry(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+
+    /**
+     * 실행 결과 (replayed: 저장된 응답을 돌려준 경우)
+     */
+    public static class Result {
+        private final Map<String, Object> body;
+        private final boolean replayed;
+
+        Result(Map<String, Object> body, boolean replayed) {
+            this.body = body;
+            this.replayed = replayed;
+        }
+
+        public Map<String, Object> getBody() {
+            return body;
+        }
+
+        public boolean isReplayed() {
+            return replayed;
+        }
+    }
+}
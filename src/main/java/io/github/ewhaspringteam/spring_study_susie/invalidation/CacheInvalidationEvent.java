@@ -0,0 +1,43 @@
+package io.github.ewhaspringteam.spring_study_susie.invalidation;
+
+import io.github.ewhaspringteam.spring_study_susie.entity.CacheInvalidation;
+
+/**
+ * 다른 인스턴스에서 커밋된 변경 (InvalidationBus 가 읽어서 @EventListener 로 알림)
+ * 자기 인스턴스의 변경은 오지 않음 (쓰는 쪽에서 이미 캐시를 갱신했으므로)
+ */
+public class CacheInvalidationEvent {
+
+    private final CacheInvalidation.Kind kind;
+    private final Long postId;
+    private final Long commentId;
+    private final Long version;
+
+    public CacheInvalidationEvent(CacheInvalidation.Kind kind, Long postId, Long commentId, Long version) {
+        this.kind = kind;
+        this.postId = postId;
+        this.commentId = commentId;
+        this.version = version;
+    }
+
+    public CacheInvalidation.Kind getKind() {
+        return kind;
+    }
+
+    public Long getPostId() {
+        return postId;
+    }
+
+    public Long getCommentId() {
+        return commentId;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    @Override
+    public String toString() {
+        return kind + "(post=" + postId + ", comment=" + commentId + ", version=" + version + ")";
+    }
+}
@@ -0,0 +1,216 @@
+package io.github.ewhaspringteam.spring_study_susie.invalidation;
+
+import io.github.ewhaspringteam.spring_study_susie.entity.CacheInvalidation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 인스턴스 간 캐시 무효화 (cache_invalidations 테이블을 통한 변경 알림)
+ * 인스턴스가 여럿이면 한 인스턴스의 쓰기가 다른 인스턴스의 메모리 캐시(2차 캐시, 댓글 변경 로그, ETag 버전,
+ * 반응 수, 검색 색인)에 반영되지 않으므로
+ * - 쓰는 쪽: 쓰기 트랜잭션 안에서 무엇이 바뀌었는지 한 행을 INSERT (롤백되면 같이 사라짐)
+ * - 읽는 쪽: poll-interval 마다 마지막으로 본 id 이후의 행만 PK 범위로 읽어서
+ *   다른 인스턴스가 쓴 것을 CacheInvalidationEvent 로 알림 (각 캐시가 @EventListener 로 받음)
+ * id 는 INSERT 순서라 커밋 순서와 다를 수 있음 → 뒤 번호가 먼저 보이면 앞 번호는 gap-timeout 동안 다시 확인함
+ * 전달 지연은 app.invalidation.delay 메트릭
+ */
+@Component
+public class InvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(InvalidationBus.class);
+
+    @Autowired
+    private InvalidationProperties properties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private Clock clock;
+
+    private String nodeId;
+
+    // 이 id 까지는 모두 처리함 (-1 이면 아직 시작 전)
+    private long cursor = -1;
+    // cursor 뒤에서 이미 처리한 id (앞 번호가 비어 있어서 cursor 를 못 옮긴 것)
+    private final TreeSet<Long> deliveredAhead = new TreeSet<>();
+    // 비어 있는 번호 -> 처음 비어 있는 걸 본 시각
+    private final Map<Long, Long> gapSeenAt = new HashMap<>();
+
+    private Counter published;
+    private Counter received;
+    private Counter gapsSkipped;
+    private Timer delay;
+
+    @PostConstruct
+    void init() {
+        nodeId = properties.getNodeId() == null || properties.getNodeId().isBlank()
+                ? UUID.randomUUID().toString()
+                : properties.getNodeId();
+        published = Counter.builder("app.invalidation.published")
+                .description("다른 인스턴스에 알리려고 기록한 변경 수")
+                .register(meterRegistry);
+        received = Counter.builder("app.invalidation.received")
+                .description("다른 인스턴스에서 받아 캐시에 반영한 변경 수")
+                .register(meterRegistry);
+        gapsSkipped = Counter.builder("app.invalidation.gaps.skipped")
+                .description("gap-timeout 동안 나타나지 않아 건너뛴 번호 수 (대부분 롤백된 트랜잭션)")
+                .register(meterRegistry);
+        delay = Timer.builder("app.invalidation.delay")
+                .description("다른 인스턴스에서 기록된 뒤 이 인스턴스에서 반영되기까지 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 변경 하나를 기록 (쓰기 트랜잭션 안에서 호출)
+     */
+    public void publish(CacheInvalidation.Kind kind, Long postId, Long commentId, Long version) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        jdbcTemplate.update(
+                "INSERT INTO cache_invalidations (origin, kind, post_id, comment_id, version, created_at) VALUES (?, ?, ?, ?, ?, ?)",
+                nodeId, kind.name(), postId, commentId, version, Timestamp.valueOf(LocalDateTime.now(clock)));
+        published.increment();
+    }
+
+    /**
+     * 여러 게시글의 같은 종류 변경을 한꺼번에 기록 (INSERT 배치 한 번)
+     */
+    public void publishPosts(CacheInvalidation.Kind kind, Collection<Long> postIds) {
+        if (!properties.isEnabled() || postIds.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now(clock));
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO cache_invalidations (origin, kind, post_id, created_at) VALUES (?, ?, ?, ?)",
+                postIds.stream().map(postId -> new Object[] {nodeId, kind.name(), postId, now}).collect(Collectors.toList()));
+        published.increment(postIds.size());
+    }
+
+    /**
+     * 여러 댓글 변경을 한꺼번에 기록 ([게시글 ID, 댓글 ID, 버전] 목록)
+     */
+    public void publishComments(List<long[]> changes) {
+        if (!properties.isEnabled() || changes.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now(clock));
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO cache_invalidations (origin, kind, post_id, comment_id, version, created_at) VALUES (?, ?, ?, ?, ?, ?)",
+                changes.stream()
+                        .map(change -> new Object[] {nodeId, CacheInvalidation.Kind.COMMENT_CHANGED.name(), change[0], change[1], change[2], now})
+                        .collect(Collectors.toList()));
+        published.increment(changes.size());
+    }
+
+    /**
+     * 새 기록을 읽어서 다른 인스턴스의 변경을 알림 (반영한 수 반환)
+     */
+    @Scheduled(fixedDelayString = "${app.invalidation.poll-interval:500ms}")
+    public synchronized int poll() {
+        if (!properties.isEnabled()) {
+            return 0;
+        }
+        if (cursor < 0) {
+            // 기동 전의 변경은 메모리 캐시에 없으므로 지금부터만 봄
+            cursor = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM cache_invalidations", Long.class);
+            return 0;
+        }
+
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT id, origin, kind, post_id, comment_id, version, created_at FROM cache_invalidations "
+                        + "WHERE id > ? ORDER BY id LIMIT ?",
+                cursor, properties.getBatchSize());
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        int count = 0;
+        for (Map<String, Object> row : rows) {
+            long id = ((Number) row.get("ID")).longValue();
+            if (!deliveredAhead.add(id) || nodeId.equals(row.get("ORIGIN"))) {
+                continue;
+            }
+            CacheInvalidationEvent event = new CacheInvalidationEvent(
+                    CacheInvalidation.Kind.valueOf((String) row.get("KIND")),
+                    ((Number) row.get("POST_ID")).longValue(),
+                    row.get("COMMENT_ID") == null ? null : ((Number) row.get("COMMENT_ID")).longValue(),
+                    row.get("VERSION") == null ? null : ((Number) row.get("VERSION")).longValue());
+            try {
+                eventPublisher.publishEvent(event);
+                received.increment();
+                count++;
+            } catch (RuntimeException e) {
+                // 한 캐시가 실패해도 나머지 변경은 계속 반영 (실패한 캐시는 만료/다음 변경 때 맞춰짐)
+                log.warn("캐시 무효화 반영 실패: {}", event, e);
+            }
+            LocalDateTime createdAt = ((Timestamp) row.get("CREATED_AT")).toLocalDateTime();
+            delay.record(Math.max(0, Duration.between(createdAt, now).toMillis()), TimeUnit.MILLISECONDS);
+        }
+        advanceCursor();
+        return count;
+    }
+
+    // 빈틈 없이 처리한 곳까지 cursor 를 옮김 (오래 비어 있는 번호는 건너뜀)
+    private void advanceCursor() {
+        long now = System.currentTimeMillis();
+        while (!deliveredAhead.isEmpty() && cursor < deliveredAhead.last()) {
+            long next = cursor + 1;
+            if (deliveredAhead.remove(next)) {
+                cursor = next;
+                continue;
+            }
+            long seenAt = gapSeenAt.computeIfAbsent(next, id -> now);
+            if (now - seenAt < properties.getGapTimeout().toMillis()) {
+                return;
+            }
+            gapSeenAt.remove(next);
+            gapsSkipped.increment();
+            cursor = next;
+        }
+        gapSeenAt.clear();
+    }
+
+    /**
+     * 보존 기간이 지난 기록 삭제
+     */
+    @Scheduled(fixedDelayString = "${app.invalidation.retention:10m}", initialDelayString = "${app.invalidation.retention:10m}")
+    public int prune() {
+        if (!properties.isEnabled()) {
+            return 0;
+        }
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(properties.getRetention());
+        return jdbcTemplate.update("DELETE FROM cache_invalidations WHERE created_at < ?", Timestamp.valueOf(cutoff));
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.ewhaspringteam.spring_study_susie.invalidation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 인스턴스 간 캐시 무효화 설정 (app.invalidation.*)
+ */
+@ConfigurationProperties(prefix = "app.invalidation")
+public class InvalidationProperties {
+
+    // 끄면 기록도 읽기도 하지 않음 (인스턴스가 하나뿐일 때)
+    private boolean enabled = true;
+
+    // 인스턴스 이름 (비워 두면 기동할 때마다 새로 만듦)
+    private String nodeId;
+
+    // 새 기록을 읽어 가는 간격 = 다른 인스턴스의 캐시가 낡아 있을 수 있는 최대 시간 (대략)
+    private Duration pollInterval = Duration.ofMillis(500);
+
+    // 한 번에 읽을 최대 행 수
+    private int batchSize = 500;
+
+    // 앞 번호가 비어 있을 때 (먼저 시작한 트랜잭션이 아직 커밋 전) 그 번호를 기다리는 시간
+    // 롤백돼서 영영 안 생기는 번호도 있으므로 이 시간이 지나면 건너뜀
+    private Duration gapTimeout = Duration.ofSeconds(10);
+
+    // 기록 보존 기간 (이보다 오래된 행은 지움)
+    private Duration retention = Duration.ofMinutes(10);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void setNodeId(String nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    public void setPollInterval(Duration pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getGapTimeout() {
+        return gapTimeout;
+    }
+
+    public void setGapTimeout(Duration gapTimeout) {
+        this.gapTimeout = gapTimeout;
+    }
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    public void setRetention(Duration retention) {
+        this.retention = retention;
+    }
+}
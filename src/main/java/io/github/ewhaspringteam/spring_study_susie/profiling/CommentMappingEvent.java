@@ -0,0 +1,27 @@
+package io.github.ewhaspringteam.spring_study_susie.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 댓글 엔티티 -> CommentDto 변환
+ */
+@Name(CommentMappingEvent.NAME)
+@Label("Comment DTO Mapping")
+@Category({"Susie", "Service"})
+@Description("댓글 엔티티를 DTO 로 변환")
+@StackTrace(false)
+public class CommentMappingEvent extends Event {
+
+    public static final String NAME = "susie.CommentMapping";
+
+    @Label("Post Id")
+    public long postId;
+
+    @Label("Comment Count")
+    public int commentCount;
+}
@@ -0,0 +1,34 @@
+package io.github.ewhaspringteam.spring_study_susie.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 댓글 계층구조 구성 (buildCommentHierarchy 또는 CommentTree.of)
+ */
+@Name(CommentTreeEvent.NAME)
+@Label("Comment Tree Build")
+@Category({"Susie", "Service"})
+@Description("댓글 목록을 계층구조로 구성")
+@StackTrace(false)
+public class CommentTreeEvent extends Event {
+
+    public static final String NAME = "susie.CommentTree";
+
+    // dto(CommentDto 트리) 또는 array(CommentTree)
+    @Label("Format")
+    public String format;
+
+    @Label("Post Id")
+    public long postId;
+
+    @Label("Comment Count")
+    public int commentCount;
+
+    @Label("Max Depth")
+    public int maxDepth;
+}
@@ -0,0 +1,101 @@
+package io.github.ewhaspringteam.spring_study_susie.profiling;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * JFR 이벤트 집계 (이벤트 종류 + 키 별 건수, 소요 시간 분포, 수량 합계)
+ * 이벤트는 기록 스트림 스레드 하나가 넣고, 조회는 요청 스레드가 하므로 메서드 단위로 동기화
+ */
+public class EventStats {
+
+    private final int maxSamples;
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    public EventStats(int maxSamples) {
+        this.maxSamples = maxSamples;
+    }
+
+    public synchronized void add(String event, String key, long durationNanos, long amount) {
+        entries.computeIfAbsent(event + "|" + key, k -> new Entry(event, key, maxSamples))
+                .add(durationNanos, amount);
+    }
+
+    /**
+     * 총 소요 시간이 큰 순서로
+     */
+    public synchronized List<Map<String, Object>> snapshot() {
+        return entries.values().stream()
+                .sorted(Comparator.comparingLong((Entry entry) -> entry.totalNanos).reversed())
+                .map(Entry::toMap)
+                .collect(Collectors.toList());
+    }
+
+    private static class Entry {
+
+        private final String event;
+        private final String key;
+        private final int maxSamples;
+        private long[] samples = new long[16];
+        private int sampled;
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+        private long amount;
+
+        Entry(String event, String key, int maxSamples) {
+            this.event = event;
+            this.key = key;
+            this.maxSamples = maxSamples;
+        }
+
+        void add(long durationNanos, long amount) {
+            // 표본이 다 차면 저수지 표본추출로 교체 (모든 이벤트가 같은 확률로 남음)
+            if (sampled < maxSamples) {
+                if (sampled == samples.length) {
+                    samples = Arrays.copyOf(samples, Math.min(maxSamples, samples.length * 2));
+                }
+                samples[sampled++] = durationNanos;
+            } else {
+                long slot = ThreadLocalRandom.current().nextLong(count + 1);
+                if (slot < maxSamples) {
+                    samples[(int) slot] = durationNanos;
+                }
+            }
+            count++;
+            totalNanos += durationNanos;
+            maxNanos = Math.max(maxNanos, durationNanos);
+            this.amount += amount;
+        }
+
+        Map<String, Object> toMap() {
+            long[] sorted = Arrays.copyOf(samples, sampled);
+            Arrays.sort(sorted);
+
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("event", event);
+            map.put("key", key);
+            map.put("count", count);
+            map.put("totalMs", millis(totalNanos));
+            map.put("avgMs", millis(totalNanos / count));
+            map.put("p50Ms", millis(percentile(sorted, 0.50)));
+            map.put("p99Ms", millis(percentile(sorted, 0.99)));
+            map.put("maxMs", millis(maxNanos));
+            map.put("amount", amount);
+            return map;
+        }
+
+        private static long percentile(long[] sorted, double p) {
+            return sorted[(int) Math.min(sorted.length - 1, Math.floor(p * sorted.length))];
+        }
+
+        private static double millis(long nanos) {
+            return Math.round(nanos / 1_000.0) / 1_000.0;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package io.github.ewhaspringteam.spring_study_susie.profiling;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * 요청 단계별 JFR 이벤트를 기록하면서 바로 집계 (파일로 덤프하지 않고 RecordingStream 으로 읽음)
+ * 우리 이벤트만 켜므로 오버헤드가 작고, 기록 시간이 정해져 있어 켜 둔 채로 잊어도 알아서 멈춤
+ * 기록 중이 아닐 때 이벤트는 isEnabled() 검사 한 번으로 끝남
+ */
+@Component
+public class JfrProfiler {
+
+    private static final Logger log = LoggerFactory.getLogger(JfrProfiler.class);
+
+    // 이벤트 이름, 집계 키 필드 (문자열, null 이면 이벤트 종류로만 집계), 합계를 낼 수량 필드
+    private static final List<String[]> TRACKED = List.of(
+            new String[]{RequestEvent.NAME, "handler", null},
+            new String[]{RepositoryEvent.NAME, "method", "rowsFetched"},
+            new String[]{CommentMappingEvent.NAME, null, "commentCount"},
+            new String[]{CommentTreeEvent.NAME, "format", "commentCount"},
+            new String[]{ViewRenderEvent.NAME, "view", "charsRendered"}
+    );
+
+    @Autowired
+    private ProfilingProperties properties;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    private RecordingStream recording;
+    private ScheduledFuture<?> scheduledStop;
+    private EventStats stats;
+    private Instant startedAt;
+    private Instant stoppedAt;
+
+    /**
+     * 기록 시작 (duration 이 지나면 자동으로 멈춤, null 이면 기본 시간)
+     */
+    public synchronized void start(Duration duration) {
+        if (recording != null) {
+            throw new RuntimeException("이미 기록 중입니다.");
+        }
+        Duration length = duration != null ? duration : properties.getDefaultDuration();
+        if (length.isNegative() || length.isZero() || length.compareTo(properties.getMaxDuration()) > 0) {
+            throw new RuntimeException("기록 시간은 0보다 길고 " + properties.getMaxDuration() + " 이하여야 합니다.");
+        }
+
+        EventStats current = new EventStats(properties.getMaxSamples());
+        RecordingStream stream = new RecordingStream();
+        stream.setMaxAge(properties.getMaxAge());
+        stream.setMaxSize(properties.getMaxSize().toBytes());
+        for (String[] tracked : TRACKED) {
+            String name = tracked[0];
+            String keyField = tracked[1];
+            String amountField = tracked[2];
+            stream.enable(name).withoutStackTrace().withThreshold(Duration.ZERO);
+            stream.onEvent(name, event -> current.add(name,
+                    keyField != null ? event.getString(keyField) : name,
+                    event.getDuration().toNanos(),
+                    amountField != null ? event.getLong(amountField) : 0L));
+        }
+        stream.startAsync();
+
+        recording = stream;
+        stats = current;
+        startedAt = Instant.now();
+        stoppedAt = null;
+        scheduledStop = taskScheduler.schedule(this::stop, startedAt.plus(length));
+        log.info("JFR 기록 시작 ({})", length);
+    }
+
+    /**
+     * 기록 중지 (집계 결과는 다음 기록을 시작할 때까지 남아 있음)
+     */
+    public synchronized boolean stop() {
+        if (recording == null) {
+            return false;
+        }
+        scheduledStop.cancel(false);
+        recording.close();
+        recording = null;
+        stoppedAt = Instant.now();
+        log.info("JFR 기록 중지 ({}초)", Duration.between(startedAt, stoppedAt).toSeconds());
+        return true;
+    }
+
+    public synchronized boolean isRecording() {
+        return recording != null;
+    }
+
+    /**
+     * 지금까지의 집계 (기록 중이면 약 1초 전까지 들어온 이벤트)
+     */
+    public synchronized Map<String, Object> getStats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("recording", recording != null);
+        result.put("startedAt", startedAt != null ? startedAt.toString() : null);
+        result.put("stoppedAt", stoppedAt != null ? stoppedAt.toString() : null);
+        result.put("events", stats != null ? stats.snapshot() : List.of());
+        return result;
+    }
+
+    @PreDestroy
+    public void close() {
+        stop();
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.ewhaspringteam.spring_study_susie.profiling;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * JFR 기록 설정 (app.profiling.*)
+ */
+@ConfigurationProperties(prefix = "app.profiling")
+public class ProfilingProperties {
+
+    // 기록 시간을 지정하지 않았을 때
+    private Duration defaultDuration = Duration.ofMinutes(1);
+
+    // 한 번에 기록할 수 있는 최대 시간 (지나면 자동으로 멈춤)
+    private Duration maxDuration = Duration.ofMinutes(30);
+
+    // JFR 디스크 저장소에 남겨 둘 양 (집계는 메모리에서 하므로 작아도 됨)
+    private Duration maxAge = Duration.ofMinutes(5);
+    private DataSize maxSize = DataSize.ofMegabytes(32);
+
+    // 항목별 백분위 계산에 쓰는 최대 표본 수 (넘으면 무작위로 교체)
+    private int maxSamples = 10_000;
+
+    public Duration getDefaultDuration() {
+        return defaultDuration;
+    }
+
+    public void setDefaultDuration(Duration defaultDuration) {
+        this.defaultDuration = defaultDuration;
+    }
+
+    public Duration getMaxDuration() {
+        return maxDuration;
+    }
+
+    public void setMaxDuration(Duration maxDuration) {
+        this.maxDuration = maxDuration;
+    }
+
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+
+    public void setMaxAge(Duration maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    public DataSize getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(DataSize maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public int getMaxSamples() {
+        return maxSamples;
+    }
+
+    public void setMaxSamples(int maxSamples) {
+        this.maxSamples = maxSamples;
+    }
+}
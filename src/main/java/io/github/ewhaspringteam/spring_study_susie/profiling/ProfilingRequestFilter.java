@@ -0,0 +1,62 @@
+package io.github.ewhaspringteam.spring_study_susie.profiling;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 요청마다 RequestEvent 를 남기는 필터 (JFR 기록 중이 아니면 그냥 통과)
+ * 핸들러는 경로 패턴으로 남겨서 /posts/1, /posts/2 가 같은 항목으로 집계되도록 함
+ */
+@Component
+public class ProfilingRequestFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestEvent event = new RequestEvent();
+        if (!event.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        event.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                event.handler = request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+                event.postId = postId(request);
+                event.status = response.getStatus();
+                event.commit();
+            }
+        }
+    }
+
+    // /posts/{id}, /posts/{postId}/... 의 게시글 id (없으면 0)
+    private long postId(HttpServletRequest request) {
+        Object attribute = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (!(attribute instanceof Map<?, ?> variables)) {
+            return 0L;
+        }
+        Object value = variables.get("postId");
+        if (value == null && request.getRequestURI().startsWith("/posts/")) {
+            value = variables.get("id");
+        }
+        try {
+            return value != null ? Long.parseLong(value.toString()) : 0L;
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.ewhaspringteam.spring_study_susie.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 리포지토리 메서드 호출 (쿼리 실행과 엔티티 매핑, 2차 캐시 적중이면 DB 를 거치지 않음)
+ */
+@Name(RepositoryEvent.NAME)
+@Label("Repository Call")
+@Category({"Susie", "Database"})
+@Description("리포지토리 메서드 호출")
+@StackTrace(false)
+public class RepositoryEvent extends Event {
+
+    public static final String NAME = "susie.Repository";
+
+    // 예: CommentRepository.findActiveCommentsByPost
+    @Label("Method")
+    public String method;
+
+    // 목록이면 건수, Optional/단건이면 0 또는 1
+    @Label("Rows Fetched")
+    public int rowsFetched;
+}
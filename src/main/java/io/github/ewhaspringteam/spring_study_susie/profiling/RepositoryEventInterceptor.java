@@ -0,0 +1,54 @@
+package io.github.ewhaspringteam.spring_study_susie.profiling;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * 리포지토리 메서드 호출마다 RepositoryEvent 를 남김 (RepositoryProfilingConfig 가 리포지토리 프록시에 붙임)
+ */
+public class RepositoryEventInterceptor implements MethodInterceptor {
+
+    private final String repositoryName;
+
+    public RepositoryEventInterceptor(String repositoryName) {
+        this.repositoryName = repositoryName;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        RepositoryEvent event = new RepositoryEvent();
+        if (!event.isEnabled()) {
+            return invocation.proceed();
+        }
+
+        event.begin();
+        Object result = invocation.proceed();
+        event.end();
+        if (event.shouldCommit()) {
+            event.method = repositoryName + "." + invocation.getMethod().getName();
+            event.rowsFetched = rows(result);
+            event.commit();
+        }
+        return result;
+    }
+
+    private static int rows(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.ewhaspringteam.spring_study_susie.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * HTTP 요청 하나 전체 (필터 체인 + 컨트롤러 + 직렬화/렌더링)
+ * 같은 스레드의 나머지 이벤트(리포지토리, 트리 구성, 렌더링)가 이 이벤트 구간 안에 들어감
+ */
+@Name(RequestEvent.NAME)
+@Label("Request")
+@Category({"Susie", "Web"})
+@Description("HTTP 요청 처리 전체")
+@StackTrace(false)
+public class RequestEvent extends Event {
+
+    public static final String NAME = "susie.Request";
+
+    // 예: GET /posts/{id}
+    @Label("Handler")
+    public String handler;
+
+    @Label("Post Id")
+    public long postId;
+
+    @Label("Status")
+    public int status;
+}
@@ -0,0 +1,29 @@
+package io.github.ewhaspringteam.spring_study_susie.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Mustache 템플릿 렌더링 (partial 포함, 응답 writer 로 쓰는 시간까지)
+ */
+@Name(ViewRenderEvent.NAME)
+@Label("View Render")
+@Category({"Susie", "Web"})
+@Description("Mustache 템플릿 렌더링")
+@StackTrace(false)
+public class ViewRenderEvent extends Event {
+
+    public static final String NAME = "susie.ViewRender";
+
+    // 예: post/today
+    @Label("View")
+    public String view;
+
+    // 인코딩 전 문자 수
+    @Label("Characters Rendered")
+    public long charsRendered;
+}
@@ -0,0 +1,39 @@
+package io.github.ewhaspringteam.spring_study_susie.repository;
+
+import io.github.ewhaspringteam.spring_study_susie.entity.CommentChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CommentChangeRepository extends JpaRepository<CommentChange, Long> {
+
+    /**
+     * 게시글의 마지막 변경 버전 (기록이 없으면 0)
+     * MAX 는 그 게시글의 기록을 모두 훑으므로 (post_id, version) 유니크 인덱스에서 마지막 한 행만 읽음 (기록이 쌓여도 일정)
+     */
+    @Query(value = "SELECT COALESCE((SELECT version FROM comment_changes WHERE post_id = :postId "
+            + "ORDER BY version DESC LIMIT 1), 0)", nativeQuery = true)
+    Long findLatestVersion(@Param("postId") Long postId);
+
+    /**
+     * 특정 버전 이후의 변경 기록 (버전 순, 개수 제한은 pageable 로)
+     */
+    @Query("SELECT c FROM CommentChange c WHERE c.postId = :postId AND c.version > :version ORDER BY c.version ASC")
+    List<CommentChange> findChangesSince(@Param("postId") Long postId, @Param("version") Long version, Pageable pageable);
+
+    /**
+     * 보존 기간이 지난 기록 삭제
+     * 게시글마다 마지막 기록은 남겨서 버전이 처음부터 다시 시작되지 않게 함
+     */
+    @Modifying
+    @Query("DELETE FROM CommentChange c WHERE c.changedAt < :cutoff " +
+           "AND c.version < (SELECT MAX(l.version) FROM CommentChange l WHERE l.postId = c.postId)")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,16 @@
+package io.github.ewhaspringteam.spring_study_susie.repository;
+
+import io.github.ewhaspringteam.spring_study_susie.entity.CommentReaction;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CommentReactionRepository extends JpaRepository<CommentReaction, Long> {
+
+    /**
+     * 게시글의 댓글 반응 수 전체 (메모리 집계를 처음 만들 때 사용)
+     */
+    List<CommentReaction> findByPostId(Long postId);
+}
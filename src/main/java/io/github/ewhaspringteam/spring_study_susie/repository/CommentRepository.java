@@ -2,12 +2,23 @@ package io.github.ewhaspringteam.spring_study_susie.repository;
 
 import io.github.ewhaspringteam.spring_study_susie.entity.Comment;
 import io.github.ewhaspringteam.spring_study_susie.entity.Post;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
@@ -27,10 +38,59 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     /**
      * 특정 게시글의 삭제되지 않은 댓글만 조회 (depth 순서로)
+     * 가장 자주 호출되는 조회라 쿼리 캐시 사용 (comments 테이블이 바뀌면 Hibernate가 자동으로 무효화)
      */
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     @Query("SELECT c FROM Comment c WHERE c.post = :post AND c.deleted = false ORDER BY c.createdAt ASC")
     List<Comment> findActiveCommentsByPost(@Param("post") Post post);
 
+    /**
+     * 특정 게시글의 삭제되지 않은 댓글을 트리 순서(전위 순회)로 조회
+     * 각 댓글의 경로(조상들의 작성시각+id)로 정렬하므로 부모 바로 뒤에 자식들이 이어서 나옴
+     * 결과를 한 번에 메모리에 올리지 않도록 커서로 읽어야 함 (호출하는 쪽에서 트랜잭션 안에서 닫을 것)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "256"))
+    @Query(value = """
+            WITH RECURSIVE tree(id, parent_id, content, author_id, created_at, updated_at, depth, version, lvl, sort_path) AS (
+                SELECT c.id, c.parent_id, c.content, c.author_id, c.created_at, c.updated_at, c.depth, c.version, 0,
+                       CAST(FORMATDATETIME(c.created_at, 'yyyyMMddHHmmssSSS') || LPAD(CAST(c.id AS VARCHAR), 19, '0') AS VARCHAR(1000))
+                FROM comments c
+                WHERE c.post_id = :postId AND c.parent_id IS NULL AND c.deleted = FALSE
+                UNION ALL
+                SELECT c.id, c.parent_id, c.content, c.author_id, c.created_at, c.updated_at, c.depth, c.version, t.lvl + 1,
+                       t.sort_path || '/' || FORMATDATETIME(c.created_at, 'yyyyMMddHHmmssSSS') || LPAD(CAST(c.id AS VARCHAR), 19, '0')
+                FROM comments c
+                JOIN tree t ON c.parent_id = t.id
+                WHERE c.deleted = FALSE
+            )
+            SELECT id AS "id", parent_id AS "parentId", content AS "content", author_id AS "authorId",
+                   created_at AS "createdAt", updated_at AS "updatedAt", depth AS "depth", version AS "version", lvl AS "level"
+            FROM tree
+            ORDER BY sort_path
+            """, nativeQuery = true)
+    Stream<CommentTreeRow> streamActiveCommentTree(@Param("postId") Long postId);
+
+    /**
+     * 댓글을 행 잠금(SELECT ... FOR UPDATE)과 함께 조회 (2차 캐시를 거치지 않고 DB의 최신 값을 읽음)
+     * 답글 작성/삭제가 같은 댓글을 두고 동시에 일어날 때 그 댓글 단위로만 순서를 정함 (게시글 행은 잠그지 않음)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Comment c WHERE c.id = :id")
+    Optional<Comment> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 자식 댓글이 하나라도 있는지 (삭제된 자식 포함)
+     */
+    boolean existsByParent(Comment parent);
+
+    /**
+     * deletedBefore 전에 삭제됐고 자식이 하나도 없는 삭제된 댓글 ID (깊은 것부터, 정리 대상)
+     */
+    @Query("SELECT c.id FROM Comment c WHERE c.deleted = true AND c.updatedAt < :deletedBefore "
+            + "AND NOT EXISTS (SELECT 1 FROM Comment child WHERE child.parent = c) "
+            + "ORDER BY c.depth DESC, c.id ASC")
+    List<Long> findCompactableIds(@Param("deletedBefore") LocalDateTime deletedBefore, Pageable pageable);
+
     /**
      * 특정 부모 댓글의 자식 댓글들 조회 (대댓글)
      */
@@ -71,4 +131,72 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      */
     @Query("SELECT COUNT(c), SUM(CASE WHEN c.deleted = true THEN 1 ELSE 0 END) FROM Comment c WHERE c.post = :post")
     Object[] getCommentStatsByPost(@Param("post") Post post);
-}
\ No newline at end of file
+
+    /**
+     * 게시글별 댓글 통계 (총 댓글 수, 삭제된 댓글 수, 최대 깊이)를 한 번에 집계
+     */
+    @Query("SELECT COUNT(c) AS totalComments, " +
+           "COALESCE(SUM(CASE WHEN c.deleted = true THEN 1 ELSE 0 END), 0) AS deletedComments, " +
+           "COALESCE(MAX(c.depth), 0) AS maxDepth " +
+           "FROM Comment c WHERE c.post.id = :postId")
+    CommentStatsRow getCommentStatsRowByPostId(@Param("postId") Long postId);
+
+    /**
+     * 여러 게시글의 댓글 수(삭제 제외)와 마지막 댓글 시각을 한 번의 GROUP BY 쿼리로 조회
+     * 댓글이 없는 게시글은 결과에 없음
+     */
+    @Query("SELECT c.post.id AS postId, COUNT(c) AS activeComments, MAX(c.createdAt) AS latestCommentAt " +
+           "FROM Comment c WHERE c.post.id IN :postIds AND c.deleted = false GROUP BY c.post.id")
+    List<PostCommentSummaryRow> findCommentSummariesByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 작성자의 삭제되지 않은 댓글 ID (from/to 는 작성 시각 범위, null 이면 제한 없음)
+     * 깊은 것부터 나오므로 앞에서부터 나눠 처리하면 같은 작성자의 답글이 부모보다 먼저 처리됨
+     */
+    @Query("SELECT c.id FROM Comment c WHERE c.authorId = :authorId AND c.deleted = false "
+            + "AND (:from IS NULL OR c.createdAt >= :from) AND (:to IS NULL OR c.createdAt < :to) "
+            + "ORDER BY c.depth DESC, c.id ASC")
+    List<Long> findActiveIdsByAuthor(@Param("authorId") String authorId,
+                                     @Param("from") LocalDateTime from,
+                                     @Param("to") LocalDateTime to);
+
+    /**
+     * 삭제되지 않은 댓글들을 행 잠금과 함께 조회
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Comment c WHERE c.id IN :ids AND c.deleted = false")
+    List<Comment> findActiveByIdsForUpdate(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 한 번에 논리 삭제 (Comment.markAsDeleted 와 같은 값, 버전도 올려서 진행 중인 수정이 충돌하게 함)
+     * 영속성 컨텍스트에 남은 이전 상태를 비워서 이후 조회가 바뀐 값을 읽게 함
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Comment c SET c.deleted = true, c.content = :content, c.updatedAt = :deletedAt, c.version = c.version + 1 "
+            + "WHERE c.id IN :ids AND c.deleted = false")
+    int markAsDeletedByIds(@Param("ids") Collection<Long> ids,
+                           @Param("content") String content,
+                           @Param("deletedAt") LocalDateTime deletedAt);
+
+    /**
+     * 주어진 댓글 중 자식이 하나도 없는 것 (삭제된 자식 포함)
+     */
+    @Query("SELECT c FROM Comment c WHERE c.id IN :ids AND NOT EXISTS (SELECT 1 FROM Comment child WHERE child.parent = c)")
+    List<Comment> findChildless(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 여러 게시글의 댓글을 모두 삭제 (게시글 초기화 전에 호출)
+     * 같은 문장 안에서 부모-자식 외래키가 걸리지 않도록 부모 연결을 먼저 끊음
+     */
+    @Modifying
+    @Query("UPDATE Comment c SET c.parent = null WHERE c.post.id IN :postIds")
+    int detachParentsByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.post.id IN :postIds")
+    int deleteByPostIds(@Param("postIds") Collection<Long> postIds);
+}
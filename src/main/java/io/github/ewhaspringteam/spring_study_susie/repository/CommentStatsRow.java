@@ -0,0 +1,13 @@
+package io.github.ewhaspringteam.spring_study_susie.repository;
+
+/**
+ * 게시글별 댓글 통계 집계 결과 (댓글을 엔티티로 불러오지 않고 한 번의 집계 쿼리로 계산)
+ */
+public interface CommentStatsRow {
+
+    Long getTotalComments();
+
+    Long getDeletedComments();
+
+    Integer getMaxDepth();
+}
@@ -0,0 +1,28 @@
+package io.github.ewhaspringteam.spring_study_susie.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 트리 스트리밍용 한 줄 (엔티티를 만들지 않고 필요한 컬럼만 조회)
+ */
+public interface CommentTreeRow {
+
+    Long getId();
+
+    Long getParentId();
+
+    String getContent();
+
+    String getAuthorId();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    Integer getDepth();
+
+    Long getVersion();
+
+    // 트리에서의 실제 위치 (0: 최상위), 부모가 빠진 댓글은 애초에 결과에 나오지 않음
+    Integer getLevel();
+}
@@ -0,0 +1,15 @@
+package io.github.ewhaspringteam.spring_study_susie.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글별 댓글 요약 (삭제되지 않은 댓글 수, 마지막 댓글 시각)
+ */
+public interface PostCommentSummaryRow {
+
+    Long getPostId();
+
+    Long getActiveComments();
+
+    LocalDateTime getLatestCommentAt();
+}
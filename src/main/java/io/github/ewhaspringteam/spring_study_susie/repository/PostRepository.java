@@ -39,8 +39,17 @@ public interface PostRepository extends JpaRepository<Post, Long> {
                                            @Param("startOfYesterday") LocalDateTime startOfYesterday, 
                                            @Param("endOfYesterday") LocalDateTime endOfYesterday);
 
+    /**
+     * 작성자의 게시글 (from/to 는 작성 시각 범위, null 이면 제한 없음)
+     */
+    @Query("SELECT p FROM Post p WHERE p.authorId = :authorId "
+            + "AND (:from IS NULL OR p.createdAt >= :from) AND (:to IS NULL OR p.createdAt < :to)")
+    List<Post> findByAuthor(@Param("authorId") String authorId,
+                            @Param("from") LocalDateTime from,
+                            @Param("to") LocalDateTime to);
+
     /**
      * 모든 게시글을 생성 시간 역순으로 조회
      */
     List<Post> findAllByOrderByCreatedAtDesc();
-}
\ No newline at end of file
+}
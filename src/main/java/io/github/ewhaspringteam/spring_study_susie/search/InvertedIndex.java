@@ -0,0 +1,416 @@
+package io.github.ewhaspringteam.spring_study_susie.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글/댓글 n-gram 역색인
+ * 문서마다 슬롯 번호를 붙이고 gram 마다 슬롯 번호 오름차순 postings 를 둠
+ * 새 문서나 수정된 문서는 항상 마지막 슬롯 뒤에 붙으므로 postings 는 뒤에 추가만 하면 정렬이 유지됨
+ * (지워진 슬롯은 구멍으로 남고 다음 재색인 때 정리됨)
+ * 점수는 BM25, 검색어의 gram 을 모두 가진 문서만 결과에 나옴
+ */
+public class InvertedIndex {
+
+    public static final byte POST = 1;
+    public static final byte COMMENT = 2;
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> postSlots = new HashMap<>();
+    private final Map<Long, Integer> commentSlots = new HashMap<>();
+
+    // 슬롯별 문서 정보 (지워진 슬롯은 terms 가 null)
+    private byte[] types;
+    private long[] ids;
+    private long[] postIds;
+    private int[] lengths;
+    private String[][] terms;
+    private int slotCount;
+    private int liveCount;
+    private long totalLength;
+
+    public InvertedIndex() {
+        this(64);
+    }
+
+    private InvertedIndex(int capacity) {
+        capacity = Math.max(capacity, 16);
+        types = new byte[capacity];
+        ids = new long[capacity];
+        postIds = new long[capacity];
+        lengths = new int[capacity];
+        terms = new String[capacity][];
+    }
+
+    /**
+     * 색인할 원문 (재색인 때 DB 에서 읽은 한 행)
+     */
+    public record Source(byte type, long id, long postId, String text) {}
+
+    /**
+     * 검색 결과 한 건
+     */
+    public record Hit(byte type, long id, long postId, double score) {}
+
+    /**
+     * 검색 결과 한 페이지와 전체 일치 건수
+     */
+    public record Page(long total, List<Hit> hits) {}
+
+    /**
+     * 여러 스레드로 나눠서 색인을 만듦
+     * 원문을 연속된 구간으로 나눠 구간마다 따로 색인한 뒤 순서대로 이어 붙임
+     * (구간의 슬롯 번호가 앞 구간보다 항상 크므로 postings 는 그대로 이어 붙이면 정렬됨)
+     */
+    public static InvertedIndex build(List<Source> sources, int threads) throws InterruptedException {
+        int parts = Math.max(1, Math.min(threads, sources.size() / 1_000 + 1));
+        if (parts == 1) {
+            InvertedIndex index = new InvertedIndex(sources.size());
+            sources.forEach(index::addUnlocked);
+            return index;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(parts);
+        try {
+            int chunk = (sources.size() + parts - 1) / parts;
+            List<Future<InvertedIndex>> futures = new ArrayList<>();
+            for (int from = 0; from < sources.size(); from += chunk) {
+                List<Source> slice = sources.subList(from, Math.min(from + chunk, sources.size()));
+                futures.add(executor.submit(() -> {
+                    InvertedIndex part = new InvertedIndex(slice.size());
+                    slice.forEach(part::addUnlocked);
+                    return part;
+                }));
+            }
+
+            InvertedIndex merged = new InvertedIndex(sources.size());
+            for (Future<InvertedIndex> future : futures) {
+                merged.append(future.get());
+            }
+            return merged;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("검색 색인 생성 실패", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 문서를 넣음 (이미 있으면 새 내용으로 바꿈)
+     */
+    public void put(byte type, long id, long postId, Map<String, Integer> grams) {
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(type, id);
+            addUnlocked(type, id, postId, grams);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(byte type, long id) {
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(type, id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글과 그 게시글의 댓글을 모두 뺌
+     */
+    public void removePost(long postId) {
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(POST, postId);
+            List<Long> comments = new ArrayList<>();
+            for (Integer slot : commentSlots.values()) {
+                if (postIds[slot] == postId) {
+                    comments.add(ids[slot]);
+                }
+            }
+            comments.forEach(id -> removeUnlocked(COMMENT, id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어의 gram 을 모두 가진 문서를 점수순으로 offset 부터 limit 건
+     * type 이 0 이면 게시글/댓글 모두
+     * 한 글자 검색어는 그 글자로 시작하는 gram 을 모두 합쳐서 찾음
+     */
+    public Page search(List<String> queryGrams, byte type, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            if (queryGrams.isEmpty() || liveCount == 0) {
+                return new Page(0, List.of());
+            }
+            List<Postings> lists = new ArrayList<>();
+            for (String gram : queryGrams) {
+                Postings list = gram.codePointCount(0, gram.length()) == 1 ? startingWith(gram) : postings.get(gram);
+                if (list == null || list.size == 0) {
+                    return new Page(0, List.of());
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(list -> list.size));
+
+            double avgLength = (double) totalLength / liveCount;
+            double[] idf = new double[lists.size()];
+            for (int i = 0; i < lists.size(); i++) {
+                int df = lists.get(i).size;
+                idf[i] = Math.log(1 + (liveCount - df + 0.5) / (df + 0.5));
+            }
+
+            int wanted = offset + limit;
+            PriorityQueue<Hit> top = new PriorityQueue<>(Comparator.comparingDouble(Hit::score));
+            int[] cursors = new int[lists.size()];
+            long total = 0;
+
+            Postings smallest = lists.get(0);
+            candidates:
+            for (int c = 0; c < smallest.size; c++) {
+                int slot = smallest.docs[c];
+                if (type != 0 && types[slot] != type) {
+                    continue;
+                }
+                double norm = K1 * (1 - B + B * lengths[slot] / avgLength);
+                double score = idf[0] * smallest.tfs[c] * (K1 + 1) / (smallest.tfs[c] + norm);
+                for (int i = 1; i < lists.size(); i++) {
+                    Postings list = lists.get(i);
+                    int found = Arrays.binarySearch(list.docs, cursors[i], list.size, slot);
+                    if (found < 0) {
+                        cursors[i] = -found - 1;
+                        continue candidates;
+                    }
+                    cursors[i] = found + 1;
+                    score += idf[i] * list.tfs[found] * (K1 + 1) / (list.tfs[found] + norm);
+                }
+
+                total++;
+                if (wanted > 0 && (top.size() < wanted || score > top.peek().score())) {
+                    top.add(new Hit(types[slot], ids[slot], postIds[slot], score));
+                    if (top.size() > wanted) {
+                        top.poll();
+                    }
+                }
+            }
+
+            List<Hit> ranked = new ArrayList<>(top);
+            ranked.sort(Comparator.comparingDouble(Hit::score).reversed());
+            List<Hit> page = offset >= ranked.size() ? List.of() : ranked.subList(offset, ranked.size());
+            return new Page(total, new ArrayList<>(page));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int documentCount() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인이 차지하는 힙 크기 추정치 (64비트 JVM, 압축 포인터 기준)
+     * gram 문자열/HashMap 항목/postings 배열 + 슬롯별 문서 정보
+     */
+    public long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = 0;
+            for (Postings list : postings.values()) {
+                // String(24 + 배열 16 + 글자) + HashMap.Node 32 + 테이블 칸 4 + Postings 24 + int[] 두 개
+                bytes += 24 + 16 + 2L * list.term.length() + 32 + 4 + 24 + 2 * (16 + 4L * list.docs.length);
+            }
+            // 슬롯 배열 (type 1 + id 8 + postId 8 + length 4 + terms 참조 4)
+            bytes += 25L * types.length;
+            for (int slot = 0; slot < slotCount; slot++) {
+                if (terms[slot] != null) {
+                    bytes += 16 + 4L * terms[slot].length;
+                }
+            }
+            // id -> 슬롯 HashMap 항목 (Node 32 + Long 16 + Integer 16 + 테이블 칸 4)
+            bytes += 68L * (postSlots.size() + commentSlots.size());
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addUnlocked(Source source) {
+        addUnlocked(source.type(), source.id(), source.postId(), NgramTokenizer.countGrams(source.text()));
+    }
+
+    private void addUnlocked(byte type, long id, long postId, Map<String, Integer> grams) {
+        if (grams.isEmpty()) {
+            return;
+        }
+        int slot = nextSlot();
+        String[] docTerms = new String[grams.size()];
+        int length = 0;
+        int i = 0;
+        for (Map.Entry<String, Integer> entry : grams.entrySet()) {
+            Postings list = postings.computeIfAbsent(entry.getKey(), Postings::new);
+            list.add(slot, entry.getValue());
+            // 문서마다 같은 gram 문자열을 따로 들고 있지 않도록 색인의 것을 씀
+            docTerms[i++] = list.term;
+            length += entry.getValue();
+        }
+        types[slot] = type;
+        ids[slot] = id;
+        postIds[slot] = postId;
+        lengths[slot] = length;
+        terms[slot] = docTerms;
+        slotsOf(type).put(id, slot);
+        liveCount++;
+        totalLength += length;
+    }
+
+    private void removeUnlocked(byte type, long id) {
+        Integer slot = slotsOf(type).remove(id);
+        if (slot == null) {
+            return;
+        }
+        for (String term : terms[slot]) {
+            Postings list = postings.get(term);
+            list.remove(slot);
+            if (list.size == 0) {
+                postings.remove(term);
+            }
+        }
+        terms[slot] = null;
+        liveCount--;
+        totalLength -= lengths[slot];
+    }
+
+    // 다른 색인(build 의 한 구간)을 슬롯 번호를 밀어서 뒤에 이어 붙임
+    private void append(InvertedIndex part) {
+        int offset = slotCount;
+        while (types.length < offset + part.slotCount) {
+            grow();
+        }
+        System.arraycopy(part.types, 0, types, offset, part.slotCount);
+        System.arraycopy(part.ids, 0, ids, offset, part.slotCount);
+        System.arraycopy(part.postIds, 0, postIds, offset, part.slotCount);
+        System.arraycopy(part.lengths, 0, lengths, offset, part.slotCount);
+        System.arraycopy(part.terms, 0, terms, offset, part.slotCount);
+        slotCount += part.slotCount;
+        liveCount += part.liveCount;
+        totalLength += part.totalLength;
+        part.postSlots.forEach((id, slot) -> postSlots.put(id, slot + offset));
+        part.commentSlots.forEach((id, slot) -> commentSlots.put(id, slot + offset));
+        part.postings.forEach((term, list) -> postings.computeIfAbsent(term, Postings::new).addAll(list, offset));
+    }
+
+    private int nextSlot() {
+        if (slotCount == types.length) {
+            grow();
+        }
+        return slotCount++;
+    }
+
+    private void grow() {
+        int capacity = types.length * 2;
+        types = Arrays.copyOf(types, capacity);
+        ids = Arrays.copyOf(ids, capacity);
+        postIds = Arrays.copyOf(postIds, capacity);
+        lengths = Arrays.copyOf(lengths, capacity);
+        terms = Arrays.copyOf(terms, capacity);
+    }
+
+    private Map<Long, Integer> slotsOf(byte type) {
+        return type == POST ? postSlots : commentSlots;
+    }
+
+    // 한 글자로 시작하는 gram 들의 postings 를 합침 (한 글자 검색은 드물어서 전체 gram 을 훑음)
+    private Postings startingWith(String prefix) {
+        Map<Integer, Integer> merged = new HashMap<>();
+        postings.forEach((term, list) -> {
+            if (term.startsWith(prefix)) {
+                for (int i = 0; i < list.size; i++) {
+                    merged.merge(list.docs[i], list.tfs[i], Integer::sum);
+                }
+            }
+        });
+        Postings union = new Postings(prefix);
+        merged.keySet().stream().sorted().forEach(slot -> union.add(slot, merged.get(slot)));
+        return union;
+    }
+
+    /**
+     * gram 하나의 문서 목록 (슬롯 번호 오름차순, 문서 안 등장 횟수)
+     */
+    private static final class Postings {
+
+        private final String term;
+        private int[] docs = new int[2];
+        private int[] tfs = new int[2];
+        private int size;
+
+        private Postings(String term) {
+            this.term = term;
+        }
+
+        private void add(int slot, int tf) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                tfs = Arrays.copyOf(tfs, size * 2);
+            }
+            docs[size] = slot;
+            tfs[size] = tf;
+            size++;
+        }
+
+        private void addAll(Postings other, int offset) {
+            if (size + other.size > docs.length) {
+                docs = Arrays.copyOf(docs, size + other.size);
+                tfs = Arrays.copyOf(tfs, size + other.size);
+            }
+            for (int i = 0; i < other.size; i++) {
+                docs[size + i] = other.docs[i] + offset;
+            }
+            System.arraycopy(other.tfs, 0, tfs, size, other.size);
+            size += other.size;
+        }
+
+        private void remove(int slot) {
+            int found = Arrays.binarySearch(docs, 0, size, slot);
+            if (found < 0) {
+                return;
+            }
+            System.arraycopy(docs, found + 1, docs, found, size - found - 1);
+            System.arraycopy(tfs, found + 1, tfs, found, size - found - 1);
+            size--;
+        }
+    }
+}
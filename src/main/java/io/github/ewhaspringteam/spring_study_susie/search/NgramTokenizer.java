@@ -0,0 +1,70 @@
+package io.github.ewhaspringteam.spring_study_susie.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 검색용 n-gram 분리
+ * 한국어는 띄어쓰기와 조사 때문에 단어 단위로 자르면 "스프링을", "스프링은" 이 서로 다른 단어가 되므로
+ * 글자/숫자가 이어진 구간마다 두 글자씩(bigram) 잘라서 색인함 (한 글자짜리 구간은 그 글자 하나)
+ * 대소문자와 전각/반각은 NFKC + 소문자로 맞춤
+ */
+public final class NgramTokenizer {
+
+    private NgramTokenizer() {}
+
+    /**
+     * 본문의 gram 별 등장 횟수
+     */
+    public static Map<String, Integer> countGrams(String text) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String gram : grams(text)) {
+            counts.merge(gram, 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    /**
+     * 검색어의 gram (중복 제거, 순서 유지)
+     */
+    public static List<String> queryGrams(String query) {
+        Set<String> distinct = new LinkedHashSet<>(grams(query));
+        return new ArrayList<>(distinct);
+    }
+
+    private static List<String> grams(String text) {
+        List<String> grams = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return grams;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int[] codePoints = normalized.codePoints().toArray();
+
+        int start = 0;
+        while (start < codePoints.length) {
+            if (!Character.isLetterOrDigit(codePoints[start])) {
+                start++;
+                continue;
+            }
+            int end = start;
+            while (end < codePoints.length && Character.isLetterOrDigit(codePoints[end])) {
+                end++;
+            }
+            if (end - start == 1) {
+                grams.add(new String(codePoints, start, 1));
+            } else {
+                for (int i = start; i + 1 < end; i++) {
+                    grams.add(new String(codePoints, i, 2));
+                }
+            }
+            start = end;
+        }
+        return grams;
+    }
+}
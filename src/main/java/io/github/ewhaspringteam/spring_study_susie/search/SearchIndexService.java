@@ -0,0 +1,334 @@
+package io.github.ewhaspringteam.spring_study_susie.search;
+
+import io.github.ewhaspringteam.spring_study_susie.dto.SearchPageDto;
+import io.github.ewhaspringteam.spring_study_susie.dto.SearchResultDto;
+import io.github.ewhaspringteam.spring_study_susie.entity.Comment;
+import io.github.ewhaspringteam.spring_study_susie.entity.Post;
+import io.github.ewhaspringteam.spring_study_susie.invalidation.CacheInvalidationEvent;
+import io.github.ewhaspringteam.spring_study_susie.repository.CommentRepository;
+import io.github.ewhaspringteam.spring_study_susie.repository.PostRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글/댓글 검색 (메모리 역색인)
+ * - 기동 때 DB 의 게시글과 삭제되지 않은 댓글로 색인을 여러 스레드로 만듦 (워밍업보다 먼저, readiness 전)
+ * - 이후에는 작성/수정/삭제가 커밋될 때마다 그 문서만 색인에 반영
+ * - 재색인 중에 들어온 변경은 기존 색인에 반영하면서 따로 모아 두었다가 새 색인에 다시 적용한 뒤 교체
+ * 색인 크기는 app.search.index.{documents,terms,bytes}, 검색 시간은 app.search.latency 메트릭으로 남김
+ */
+@Service
+@Order(0)
+public class SearchIndexService implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexService.class);
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    @Autowired
+    private SearchProperties properties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private volatile InvertedIndex index = new InvertedIndex();
+
+    // 색인 변경 순서를 정하는 잠금 (재색인 중 변경 모으기와 색인 교체도 이 안에서)
+    private final Object updateLock = new Object();
+    private List<Consumer<InvertedIndex>> pendingDuringRebuild;
+
+    private Timer latency;
+
+    @PostConstruct
+    void registerMetrics() {
+        latency = Timer.builder("app.search.latency")
+                .description("검색 한 번에 걸린 시간 (색인 조회, 결과 조회 포함)")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("app.search.index.documents", this, service -> service.index.documentCount())
+                .description("검색 색인에 들어 있는 게시글/댓글 수")
+                .register(meterRegistry);
+        Gauge.builder("app.search.index.terms", this, service -> service.index.termCount())
+                .description("검색 색인의 gram 수")
+                .register(meterRegistry);
+        Gauge.builder("app.search.index.bytes", this, service -> service.index.estimatedBytes())
+                .description("검색 색인이 차지하는 힙 크기 추정치")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        if (properties.isEnabled()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * DB 에서 다시 읽어서 색인을 새로 만들고 교체
+     */
+    public synchronized void rebuild() throws InterruptedException {
+        long startedAt = System.nanoTime();
+        synchronized (updateLock) {
+            pendingDuringRebuild = new ArrayList<>();
+        }
+
+        try {
+            InvertedIndex rebuilt = buildFromDatabase();
+            int replayed;
+            synchronized (updateLock) {
+                replayed = pendingDuringRebuild.size();
+                pendingDuringRebuild.forEach(change -> change.accept(rebuilt));
+                index = rebuilt;
+            }
+            log.info("검색 색인 생성: 문서 {}개, gram {}개, 약 {}KB, {}ms (재색인 중 변경 {}건)",
+                    rebuilt.documentCount(), rebuilt.termCount(), rebuilt.estimatedBytes() / 1024,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt), replayed);
+        } finally {
+            synchronized (updateLock) {
+                pendingDuringRebuild = null;
+            }
+        }
+    }
+
+    private InvertedIndex buildFromDatabase() throws InterruptedException {
+        List<InvertedIndex.Source> sources = new ArrayList<>();
+        jdbcTemplate.query("SELECT id, title, content FROM posts ORDER BY id", rs -> {
+            sources.add(new InvertedIndex.Source(InvertedIndex.POST, rs.getLong("id"), rs.getLong("id"),
+                    rs.getString("title") + "\n" + rs.getString("content")));
+        });
+        jdbcTemplate.query("SELECT id, post_id, content FROM comments WHERE deleted = FALSE ORDER BY id", rs -> {
+            sources.add(new InvertedIndex.Source(InvertedIndex.COMMENT, rs.getLong("id"), rs.getLong("post_id"),
+                    rs.getString("content")));
+        });
+        return InvertedIndex.build(sources, properties.getRebuildThreads());
+    }
+
+    /**
+     * 게시글을 색인에 넣음 (커밋된 뒤 반영)
+     */
+    public void indexPost(Post post) {
+        long id = post.getId();
+        Map<String, Integer> grams = NgramTokenizer.countGrams(post.getTitle() + "\n" + post.getContent());
+        afterCommit(target -> target.put(InvertedIndex.POST, id, id, grams));
+    }
+
+    /**
+     * 게시글과 그 댓글들을 색인에서 뺌
+     */
+    public void removePosts(Collection<Long> postIds) {
+        List<Long> ids = new ArrayList<>(postIds);
+        afterCommit(target -> ids.forEach(target::removePost));
+    }
+
+    /**
+     * 댓글을 색인에 넣거나 새 내용으로 바꿈 (삭제된 댓글이면 뺌)
+     */
+    public void indexComment(Comment comment) {
+        long id = comment.getId();
+        if (comment.getDeleted()) {
+            afterCommit(target -> target.remove(InvertedIndex.COMMENT, id));
+            return;
+        }
+        long postId = comment.getPost().getId();
+        Map<String, Integer> grams = NgramTokenizer.countGrams(comment.getContent());
+        afterCommit(target -> target.put(InvertedIndex.COMMENT, id, postId, grams));
+    }
+
+    /**
+     * 댓글들을 색인에서 뺌 (논리/물리 삭제)
+     */
+    public void removeComments(Collection<Long> commentIds) {
+        List<Long> ids = new ArrayList<>(commentIds);
+        afterCommit(target -> ids.forEach(id -> target.remove(InvertedIndex.COMMENT, id)));
+    }
+
+    /**
+     * 다른 인스턴스에서 커밋된 변경 반영
+     * 그 문서만 DB 에서 다시 읽어서 넣거나 뺌 (2차 캐시를 거치지 않도록 JDBC 로 읽음)
+     */
+    @EventListener
+    public void onRemoteChange(CacheInvalidationEvent event) {
+        switch (event.getKind()) {
+            case POST_CREATED -> jdbcTemplate.query("SELECT id, title, content FROM posts WHERE id = ?", rs -> {
+                Map<String, Integer> grams = NgramTokenizer.countGrams(rs.getString("title") + "\n" + rs.getString("content"));
+                long id = rs.getLong("id");
+                afterCommit(target -> target.put(InvertedIndex.POST, id, id, grams));
+            }, event.getPostId());
+            case POST_REMOVED -> removePosts(List.of(event.getPostId()));
+            case COMMENT_CHANGED -> {
+                List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                        "SELECT post_id, content FROM comments WHERE id = ? AND deleted = FALSE", event.getCommentId());
+                long id = event.getCommentId();
+                if (rows.isEmpty()) {
+                    afterCommit(target -> target.remove(InvertedIndex.COMMENT, id));
+                } else {
+                    long postId = ((Number) rows.get(0).get("POST_ID")).longValue();
+                    Map<String, Integer> grams = NgramTokenizer.countGrams((String) rows.get(0).get("CONTENT"));
+                    afterCommit(target -> target.put(InvertedIndex.COMMENT, id, postId, grams));
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * 검색 (type: "post", "comment", 없으면 모두)
+     * 색인에서 점수순으로 한 페이지를 고른 뒤 그 게시글/댓글만 DB 에서 읽어서 제목/발췌를 붙임
+     */
+    @Transactional(readOnly = true)
+    public SearchPageDto search(String query, String type, int page, int size) {
+        List<String> grams = NgramTokenizer.queryGrams(query);
+        if (grams.isEmpty()) {
+            throw new RuntimeException("검색어를 입력해 주세요.");
+        }
+        if (page < 0 || size < 1 || size > properties.getMaxPageSize()) {
+            throw new RuntimeException("page 는 0 이상, size 는 1~" + properties.getMaxPageSize() + " 이어야 합니다.");
+        }
+        byte typeFilter = typeOf(type);
+
+        long startedAt = System.nanoTime();
+        InvertedIndex.Page found = index.search(grams, typeFilter, page * size, size);
+        List<SearchResultDto> results = hydrate(found.hits(), query);
+        long elapsed = System.nanoTime() - startedAt;
+        latency.record(elapsed, TimeUnit.NANOSECONDS);
+
+        return new SearchPageDto(query, found.total(), page, size, TimeUnit.NANOSECONDS.toMicros(elapsed), results);
+    }
+
+    /**
+     * 색인 크기와 검색 시간 요약
+     */
+    public Map<String, Object> getStats() {
+        InvertedIndex current = index;
+        return Map.of(
+                "documents", current.documentCount(),
+                "terms", current.termCount(),
+                "estimatedBytes", current.estimatedBytes(),
+                "queries", latency.count(),
+                "meanMicros", (long) latency.mean(TimeUnit.MICROSECONDS),
+                "maxMicros", (long) latency.max(TimeUnit.MICROSECONDS)
+        );
+    }
+
+    private byte typeOf(String type) {
+        if (type == null || type.isBlank() || "all".equals(type)) {
+            return 0;
+        }
+        if ("post".equals(type)) {
+            return InvertedIndex.POST;
+        }
+        if ("comment".equals(type)) {
+            return InvertedIndex.COMMENT;
+        }
+        throw new RuntimeException("type 은 post, comment 중 하나여야 합니다.");
+    }
+
+    // 색인에서 고른 순서를 유지하고, 그 사이 지워져 DB 에 없는 것은 뺌
+    private List<SearchResultDto> hydrate(List<InvertedIndex.Hit> hits, String query) {
+        List<Long> postIds = new ArrayList<>();
+        List<Long> commentIds = new ArrayList<>();
+        for (InvertedIndex.Hit hit : hits) {
+            (hit.type() == InvertedIndex.POST ? postIds : commentIds).add(hit.id());
+        }
+        Map<Long, Post> posts = postIds.isEmpty() ? Map.of() : postRepository.findAllById(postIds).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        Map<Long, Comment> comments = commentIds.isEmpty() ? Map.of() : commentRepository.findAllById(commentIds).stream()
+                .filter(comment -> !comment.getDeleted())
+                .collect(Collectors.toMap(Comment::getId, Function.identity()));
+
+        List<SearchResultDto> results = new ArrayList<>();
+        for (InvertedIndex.Hit hit : hits) {
+            if (hit.type() == InvertedIndex.POST) {
+                Post post = posts.get(hit.id());
+                if (post != null) {
+                    results.add(new SearchResultDto("post", post.getId(), post.getId(), post.getTitle(),
+                            snippet(post.getContent(), query), post.getAuthorId(),
+                            post.getCreatedAt().format(DATE_FORMAT), hit.score()));
+                }
+            } else {
+                Comment comment = comments.get(hit.id());
+                if (comment != null) {
+                    results.add(new SearchResultDto("comment", comment.getId(), hit.postId(), null,
+                            snippet(comment.getContent(), query), comment.getAuthorId(),
+                            comment.getCreatedAt().format(DATE_FORMAT), hit.score()));
+                }
+            }
+        }
+        return results;
+    }
+
+    // 검색어가 처음 나오는 곳을 가운데에 둔 발췌 (검색어가 그대로 없으면 앞부분)
+    private String snippet(String text, String query) {
+        int length = properties.getSnippetLength();
+        if (text.length() <= length) {
+            return text;
+        }
+        String normalizedQuery = Normalizer.normalize(query.trim(), Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int at = text.toLowerCase(Locale.ROOT).indexOf(normalizedQuery);
+        int start = at < 0 ? 0 : Math.max(0, Math.min(at - length / 3, text.length() - length));
+        return (start > 0 ? "…" : "") + text.substring(start, start + length)
+                + (start + length < text.length() ? "…" : "");
+    }
+
+    // 커밋된 뒤에 색인에 반영 (롤백되면 반영하지 않음)
+    private void afterCommit(Consumer<InvertedIndex> change) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Runnable apply = () -> {
+            synchronized (updateLock) {
+                change.accept(index);
+                if (pendingDuringRebuild != null) {
+                    pendingDuringRebuild.add(change);
+                }
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply.run();
+            }
+        });
+    }
+}
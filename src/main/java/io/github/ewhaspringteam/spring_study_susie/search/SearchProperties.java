@@ -0,0 +1,54 @@
+package io.github.ewhaspringteam.spring_study_susie.search;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 게시글/댓글 검색 설정 (app.search.*)
+ */
+@ConfigurationProperties(prefix = "app.search")
+public class SearchProperties {
+
+    // 끄면 기동 때 색인을 만들지 않고 검색 결과도 항상 비어 있음
+    private boolean enabled = true;
+
+    // 기동 때 색인을 나눠 만들 스레드 수
+    private int rebuildThreads = Runtime.getRuntime().availableProcessors();
+
+    // 한 페이지 최대 건수
+    private int maxPageSize = 50;
+
+    // 결과에 보여줄 본문 발췌 길이 (글자)
+    private int snippetLength = 80;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getRebuildThreads() {
+        return rebuildThreads;
+    }
+
+    public void setRebuildThreads(int rebuildThreads) {
+        this.rebuildThreads = rebuildThreads;
+    }
+
+    public int getMaxPageSize() {
+        return maxPageSize;
+    }
+
+    public void setMaxPageSize(int maxPageSize) {
+        this.maxPageSize = maxPageSize;
+    }
+
+    public int getSnippetLength() {
+        return snippetLength;
+    }
+
+    public void setSnippetLength(int snippetLength) {
+        this.snippetLength = snippetLength;
+    }
+}
@@ -0,0 +1,298 @@
+package io.github.ewhaspringteam.spring_study_susie.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.ewhaspringteam.spring_study_susie.dto.CommentChangeDto;
+import io.github.ewhaspringteam.spring_study_susie.dto.CommentSyncDto;
+import io.github.ewhaspringteam.spring_study_susie.entity.Comment;
+import io.github.ewhaspringteam.spring_study_susie.entity.CacheInvalidation;
+import io.github.ewhaspringteam.spring_study_susie.entity.CommentChange;
+import io.github.ewhaspringteam.spring_study_susie.invalidation.CacheInvalidationEvent;
+import io.github.ewhaspringteam.spring_study_susie.invalidation.InvalidationBus;
+import io.github.ewhaspringteam.spring_study_susie.repository.CommentChangeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글별 댓글 변경 기록 (comment_changes 테이블 + 최근 변경만 담는 메모리 로그)
+ * 재접속한 클라이언트가 전체 트리를 다시 받지 않고 since 버전 이후의 변경만 받아갈 수 있게 함
+ */
+@Service
+public class CommentChangeLogService {
+
+    private static final Logger log = LoggerFactory.getLogger(CommentChangeLogService.class);
+
+    @Autowired
+    private CommentChangeRepository commentChangeRepository;
+
+    @Autowired
+    private PostVersionTracker postVersionTracker;
+
+    @Autowired
+    private CommentChangeProperties properties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    @Autowired
+    private CommentMetadataIndex commentMetadataIndex;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private Clock clock;
+
+    // 게시글 ID -> 최근 변경 (버전 순)
+    private Cache<Long, NavigableMap<Long, CommentChangeDto>> recentChanges;
+
+    // 버전 UPDATE 에 걸린 시간 (같은 게시글의 다른 쓰기가 커밋하기를 기다린 시간이 대부분)
+    private Timer versionWait;
+
+    @PostConstruct
+    void init() {
+        recentChanges = Caffeine.newBuilder()
+                .maximumSize(properties.getMemoryPosts())
+                .build();
+        versionWait = Timer.builder("app.comments.version.wait")
+                .description("댓글 변경 버전을 매기는 UPDATE 시간 (같은 게시글의 쓰기끼리 기다린 시간)")
+                .register(meterRegistry);
+        // comment_version 컬럼이 생기기 전 기록이 있는 DB 면 버전을 기록에 맞춰서 이어서 매기게 함
+        jdbcTemplate.update("UPDATE posts p SET comment_version = "
+                + "(SELECT MAX(cc.version) FROM comment_changes cc WHERE cc.post_id = p.id) "
+                + "WHERE EXISTS (SELECT 1 FROM comment_changes cc WHERE cc.post_id = p.id AND cc.version > p.comment_version)");
+    }
+
+    /**
+     * 게시글의 마지막 댓글 변경 버전 (잠그지 않고 읽음, 게시글이 없으면 예외)
+     */
+    public long currentVersion(Long postId) {
+        List<Long> found = jdbcTemplate.queryForList("SELECT comment_version FROM posts WHERE id = ?", Long.class, postId);
+        if (found.isEmpty()) {
+            throw new RuntimeException("게시글을 찾을 수 없습니다.");
+        }
+        return found.get(0);
+    }
+
+    /**
+     * 댓글 변경 기록 (댓글을 바꾸는 트랜잭션의 마지막 단계에서 호출)
+     * 버전은 게시글 행의 comment_version 을 올리는 UPDATE 한 문장으로 매김
+     * 게시글 행 잠금은 이 문장부터 커밋까지만 잡히므로 같은 게시글의 다른 쓰기는 앞부분(검증, 댓글 INSERT/UPDATE)을 함께 진행하고
+     * 커밋 직전의 이 부분만 한 줄로 섬 (그래서 버전은 여전히 커밋 순서대로 빠짐없이 증가함)
+     */
+    @Transactional
+    public long record(Comment comment, CommentChange.Type type) {
+        Long postId = comment.getPost().getId();
+        long version = nextVersion(postId, 1);
+        commentMetadataIndex.apply(postId, version, type, comment.getId(), comment.getDepth());
+
+        CommentChange change = commentChangeRepository.save(new CommentChange(postId, version, type, comment, LocalDateTime.now(clock)));
+        CommentChangeDto dto = CommentChangeDto.fromEntity(change);
+        invalidationBus.publish(CacheInvalidation.Kind.COMMENT_CHANGED, postId, comment.getId(), version);
+
+        // 메모리 로그와 ETag 버전은 커밋된 뒤에만 반영
+        afterCommit(() -> {
+            addRecent(postId, dto);
+            postVersionTracker.advance(postId, version);
+        });
+        return version;
+    }
+
+    /**
+     * 여러 댓글의 같은 종류 변경을 한꺼번에 기록 (관리자 일괄 삭제/정리용, 게시글마다 버전을 한 번에 올리고 INSERT 는 배치 한 번)
+     * 메모리 로그에는 넣지 않고 해당 게시글의 메모리 로그를 버려서 그 뒤 델타는 DB 기록으로 답하게 함
+     */
+    @Transactional
+    public void recordAll(List<Comment> comments, CommentChange.Type type) {
+        if (comments.isEmpty()) {
+            return;
+        }
+        // 게시글 id 순으로 버전을 올려서 여러 게시글의 행을 잡을 때 서로 엇갈리지 않게 함
+        Map<Long, List<Comment>> byPost = comments.stream()
+                .collect(Collectors.groupingBy(comment -> comment.getPost().getId(), TreeMap::new, Collectors.toList()));
+        Timestamp changedAt = Timestamp.valueOf(LocalDateTime.now(clock));
+
+        List<Object[]> rows = new ArrayList<>();
+        List<long[]> invalidations = new ArrayList<>();
+        Map<Long, Long> latestVersions = new HashMap<>();
+        for (Map.Entry<Long, List<Comment>> entry : byPost.entrySet()) {
+            Long postId = entry.getKey();
+            long version = nextVersion(postId, entry.getValue().size()) - entry.getValue().size();
+            for (Comment comment : entry.getValue()) {
+                version++;
+                commentMetadataIndex.apply(postId, version, type, comment.getId(), comment.getDepth());
+                rows.add(new Object[] {
+                        postId, version, type.name(), comment.getId(),
+                        comment.getParent() != null ? comment.getParent().getId() : null,
+                        comment.getAuthorId(), comment.getContent(), comment.getDepth(),
+                        Timestamp.valueOf(comment.getCreatedAt()),
+                        comment.getUpdatedAt() != null ? Timestamp.valueOf(comment.getUpdatedAt()) : null,
+                        changedAt
+                });
+                invalidations.add(new long[] {postId, comment.getId(), version});
+            }
+            latestVersions.put(postId, version);
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO comment_changes (post_id, version, type, comment_id, parent_id, author_id, content, depth, "
+                        + "created_at, updated_at, changed_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                rows);
+        invalidationBus.publishComments(invalidations);
+
+        afterCommit(() -> latestVersions.forEach((postId, version) -> {
+            recentChanges.invalidate(postId);
+            postVersionTracker.advance(postId, version);
+        }));
+    }
+
+    /**
+     * 다른 인스턴스에서 커밋된 댓글 변경 / 게시글 삭제 반영
+     * 그 변경은 이 인스턴스의 메모리 로그에 없으므로 로그를 버려서 다음 델타는 DB 기록으로 답하게 하고, ETag 버전을 올림 (지워진 게시글은 버림)
+     */
+    @EventListener
+    public void onRemoteChange(CacheInvalidationEvent event) {
+        switch (event.getKind()) {
+            case COMMENT_CHANGED -> {
+                recentChanges.invalidate(event.getPostId());
+                postVersionTracker.advance(event.getPostId(), event.getVersion());
+            }
+            case POST_REMOVED -> {
+                recentChanges.invalidate(event.getPostId());
+                postVersionTracker.forget(event.getPostId());
+            }
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * since 이후의 변경 목록
+     * 메모리 로그로 빠짐없이 답할 수 있으면 DB를 읽지 않음
+     * 스냅샷을 보내야 하는 경우(너무 뒤처짐, 보존 기간이 지나 기록이 지워짐, 서버보다 앞선 버전)에는 null
+     */
+    @Transactional(readOnly = true)
+    public CommentSyncDto findDelta(Long postId, long since) {
+        CommentSyncDto fromMemory = findDeltaInMemory(postId, since);
+        if (fromMemory != null) {
+            return fromMemory;
+        }
+
+        long latest = commentChangeRepository.findLatestVersion(postId);
+        if (since == latest) {
+            return CommentSyncDto.delta(latest, List.of());
+        }
+        if (since > latest || latest - since > properties.getMaxDelta()) {
+            return null;
+        }
+
+        List<CommentChange> changes = commentChangeRepository.findChangesSince(
+                postId, since, PageRequest.of(0, properties.getMaxDelta()));
+        if (changes.isEmpty() || changes.get(0).getVersion() != since + 1) {
+            return null;
+        }
+        return CommentSyncDto.delta(
+                changes.get(changes.size() - 1).getVersion(),
+                changes.stream().map(CommentChangeDto::fromEntity).collect(Collectors.toList()));
+    }
+
+    /**
+     * 게시글의 마지막 변경 버전 (스냅샷과 함께 내려줄 버전)
+     */
+    @Transactional(readOnly = true)
+    public long getLatestVersion(Long postId) {
+        return commentChangeRepository.findLatestVersion(postId);
+    }
+
+    /**
+     * 보존 기간이 지난 변경 기록 정리 (1시간마다)
+     */
+    @Scheduled(fixedDelay = 3_600_000)
+    @Transactional
+    public void pruneExpiredChanges() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(properties.getRetention());
+        int deleted = commentChangeRepository.deleteOlderThan(cutoff);
+        if (deleted > 0) {
+            log.info("정리된 댓글 변경 기록 수: {}", deleted);
+        }
+    }
+
+    private CommentSyncDto findDeltaInMemory(Long postId, long since) {
+        NavigableMap<Long, CommentChangeDto> recent = recentChanges.getIfPresent(postId);
+        if (recent == null || recent.isEmpty()) {
+            return null;
+        }
+
+        long last = recent.lastKey();
+        if (since == last) {
+            return CommentSyncDto.delta(last, List.of());
+        }
+
+        NavigableMap<Long, CommentChangeDto> newer = recent.tailMap(since, false);
+        // since 바로 다음부터 끝까지 빠짐없이 있어야 메모리로 답할 수 있음
+        if (newer.isEmpty() || newer.firstKey() != since + 1
+                || newer.lastKey() - since != newer.size() || newer.size() > properties.getMaxDelta()) {
+            return null;
+        }
+        return CommentSyncDto.delta(newer.lastKey(), new ArrayList<>(newer.values()));
+    }
+
+    private void addRecent(Long postId, CommentChangeDto change) {
+        NavigableMap<Long, CommentChangeDto> recent = recentChanges.get(postId, id -> new ConcurrentSkipListMap<>());
+        recent.put(change.getVersion(), change);
+        while (recent.size() > properties.getMemoryPerPost()) {
+            recent.pollFirstEntry();
+        }
+    }
+
+    // 게시글의 댓글 버전을 count 만큼 올리고 올린 뒤의 값을 돌려줌 (게시글 행은 이때부터 커밋까지 잠김)
+    private long nextVersion(Long postId, int count) {
+        long startedAt = System.nanoTime();
+        int updated = jdbcTemplate.update("UPDATE posts SET comment_version = comment_version + ? WHERE id = ?", count, postId);
+        versionWait.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        if (updated == 0) {
+            throw new RuntimeException("게시글을 찾을 수 없습니다.");
+        }
+        return jdbcTemplate.queryForObject("SELECT comment_version FROM posts WHERE id = ?", Long.class, postId);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
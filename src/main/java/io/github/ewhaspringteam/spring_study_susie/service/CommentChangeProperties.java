@@ -0,0 +1,56 @@
+package io.github.ewhaspringteam.spring_study_susie.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 댓글 변경 기록 / 델타 동기화 설정 (app.comment-changes.*)
+ */
+@ConfigurationProperties(prefix = "app.comment-changes")
+public class CommentChangeProperties {
+
+    // 게시글마다 메모리에 들고 있을 최근 변경 수
+    private int memoryPerPost = 200;
+
+    // 메모리 로그를 유지할 게시글 수 (오래 안 쓰인 게시글부터 버림)
+    private int memoryPosts = 50;
+
+    // 이보다 많이 뒤처진 클라이언트에는 변경 목록 대신 전체 스냅샷을 보냄
+    private int maxDelta = 500;
+
+    // DB 변경 기록 보존 기간
+    private Duration retention = Duration.ofDays(7);
+
+    public int getMemoryPerPost() {
+        return memoryPerPost;
+    }
+
+    public void setMemoryPerPost(int memoryPerPost) {
+        this.memoryPerPost = memoryPerPost;
+    }
+
+    public int getMemoryPosts() {
+        return memoryPosts;
+    }
+
+    public void setMemoryPosts(int memoryPosts) {
+        this.memoryPosts = memoryPosts;
+    }
+
+    public int getMaxDelta() {
+        return maxDelta;
+    }
+
+    public void setMaxDelta(int maxDelta) {
+        this.maxDelta = maxDelta;
+    }
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    public void setRetention(Duration retention) {
+        this.retention = retention;
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.ewhaspringteam.spring_study_susie.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 삭제된 댓글 정리 설정 (app.comment-compaction.*)
+ * 한 번에 batch-size 개씩 interval 마다 지우므로 초당 최대 batch-size / interval 행만 지움
+ */
+@ConfigurationProperties(prefix = "app.comment-compaction")
+public class CommentCompactionProperties {
+
+    private boolean enabled = true;
+
+    // 배치 사이 간격 (한 배치가 끝난 뒤부터 잼)
+    private Duration interval = Duration.ofSeconds(2);
+
+    // 배치가 지울 댓글을 하나도 찾지 못했을 때 다음 배치까지 쉬는 시간
+    // (삭제 후 min-age 가 지나야 대상이 되므로 그동안 interval 마다 후보를 찾는 쿼리를 반복하지 않음)
+    private Duration idleInterval = Duration.ofMinutes(1);
+
+    // 한 트랜잭션에서 지울 최대 댓글 수
+    private int batchSize = 50;
+
+    // 삭제된 지 이만큼 지난 댓글만 지움 (보고 있던 화면에서 갑자기 사라지지 않도록)
+    private Duration minAge = Duration.ofMinutes(10);
+
+    // 커넥션 풀 사용률이 이 이상이거나 커넥션을 기다리는 요청이 있으면 이번 배치는 쉼
+    private double maxPoolUsage = 0.5;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getInterval() {
+        return interval;
+    }
+
+    public void setInterval(Duration interval) {
+        this.interval = interval;
+    }
+
+    public Duration getIdleInterval() {
+        return idleInterval;
+    }
+
+    public void setIdleInterval(Duration idleInterval) {
+        this.idleInterval = idleInterval;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getMinAge() {
+        return minAge;
+    }
+
+    public void setMinAge(Duration minAge) {
+        this.minAge = minAge;
+    }
+
+    public double getMaxPoolUsage() {
+        return maxPoolUsage;
+    }
+
+    public void setMaxPoolUsage(double maxPoolUsage) {
+        this.maxPoolUsage = maxPoolUsage;
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.ewhaspringteam.spring_study_susie.service;
+
+import io.github.ewhaspringteam.spring_study_susie.entity.Comment;
+import io.github.ewhaspringteam.spring_study_susie.entity.CommentChange;
+import io.github.ewhaspringteam.spring_study_susie.repository.CommentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 삭제된 댓글 정리
+ * 자식이 있어서 "삭제된 댓글입니다." 로만 남겨 둔 댓글은 자식이 다 지워진 뒤에도 남아 있으므로,
+ * 삭제된 지 min-age 가 지났고 자식이 하나도 남지 않은 삭제 댓글을 깊은 것부터 조금씩 물리 삭제함 (지우고 나면 그 부모가 다음 배치 대상이 됨)
+ * 삭제된 댓글에는 답글을 달 수 없으므로 한 번 자식이 없어진 삭제 댓글은 다시 자식이 생기지 않음
+ * 배치마다 짧은 트랜잭션 하나만 쓰고, 요청 처리로 커넥션 풀이 바쁘면 그 배치는 건너뜀
+ * 지울 것이 없던 배치 뒤에는 idle-interval 동안 쉼
+ * 지운 수는 app.comments.compacted 메트릭
+ */
+@Service
+public class CommentCompactor {
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private CommentChangeLogService commentChangeLogService;
+
+    @Autowired
+    private CommentCompactionProperties properties;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private Clock clock;
+
+    private Counter reclaimed;
+    private Counter skipped;
+
+    // 이 시각(System.nanoTime) 전에는 배치를 돌리지 않음 (지울 것이 없던 배치 뒤에 미룸)
+    private volatile long idleUntil = System.nanoTime();
+
+    @PostConstruct
+    void init() {
+        reclaimed = Counter.builder("app.comments.compacted")
+                .description("정리(물리 삭제)된 삭제 댓글 수")
+                .register(meterRegistry);
+        skipped = Counter.builder("app.comments.compaction.skipped")
+                .description("커넥션 풀이 바빠서 건너뛴 정리 배치 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 정리 배치 하나 (app.comment-compaction.interval 마다)
+     */
+    @Scheduled(fixedDelayString = "${app.comment-compaction.interval:2s}",
+            initialDelayString = "${app.comment-compaction.interval:2s}")
+    public void scheduledCompact() {
+        if (!properties.isEnabled() || System.nanoTime() - idleUntil < 0) {
+            return;
+        }
+        if (isPoolBusy()) {
+            skipped.increment();
+            return;
+        }
+        if (compactBatch() == 0) {
+            idleUntil = System.nanoTime() + properties.getIdleInterval().toNanos();
+        }
+    }
+
+    /**
+     * 자식이 없는 삭제 댓글을 최대 batch-size 개 물리 삭제 (지운 수 반환)
+     */
+    public int compactBatch() {
+        LocalDateTime deletedBefore = LocalDateTime.now(clock).minus(properties.getMinAge());
+        List<Long> candidates = commentRepository.findCompactableIds(deletedBefore, PageRequest.of(0, properties.getBatchSize()));
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+
+        Integer removed = transactionTemplate.execute(status -> {
+            List<Comment> targets = new ArrayList<>();
+            for (Long id : candidates) {
+                // 후보를 고른 뒤 바뀌었을 수 있으므로 잠그고 다시 확인
+                Optional<Comment> comment = commentRepository.findByIdForUpdate(id);
+                if (comment.isEmpty() || !comment.get().getDeleted() || commentRepository.existsByParent(comment.get())) {
+                    continue;
+                }
+                targets.add(comment.get());
+            }
+            // 댓글 쓰기와 같은 순서로 댓글 행을 모두 잠근 뒤에 게시글 버전을 올림
+            commentChangeLogService.recordAll(targets, CommentChange.Type.REMOVED);
+            commentRepository.deleteAll(targets);
+            return targets.size();
+        });
+        reclaimed.increment(removed);
+        return removed;
+    }
+
+    // 모든 Hikari 풀 기준 (replica 를 켜면 primary/replica 둘 다)
+    private boolean isPoolBusy() {
+        for (Gauge pending : meterRegistry.find("hikaricp.connections.pending").gauges()) {
+            if (pending.value() > 0) {
+                return true;
+            }
+        }
+        for (Gauge active : meterRegistry.find("hikaricp.connections.active").gauges()) {
+            Gauge max = meterRegistry.find("hikaricp.connections.max").tags(active.getId().getTags()).gauge();
+            if (max != null && max.value() > 0 && active.value() / max.value() >= properties.getMaxPoolUsage()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,21 @@
+package io.github.ewhaspringteam.spring_study_susie.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 답글 검증용 메모리 색인 설정 (app.comment-index.*)
+ */
+@ConfigurationProperties(prefix = "app.comment-index")
+public class CommentIndexProperties {
+
+    // 끄면 답글을 달 때 게시글과 부모 댓글 엔티티를 DB 에서 읽어서 확인 (예전 방식)
+    private boolean enabled = true;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+}
@@ -0,0 +1,333 @@
+package io.github.ewhaspringteam.spring_study_susie.service;
+
+import io.github.ewhaspringteam.spring_study_susie.entity.CacheInvalidation;
+import io.github.ewhaspringteam.spring_study_susie.entity.CommentChange;
+import io.github.ewhaspringteam.spring_study_susie.invalidation.CacheInvalidationEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 댓글 작성 검증용 메모리 색인 (게시글별 댓글 ID -> depth, 삭제 여부)
+ * 답글을 달 때 부모가 있는지, 삭제됐는지, 깊이가 얼마인지를 본문(TEXT)까지 든 엔티티를 읽지 않고 확인하기 위함
+ * 게시글마다 반영한 마지막 댓글 변경 버전(posts.comment_version)을 함께 들고 있어서
+ * "없음" 은 DB 의 마지막 버전과 같을 때만 믿고, 다르면 그 게시글만 DB 에서 다시 채움 (다른 인스턴스의 변경, 롤백 등으로 어긋나도 없는 댓글로 잘못 답하지 않음)
+ * 깊이는 댓글이 있는 동안 바뀌지 않으므로 색인에 있으면 그대로 씀
+ * 삭제 여부는 늦게 반영될 수 있으므로 호출한 쪽이 부모 행을 잠그고 DB 에서 다시 확인해야 함
+ * 변경 반영은 게시글 버전을 올린 뒤(게시글 행을 잡은 상태)에 하므로 같은 게시글 안에서는 커밋 순서대로 보임
+ * 초기화 전인 게시글만 들고 있고, 게시글이 지워지면 같이 버림
+ */
+@Component
+@Order(0)
+public class CommentMetadataIndex implements ApplicationRunner {
+
+    /**
+     * 색인에 없는 댓글 (그 게시글에 없음)
+     */
+    public static final int MISSING = -1;
+
+    // 메타 값: 하위 비트는 depth, DELETED 비트는 논리 삭제
+    private static final int DELETED = 0x40;
+    private static final int DEPTH_MASK = 0x3F;
+
+    @Autowired
+    private CommentIndexProperties properties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private Clock clock;
+
+    private final Map<Long, PostComments> posts = new ConcurrentHashMap<>();
+
+    private Counter hits;
+    private Counter reloads;
+
+    @PostConstruct
+    void registerMetrics() {
+        hits = Counter.builder("app.comments.index.lookups")
+                .tag("result", "hit")
+                .description("답글 검증을 메모리 색인으로 끝낸 횟수")
+                .register(meterRegistry);
+        reloads = Counter.builder("app.comments.index.lookups")
+                .tag("result", "reload")
+                .description("색인 버전이 DB 와 달라서 게시글의 댓글 정보를 다시 읽은 횟수")
+                .register(meterRegistry);
+        Gauge.builder("app.comments.index.size", this, index -> index.size())
+                .description("색인에 든 댓글 수")
+                .register(meterRegistry);
+    }
+
+    public static boolean isDeleted(int meta) {
+        return (meta & DELETED) != 0;
+    }
+
+    public static int depthOf(int meta) {
+        return meta & DEPTH_MASK;
+    }
+
+    /**
+     * 기동 때 초기화 전인 게시글의 댓글 정보를 미리 채움 (첫 답글부터 DB 를 읽지 않도록)
+     * 버전을 먼저 읽으므로 그 사이 변경이 있으면 내용이 버전보다 앞설 뿐이고, 이 경우 첫 검증에서 다시 채움
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now(clock));
+        Map<Long, PostComments> loaded = new HashMap<>();
+        jdbcTemplate.query("SELECT id, comment_version FROM posts WHERE reset_time > ?", rs -> {
+            loaded.put(rs.getLong("id"), new PostComments(rs.getLong("comment_version")));
+        }, now);
+        jdbcTemplate.query("SELECT c.id, c.post_id, c.depth, c.deleted FROM comments c "
+                + "JOIN posts p ON p.id = c.post_id WHERE p.reset_time > ?", rs -> {
+            PostComments comments = loaded.get(rs.getLong("post_id"));
+            if (comments != null) {
+                comments.put(rs.getLong("id"), meta(rs.getInt("depth"), rs.getBoolean("deleted")));
+            }
+        }, now);
+        posts.putAll(loaded);
+    }
+
+    /**
+     * 댓글의 메타 값 (없으면 MISSING)
+     * version 은 호출한 쪽이 방금 읽은 게시글의 마지막 변경 버전 (CommentChangeLogService.currentVersion)
+     * 색인에 없는데 색인이 그 버전과 다르면 DB 에서 다시 채워서 답함
+     */
+    public int lookup(long postId, long commentId, long version) {
+        PostComments comments = posts.get(postId);
+        if (comments != null) {
+            int meta = comments.get(commentId);
+            if (meta != MISSING || comments.isExactAt(version)) {
+                hits.increment();
+                return meta;
+            }
+        }
+        reloads.increment();
+        return reload(postId, version).get(commentId);
+    }
+
+    /**
+     * 새 게시글 (댓글 없음, 버전 0, 커밋된 뒤 반영)
+     */
+    public void addPost(Long postId) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            posts.putIfAbsent(postId, new PostComments(0));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                posts.putIfAbsent(postId, new PostComments(0));
+            }
+        });
+    }
+
+    /**
+     * 댓글 변경 반영 (변경을 기록한 트랜잭션 안, 게시글 버전을 올린 직후에 호출)
+     * 롤백되면 그 게시글은 다음 검증 때 다시 채움
+     */
+    public void apply(long postId, long version, CommentChange.Type type, long commentId, int depth) {
+        PostComments comments = posts.get(postId);
+        if (comments == null) {
+            return;
+        }
+        comments.apply(version, type, commentId, depth);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        comments.markStale();
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * 지워진 게시글의 색인 버리기 (커밋된 뒤)
+     */
+    public void removePosts(Collection<Long> postIds) {
+        List<Long> ids = List.copyOf(postIds);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            ids.forEach(posts::remove);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ids.forEach(posts::remove);
+            }
+        });
+    }
+
+    /**
+     * 다른 인스턴스에서 지운 게시글 버리기
+     * (댓글 변경은 받을 필요 없음: 다음 검증에서 버전이 달라 다시 채움)
+     */
+    @EventListener
+    public void onRemoteChange(CacheInvalidationEvent event) {
+        if (event.getKind() == CacheInvalidation.Kind.POST_REMOVED) {
+            posts.remove(event.getPostId());
+        }
+    }
+
+    public long size() {
+        long size = 0;
+        for (PostComments comments : posts.values()) {
+            size += comments.size();
+        }
+        return size;
+    }
+
+    // 버전을 먼저 읽었으므로 DB 내용은 version 시점이거나 그보다 앞섬 (앞선 만큼은 다음 변경 반영 때 덮어씀)
+    private PostComments reload(long postId, long version) {
+        PostComments comments = new PostComments(version);
+        jdbcTemplate.query("SELECT id, depth, deleted FROM comments WHERE post_id = ?", rs -> {
+            comments.put(rs.getLong("id"), meta(rs.getInt("depth"), rs.getBoolean("deleted")));
+        }, postId);
+        if (properties.isEnabled()) {
+            posts.put(postId, comments);
+        }
+        return comments;
+    }
+
+    private static byte meta(int depth, boolean deleted) {
+        return (byte) (depth | (deleted ? DELETED : 0));
+    }
+
+    /**
+     * 한 게시글의 댓글 ID -> 메타 (long 키 열린 주소 해시, 선형 탐사)
+     */
+    private static final class PostComments {
+
+        private long version;
+        private boolean stale;
+        private long[] keys = new long[16]; // 0 은 빈 칸 (댓글 ID 는 1부터)
+        private byte[] values = new byte[16];
+        private int size;
+
+        private PostComments(long version) {
+            this.version = version;
+        }
+
+        private synchronized boolean isExactAt(long version) {
+            return !stale && this.version == version;
+        }
+
+        private synchronized void markStale() {
+            stale = true;
+        }
+
+        private synchronized int size() {
+            return size;
+        }
+
+        private synchronized int get(long id) {
+            int slot = find(id);
+            return keys[slot] == id ? values[slot] : MISSING;
+        }
+
+        // 버전이 바로 다음이면 반영, 이미 본 버전이면 무시, 건너뛰었으면 믿을 수 없음
+        private synchronized void apply(long version, CommentChange.Type type, long commentId, int depth) {
+            if (version <= this.version) {
+                return;
+            }
+            if (version != this.version + 1) {
+                stale = true;
+                return;
+            }
+            this.version = version;
+            switch (type) {
+                case CREATED -> put(commentId, meta(depth, false));
+                case DELETED -> put(commentId, meta(depth, true));
+                case REMOVED -> remove(commentId);
+                default -> {
+                }
+            }
+        }
+
+        private void put(long id, byte value) {
+            int slot = find(id);
+            if (keys[slot] != id) {
+                if ((size + 1) * 2 > keys.length) {
+                    grow();
+                    slot = find(id);
+                }
+                keys[slot] = id;
+                size++;
+            }
+            values[slot] = value;
+        }
+
+        private void remove(long id) {
+            int slot = find(id);
+            if (keys[slot] != id) {
+                return;
+            }
+            keys[slot] = 0;
+            size--;
+            // 뒤에 이어진 항목들을 다시 넣어서 탐사가 끊기지 않게 함
+            int mask = keys.length - 1;
+            for (int next = (slot + 1) & mask; keys[next] != 0; next = (next + 1) & mask) {
+                long key = keys[next];
+                byte value = values[next];
+                keys[next] = 0;
+                int target = find(key);
+                keys[target] = key;
+                values[target] = value;
+            }
+        }
+
+        private int find(long id) {
+            int mask = keys.length - 1;
+            int slot = Long.hashCode(id * 0x9E3779B97F4A7C15L) & mask;
+            while (keys[slot] != 0 && keys[slot] != id) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            byte[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new byte[oldKeys.length * 2];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) {
+                    int slot = find(oldKeys[i]);
+                    keys[slot] = oldKeys[i];
+                    values[slot] = oldValues[i];
+                }
+            }
+        }
+    }
+}
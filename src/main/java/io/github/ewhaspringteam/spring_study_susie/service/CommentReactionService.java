@@ -0,0 +1,328 @@
+package io.github.ewhaspringteam.spring_study_susie.service;
+
+import io.github.ewhaspringteam.spring_study_susie.dto.CommentTree;
+import io.github.ewhaspringteam.spring_study_susie.entity.CacheInvalidation;
+import io.github.ewhaspringteam.spring_study_susie.entity.Comment;
+import io.github.ewhaspringteam.spring_study_susie.entity.CommentReaction;
+import io.github.ewhaspringteam.spring_study_susie.invalidation.CacheInvalidationEvent;
+import io.github.ewhaspringteam.spring_study_susie.invalidation.InvalidationBus;
+import io.github.ewhaspringteam.spring_study_susie.repository.CommentReactionRepository;
+import io.github.ewhaspringteam.spring_study_susie.repository.CommentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 댓글 반응(좋아요)
+ * 클릭은 메모리의 LongAdder 에만 더하고 (경합이 심해도 셀을 나눠 더하므로 막히지 않음)
+ * 몇 초마다 쌓인 증가분을 comment_reactions 에 배치 UPDATE 로 한꺼번에 반영함
+ * 인기 댓글은 게시글별 메모리 누적값에서 크기 N의 힙으로 골라서 DB를 읽지 않음
+ */
+@Service
+public class CommentReactionService {
+
+    private static final Logger log = LoggerFactory.getLogger(CommentReactionService.class);
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private CommentReactionRepository commentReactionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    @Autowired
+    private Clock clock;
+
+    // 아직 DB에 반영되지 않은 증가분 (댓글 ID -> 증가 수)
+    private final Map<Long, PendingCount> pending = new ConcurrentHashMap<>();
+
+    // 게시글 ID -> (댓글 ID -> 누적 반응 수), DB 값 + 미반영분
+    private final Map<Long, Map<Long, LongAdder>> totals = new ConcurrentHashMap<>();
+
+    /**
+     * 좋아요 (누적 반응 수 반환)
+     */
+    public long like(Long commentId) {
+        Comment comment = commentRepository.findById(commentId)
+                .orElseThrow(() -> new RuntimeException("댓글을 찾을 수 없습니다."));
+        if (comment.getDeleted()) {
+            throw new RuntimeException("삭제된 댓글에는 반응할 수 없습니다.");
+        }
+
+        // 누적값을 먼저 DB에서 채우고 미반영분에 더함
+        // (순서가 반대면 그 사이 flush 가 이 클릭을 DB에 쓰고, 그 값을 읽은 누적값에 한 번 더 더해짐)
+        Long postId = comment.getPost().getId();
+        LongAdder total = postTotals(postId).computeIfAbsent(commentId, id -> new LongAdder());
+        addPending(commentId, postId, 1);
+        total.increment();
+        return total.sum();
+    }
+
+    /**
+     * 게시글의 반응 수 합계 (좋아요 수를 보여주는 페이지의 ETag 에 넣음)
+     */
+    public long getReactionTotal(Long postId) {
+        long total = 0;
+        for (LongAdder count : postTotals(postId).values()) {
+            total += count.sum();
+        }
+        return total;
+    }
+
+    /**
+     * 댓글 트리에 반응 수를 붙인 사본
+     */
+    public CommentTree applyReactionCounts(Long postId, CommentTree tree) {
+        Map<Long, LongAdder> counts = postTotals(postId);
+        long[] values = new long[tree.size()];
+        for (int i = 0; i < values.length; i++) {
+            LongAdder count = counts.get(tree.getId(i));
+            values[i] = count != null ? count.sum() : 0L;
+        }
+        return tree.withReactionCounts(values);
+    }
+
+    /**
+     * 반응이 많은 댓글 상위 limit 개 (트리에 있는 댓글 중에서, 많은 순, 같으면 먼저 쓴 댓글)
+     * applyReactionCounts 로 반응 수를 붙인 트리를 넘겨야 함
+     */
+    public List<CommentTree.Node> getTopComments(CommentTree tree, int limit) {
+        // 가장 작은 값이 맨 위에 있는 크기 limit 의 힙 -> 댓글 수 M 에 대해 O(M log limit)
+        Comparator<Integer> order = Comparator.<Integer>comparingLong(tree::getReactionCount)
+                .thenComparing(index -> -tree.getId(index));
+        PriorityQueue<Integer> heap = new PriorityQueue<>(limit + 1, order);
+        for (int i = 0; i < tree.size(); i++) {
+            if (tree.getReactionCount(i) == 0) {
+                continue;
+            }
+            heap.offer(i);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        List<CommentTree.Node> top = new ArrayList<>();
+        while (!heap.isEmpty()) {
+            top.add(tree.node(heap.poll()));
+        }
+        Collections.reverse(top);
+        return top;
+    }
+
+    /**
+     * 삭제된 댓글의 반응 정리
+     * 행 DELETE 는 호출한 트랜잭션에 같이 들어가고, 메모리 집계는 커밋된 뒤에 지움 (롤백되면 댓글과 함께 남음)
+     */
+    public void forget(Long postId, Long commentId) {
+        transactionTemplate.executeWithoutResult(status -> commentReactionRepository.deleteById(commentId));
+        afterCommit(() -> forgetCounts(postId, List.of(commentId)));
+    }
+
+    /**
+     * 한 게시글의 여러 댓글 반응을 한꺼번에 제거 (DELETE 한 번)
+     */
+    public void forget(Long postId, Collection<Long> commentIds) {
+        transactionTemplate.executeWithoutResult(status -> commentReactionRepository.deleteAllByIdInBatch(commentIds));
+        afterCommit(() -> forgetCounts(postId, commentIds));
+    }
+
+    private void forgetCounts(Long postId, Collection<Long> commentIds) {
+        Map<Long, LongAdder> counts = totals.get(postId);
+        for (Long commentId : commentIds) {
+            pending.remove(commentId);
+            if (counts != null) {
+                counts.remove(commentId);
+            }
+        }
+    }
+
+    /**
+     * 초기화된 게시글의 메모리 집계 제거 (트랜잭션 안이면 커밋된 뒤에)
+     */
+    public void evictPost(Long postId) {
+        afterCommit(() -> {
+            Map<Long, LongAdder> counts = totals.remove(postId);
+            if (counts != null) {
+                counts.keySet().forEach(pending::remove);
+            }
+        });
+    }
+
+    /**
+     * 다른 인스턴스에서 반영한 반응 수 / 삭제한 게시글 반영
+     * 반응 수는 DB 값 + 이 인스턴스의 미반영분으로 다시 채움 (아직 불러온 적 없는 게시글이면 할 일 없음)
+     */
+    @EventListener
+    public void onRemoteChange(CacheInvalidationEvent event) {
+        Long postId = event.getPostId();
+        switch (event.getKind()) {
+            case REACTIONS_CHANGED -> {
+                if (totals.containsKey(postId)) {
+                    Map<Long, LongAdder> reloaded = loadTotals(postId);
+                    for (Map.Entry<Long, PendingCount> entry : pending.entrySet()) {
+                        if (entry.getValue().postId == postId) {
+                            reloaded.computeIfAbsent(entry.getKey(), id -> new LongAdder()).add(entry.getValue().count.sum());
+                        }
+                    }
+                    totals.replace(postId, reloaded);
+                }
+            }
+            case POST_REMOVED -> evictPost(postId);
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * 쌓인 증가분을 DB에 반영 (app.reactions.flush-interval 마다)
+     * 읽은 만큼만 빼므로 반영하는 동안 들어온 클릭은 다음 주기로 넘어감
+     */
+    @Scheduled(fixedDelayString = "${app.reactions.flush-interval:5s}")
+    public int flush() {
+        List<Drained> drained = new ArrayList<>();
+        for (Map.Entry<Long, PendingCount> entry : pending.entrySet()) {
+            PendingCount pendingCount = entry.getValue();
+            long count = pendingCount.count.sum();
+            if (count != 0) {
+                pendingCount.count.add(-count);
+                drained.add(new Drained(entry.getKey(), pendingCount.postId, count));
+            } else {
+                // 지난 주기에 다 반영된 뒤로 클릭이 없던 항목은 치움 (한 번이라도 눌린 댓글이 계속 쌓이지 않도록)
+                // 치우는 사이에 들어온 클릭은 addPending 이 새 항목에 다시 더함
+                pendingCount.retired = true;
+                if (pendingCount.count.sum() == 0) {
+                    pending.remove(entry.getKey(), pendingCount);
+                } else {
+                    pendingCount.retired = false;
+                }
+            }
+        }
+        if (drained.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(drained));
+        } catch (RuntimeException e) {
+            // 실패한 증가분은 되돌려서 다음 주기에 다시 시도
+            for (Drained d : drained) {
+                addPending(d.commentId, d.postId, d.count);
+            }
+            log.warn("댓글 반응 반영 실패, 다음 주기에 재시도", e);
+            return 0;
+        }
+        return drained.size();
+    }
+
+    /**
+     * 아직 맵에 남아 있는 미반영 항목 수
+     */
+    public int getPendingSize() {
+        return pending.size();
+    }
+
+    private void write(List<Drained> drained) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now(clock));
+
+        int[] updated = jdbcTemplate.batchUpdate(
+                "UPDATE comment_reactions SET like_count = like_count + ?, updated_at = ? WHERE comment_id = ?",
+                drained.stream().map(d -> new Object[] {d.count, now, d.commentId}).collect(Collectors.toList()));
+
+        // 처음 반응을 받은 댓글은 행이 없으므로 새로 추가
+        List<Object[]> inserts = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                Drained d = drained.get(i);
+                inserts.add(new Object[] {d.commentId, d.postId, d.count, now});
+            }
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO comment_reactions (comment_id, post_id, like_count, updated_at) VALUES (?, ?, ?, ?)",
+                    inserts);
+        }
+        invalidationBus.publishPosts(CacheInvalidation.Kind.REACTIONS_CHANGED,
+                drained.stream().map(d -> d.postId).distinct().collect(Collectors.toList()));
+    }
+
+    // 미반영분에 더함
+    // flush 가 치우는 중인 항목(retired)에 더했으면 되돌리고 새 항목에 다시 더함 (치워진 항목에 더한 클릭이 사라지지 않도록)
+    private void addPending(Long commentId, long postId, long delta) {
+        while (true) {
+            PendingCount pendingCount = pending.computeIfAbsent(commentId, id -> new PendingCount(postId));
+            pendingCount.count.add(delta);
+            if (!pendingCount.retired) {
+                return;
+            }
+            pendingCount.count.add(-delta);
+            Thread.onSpinWait();
+        }
+    }
+
+    // 커밋된 뒤에 메모리에 반영 (트랜잭션 밖이면 바로)
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    // 게시글의 누적 반응 수 (처음 접근할 때 DB 값으로 채움)
+    private Map<Long, LongAdder> postTotals(Long postId) {
+        return totals.computeIfAbsent(postId, this::loadTotals);
+    }
+
+    private Map<Long, LongAdder> loadTotals(Long postId) {
+        Map<Long, LongAdder> counts = new ConcurrentHashMap<>();
+        for (CommentReaction reaction : commentReactionRepository.findByPostId(postId)) {
+            LongAdder count = new LongAdder();
+            count.add(reaction.getLikeCount());
+            counts.put(reaction.getCommentId(), count);
+        }
+        return counts;
+    }
+
+    private static class PendingCount {
+        private final long postId;
+        private final LongAdder count = new LongAdder();
+
+        // flush 가 0 인 항목을 맵에서 빼는 중 (이후에 더한 값은 반영되지 않을 수 있음)
+        private volatile boolean retired;
+
+        PendingCount(long postId) {
+            this.postId = postId;
+        }
+    }
+
+    private record Drained(long commentId, long postId, long count) {
+    }
+}
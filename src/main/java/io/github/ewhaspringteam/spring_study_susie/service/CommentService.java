@@ -1,14 +1,26 @@
 package io.github.ewhaspringteam.spring_study_susie.service;
 
+import io.github.ewhaspringteam.spring_study_susie.datasource.ReadYourWritesTracker;
 import io.github.ewhaspringteam.spring_study_susie.dto.CommentDto;
+import io.github.ewhaspringteam.spring_study_susie.dto.CommentSyncDto;
+import io.github.ewhaspringteam.spring_study_susie.dto.CommentTree;
 import io.github.ewhaspringteam.spring_study_susie.entity.Comment;
+import io.github.ewhaspringteam.spring_study_susie.entity.CommentChange;
 import io.github.ewhaspringteam.spring_study_susie.entity.Post;
+import io.github.ewhaspringteam.spring_study_susie.profiling.CommentMappingEvent;
+import io.github.ewhaspringteam.spring_study_susie.profiling.CommentTreeEvent;
 import io.github.ewhaspringteam.spring_study_susie.repository.CommentRepository;
+import io.github.ewhaspringteam.spring_study_susie.repository.PostCommentSummaryRow;
 import io.github.ewhaspringteam.spring_study_susie.repository.PostRepository;
+import io.github.ewhaspringteam.spring_study_susie.search.SearchIndexService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -21,6 +33,30 @@ public class CommentService {
     @Autowired
     private PostRepository postRepository;
 
+    @Autowired
+    private ReadYourWritesTracker readYourWritesTracker;
+
+    @Autowired
+    private CommentChangeLogService commentChangeLogService;
+
+    @Autowired
+    private CommentReactionService commentReactionService;
+
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    @Autowired
+    private CommentMetadataIndex commentMetadataIndex;
+
+    @Autowired
+    private CommentIndexProperties commentIndexProperties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Clock clock;
+
     /**
      * 게시글의 모든 댓글을 계층구조로 조회
      */
@@ -33,23 +69,61 @@ public class CommentService {
 
         // 모든 댓글을 가져온 후 계층구조로 정리
         List<Comment> allComments = commentRepository.findActiveCommentsByPost(post.get());
-        return buildCommentHierarchy(allComments);
+        return buildCommentHierarchy(postId, allComments);
+    }
+
+    /**
+     * 게시글의 댓글 트리를 배열 형태로 조회 (댓글이 많은 화면/API 용, CommentDto 트리와 내용은 같음)
+     */
+    @Transactional(readOnly = true)
+    public CommentTree getCommentTree(Long postId) {
+        Optional<Post> post = postRepository.findById(postId);
+        if (post.isEmpty()) {
+            throw new RuntimeException("게시글을 찾을 수 없습니다.");
+        }
+
+        List<Comment> comments = commentRepository.findActiveCommentsByPost(post.get());
+
+        CommentTreeEvent event = new CommentTreeEvent();
+        event.begin();
+        CommentTree tree = CommentTree.of(postId, comments);
+        event.end();
+        if (event.shouldCommit()) {
+            event.format = "array";
+            event.postId = postId;
+            event.commentCount = tree.size();
+            for (int i = 0; i < tree.size(); i++) {
+                event.maxDepth = Math.max(event.maxDepth, tree.getDepth(i));
+            }
+            event.commit();
+        }
+        return tree;
     }
 
     /**
      * 댓글 목록을 계층구조로 구성
      */
-    private List<CommentDto> buildCommentHierarchy(List<Comment> comments) {
+    private List<CommentDto> buildCommentHierarchy(Long postId, List<Comment> comments) {
         Map<Long, CommentDto> commentMap = new HashMap<>();
         List<CommentDto> rootComments = new ArrayList<>();
 
         // 모든 댓글을 DTO로 변환하여 Map에 저장
+        CommentMappingEvent mappingEvent = new CommentMappingEvent();
+        mappingEvent.begin();
         for (Comment comment : comments) {
             CommentDto dto = CommentDto.fromEntityWithoutChildren(comment);
             commentMap.put(comment.getId(), dto);
         }
+        mappingEvent.end();
+        if (mappingEvent.shouldCommit()) {
+            mappingEvent.postId = postId;
+            mappingEvent.commentCount = comments.size();
+            mappingEvent.commit();
+        }
 
         // 계층구조 구성
+        CommentTreeEvent treeEvent = new CommentTreeEvent();
+        treeEvent.begin();
         for (Comment comment : comments) {
             CommentDto dto = commentMap.get(comment.getId());
             
@@ -64,15 +138,90 @@ public class CommentService {
                 }
             }
         }
+        treeEvent.end();
+        if (treeEvent.shouldCommit()) {
+            treeEvent.format = "dto";
+            treeEvent.postId = postId;
+            treeEvent.commentCount = comments.size();
+            for (Comment comment : comments) {
+                treeEvent.maxDepth = Math.max(treeEvent.maxDepth, comment.getDepth());
+            }
+            treeEvent.commit();
+        }
 
         return rootComments;
     }
 
+    /**
+     * since 버전 이후의 댓글 변경 조회 (재접속한 클라이언트의 델타 동기화)
+     * 너무 뒤처진 경우에는 전체 댓글 트리(스냅샷)로 대신함
+     */
+    @Transactional(readOnly = true)
+    public CommentSyncDto getCommentChanges(Long postId, long since) {
+        if (!postRepository.existsById(postId)) {
+            throw new RuntimeException("게시글을 찾을 수 없습니다.");
+        }
+
+        CommentSyncDto delta = commentChangeLogService.findDelta(postId, since);
+        if (delta != null) {
+            return delta;
+        }
+
+        // 버전을 먼저 읽어야 그 사이의 변경이 다음 델타에 다시 포함됨 (변경 적용은 덮어쓰기라 중복돼도 무방)
+        long version = commentChangeLogService.getLatestVersion(postId);
+        return CommentSyncDto.snapshot(version, getCommentsByPost(postId));
+    }
+
     /**
      * 새 댓글 작성
+     * 게시글 전체를 잠그지 않고 부모 댓글 행만 잠가서 같은 부모의 삭제와 순서를 정함
+     * (삭제가 먼저면 여기서 없거나 삭제된 댓글로 보이고, 답글이 먼저면 삭제가 이 답글을 보고 논리 삭제함)
+     * 부모의 깊이는 댓글 메타 색인으로 확인하고 게시글/부모는 읽지 않은 참조로 넘기므로 본문이 든 엔티티를 읽지 않음
+     * 버전은 마지막에 CommentChangeLogService.record 가 매김
      */
     @Transactional
     public CommentDto createComment(CommentDto commentDto) {
+        if (!commentIndexProperties.isEnabled()) {
+            return createCommentFromEntities(commentDto);
+        }
+        Long postId = commentDto.getPostId();
+        long version = commentChangeLogService.currentVersion(postId);
+
+        Comment parent = null;
+        int depth = 0;
+        if (commentDto.getParentId() != null) {
+            int meta = commentMetadataIndex.lookup(postId, commentDto.getParentId(), version);
+            if (meta == CommentMetadataIndex.MISSING) {
+                throw new RuntimeException("부모 댓글을 찾을 수 없습니다.");
+            }
+            // 댓글 깊이 제한 (최대 5단계), 깊이는 바뀌지 않으므로 색인 값으로 충분
+            if (CommentMetadataIndex.depthOf(meta) >= 4) {
+                throw new RuntimeException("댓글은 최대 5단계까지만 작성할 수 있습니다.");
+            }
+            // 삭제 여부는 색인보다 늦게 바뀔 수 있으므로 부모 행을 잠그고 DB 값으로 확인
+            lockParent(postId, commentDto.getParentId());
+            parent = commentRepository.getReferenceById(commentDto.getParentId());
+            depth = CommentMetadataIndex.depthOf(meta) + 1;
+        }
+
+        Comment comment = commentDto.toEntity(postRepository.getReferenceById(postId), parent, depth, LocalDateTime.now(clock));
+        return saveNewComment(commentDto, comment);
+    }
+
+    // 부모 댓글 행만 잠그고 삭제 여부 확인 (본문은 읽지 않음)
+    private void lockParent(Long postId, Long parentId) {
+        List<Boolean> deleted = jdbcTemplate.queryForList(
+                "SELECT deleted FROM comments WHERE id = ? AND post_id = ? FOR UPDATE", Boolean.class, parentId, postId);
+        if (deleted.isEmpty()) {
+            throw new RuntimeException("부모 댓글을 찾을 수 없습니다.");
+        }
+        if (deleted.get(0)) {
+            throw new RuntimeException("삭제된 댓글에는 답글을 달 수 없습니다.");
+        }
+    }
+
+    // 색인을 끈 경우 (app.comment-index.enabled=false): 게시글과 부모 엔티티를 읽어서 확인
+    private CommentDto createCommentFromEntities(CommentDto commentDto) {
         Optional<Post> post = postRepository.findById(commentDto.getPostId());
         if (post.isEmpty()) {
             throw new RuntimeException("게시글을 찾을 수 없습니다.");
@@ -80,21 +229,33 @@ public class CommentService {
 
         Comment parent = null;
         if (commentDto.getParentId() != null) {
-            Optional<Comment> parentComment = commentRepository.findById(commentDto.getParentId());
-            if (parentComment.isEmpty()) {
+            // 부모 행을 잠가서 같은 부모의 삭제와 순서를 정함
+            Optional<Comment> parentComment = commentRepository.findByIdForUpdate(commentDto.getParentId());
+            if (parentComment.isEmpty() || !parentComment.get().getPost().getId().equals(commentDto.getPostId())) {
                 throw new RuntimeException("부모 댓글을 찾을 수 없습니다.");
             }
             parent = parentComment.get();
-            
+
+            if (parent.getDeleted()) {
+                throw new RuntimeException("삭제된 댓글에는 답글을 달 수 없습니다.");
+            }
+
             // 댓글 깊이 제한 (최대 5단계)
             if (parent.getDepth() >= 4) {
                 throw new RuntimeException("댓글은 최대 5단계까지만 작성할 수 있습니다.");
             }
         }
 
-        Comment comment = commentDto.toEntity(post.get(), parent);
+        Comment comment = commentDto.toEntity(post.get(), parent, LocalDateTime.now(clock));
+        return saveNewComment(commentDto, comment);
+    }
+
+    private CommentDto saveNewComment(CommentDto commentDto, Comment comment) {
         Comment savedComment = commentRepository.save(comment);
-        
+        readYourWritesTracker.recordWrite(commentDto.getAuthorId());
+        commentChangeLogService.record(savedComment, CommentChange.Type.CREATED);
+        searchIndexService.indexComment(savedComment);
+
         return CommentDto.fromEntityWithoutChildren(savedComment);
     }
 
@@ -103,12 +264,27 @@ public class CommentService {
      */
     @Transactional
     public CommentDto updateComment(Long commentId, String content, String authorId) {
+        return updateComment(commentId, content, authorId, null);
+    }
+
+    /**
+     * 댓글 수정 (expectedVersion 이 있으면 그 버전일 때만 수정)
+     * 잠그지 않고 읽은 뒤 저장할 때 버전을 확인하므로, 그 사이 다른 요청이 수정/삭제했으면
+     * ObjectOptimisticLockingFailureException (호출한 쪽에서 최신 상태를 다시 읽고 재시도)
+     */
+    @Transactional
+    public CommentDto updateComment(Long commentId, String content, String authorId, Long expectedVersion) {
         Optional<Comment> commentOpt = commentRepository.findById(commentId);
         if (commentOpt.isEmpty()) {
             throw new RuntimeException("댓글을 찾을 수 없습니다.");
         }
 
         Comment comment = commentOpt.get();
+
+        // 클라이언트가 본 버전과 다르면 그 사이에 바뀐 것
+        if (expectedVersion != null && !expectedVersion.equals(comment.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Comment.class, commentId);
+        }
         
         // 작성자 확인
         if (!comment.getAuthorId().equals(authorId)) {
@@ -120,8 +296,12 @@ public class CommentService {
             throw new RuntimeException("삭제된 댓글은 수정할 수 없습니다.");
         }
 
-        comment.updateContent(content);
-        Comment savedComment = commentRepository.save(comment);
+        comment.updateContent(content, LocalDateTime.now(clock));
+        // 여기서 바로 UPDATE ... WHERE version = ? 를 실행해서 충돌을 커밋 전에 알 수 있게 함
+        Comment savedComment = commentRepository.saveAndFlush(comment);
+        readYourWritesTracker.recordWrite(authorId);
+        commentChangeLogService.record(savedComment, CommentChange.Type.UPDATED);
+        searchIndexService.indexComment(savedComment);
         
         return CommentDto.fromEntityWithoutChildren(savedComment);
     }
@@ -131,7 +311,9 @@ public class CommentService {
      */
     @Transactional
     public void deleteComment(Long commentId, String authorId) {
-        Optional<Comment> commentOpt = commentRepository.findById(commentId);
+        // 댓글 행을 잠근 뒤에 자식을 확인하므로 확인과 삭제 사이에 답글이 끼어들 수 없음
+        // (답글 작성도 부모 행을 잠그므로 순서가 정해지고, 버전 증가로 진행 중인 수정을 실패시킴)
+        Optional<Comment> commentOpt = commentRepository.findByIdForUpdate(commentId);
         if (commentOpt.isEmpty()) {
             throw new RuntimeException("댓글을 찾을 수 없습니다.");
         }
@@ -149,16 +331,21 @@ public class CommentService {
         }
 
         // 자식 댓글이 있는 경우 논리적 삭제, 없는 경우 물리적 삭제 가능
-        List<Comment> children = commentRepository.findChildCommentsByParent(comment);
-        
-        if (children.isEmpty()) {
+        // 이미 삭제된 자식도 자식으로 봄 (물리 삭제하면 그 밑의 살아 있는 답글까지 cascade 로 지워짐)
+        if (!commentRepository.existsByParent(comment)) {
             // 자식 댓글이 없으면 물리적 삭제
+            commentChangeLogService.record(comment, CommentChange.Type.REMOVED);
+            commentReactionService.forget(comment.getPost().getId(), comment.getId());
             commentRepository.delete(comment);
         } else {
             // 자식 댓글이 있으면 논리적 삭제
-            comment.markAsDeleted();
+            comment.markAsDeleted(LocalDateTime.now(clock));
             commentRepository.save(comment);
+            commentChangeLogService.record(comment, CommentChange.Type.DELETED);
+            commentReactionService.forget(comment.getPost().getId(), comment.getId());
         }
+        searchIndexService.removeComments(List.of(commentId));
+        readYourWritesTracker.recordWrite(authorId);
     }
 
     /**
@@ -193,6 +380,20 @@ public class CommentService {
         return commentRepository.countActiveCommentsByPost(post.get());
     }
 
+    /**
+     * 여러 게시글의 댓글 수와 마지막 댓글 시각을 한 번에 조회 (게시글 목록용)
+     * 게시글마다 getCommentCountByPost 를 부르면 게시글 수만큼 쿼리가 나가므로 목록에서는 이걸 사용
+     * 댓글이 없는 게시글은 결과 Map 에 없음
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, PostCommentSummaryRow> getCommentSummaries(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+        return commentRepository.findCommentSummariesByPostIds(postIds).stream()
+                .collect(Collectors.toMap(PostCommentSummaryRow::getPostId, row -> row));
+    }
+
     /**
      * 댓글 통계 조회 (총 댓글 수, 삭제된 댓글 수)
      */
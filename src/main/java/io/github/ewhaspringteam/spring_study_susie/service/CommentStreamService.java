@@ -0,0 +1,165 @@
+package io.github.ewhaspringteam.spring_study_susie.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.ewhaspringteam.spring_study_susie.repository.CommentRepository;
+import io.github.ewhaspringteam.spring_study_susie.repository.CommentStatsRow;
+import io.github.ewhaspringteam.spring_study_susie.repository.CommentTreeRow;
+import io.github.ewhaspringteam.spring_study_susie.repository.PostRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 댓글 트리를 DB 커서에서 바로 JSON으로 흘려보내는 서비스
+ * CommentDto 트리와 통계 Map을 다 만든 뒤 직렬화하는 대신, 전위 순회 순서로 받은 댓글을 한 줄씩 써서
+ * 스레드가 커져도 메모리는 트리 깊이만큼만 사용함 (응답 모양은 /api/posts/{postId}/comments 와 동일)
+ */
+@Service
+public class CommentStreamService {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    // 첫 댓글은 바로, 그 뒤로는 이 개수마다 내보냄 (gzip도 이 시점에 sync flush)
+    private static final int FLUSH_EVERY = 64;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * 게시글이 있는지 (스트리밍을 시작하기 전에 실패 응답을 정하기 위함)
+     */
+    @Transactional(readOnly = true)
+    public boolean postExists(Long postId) {
+        return postRepository.existsById(postId);
+    }
+
+    /**
+     * 게시글의 댓글 트리를 out 으로 스트리밍
+     * 게시글이 없으면 아무것도 쓰지 않고 예외를 던짐, 쓰기 시작한 뒤의 실패도 그대로 던짐 (부분 응답 뒤에 덧붙이지 않음)
+     * out 은 닫지 않음
+     */
+    @Transactional(readOnly = true)
+    public void writeCommentTree(Long postId, OutputStream out) throws IOException {
+        if (!postRepository.existsById(postId)) {
+            throw new RuntimeException("게시글을 찾을 수 없습니다.");
+        }
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+             Stream<CommentTreeRow> rows = commentRepository.streamActiveCommentTree(postId)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            generator.writeStartObject();
+            generator.writeBooleanField("success", true);
+            generator.writeArrayFieldStart("comments");
+            writeComments(generator, postId, rows.iterator());
+            generator.writeEndArray();
+
+            writeStats(generator, commentRepository.getCommentStatsRowByPostId(postId));
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * 전위 순회 순서의 댓글들을 중첩 JSON으로 변환
+     * 열려 있는 댓글 객체 수(open)와 새 댓글의 level 을 비교해서 형제/조상으로 올라갈 때만 닫음
+     */
+    private void writeComments(JsonGenerator generator, Long postId, Iterator<CommentTreeRow> rows) throws IOException {
+        int open = 0;
+        int[] childCounts = new int[8];
+        long written = 0;
+
+        while (rows.hasNext()) {
+            CommentTreeRow row = rows.next();
+            int level = row.getLevel();
+
+            while (open > level) {
+                open--;
+                endComment(generator, childCounts[open]);
+            }
+
+            if (level >= childCounts.length) {
+                childCounts = Arrays.copyOf(childCounts, level * 2);
+            }
+            if (level > 0) {
+                childCounts[level - 1]++;
+            }
+            childCounts[level] = 0;
+            startComment(generator, postId, row);
+            open = level + 1;
+
+            written++;
+            if (written == 1 || written % FLUSH_EVERY == 0) {
+                generator.flush();
+            }
+        }
+
+        while (open > 0) {
+            open--;
+            endComment(generator, childCounts[open]);
+        }
+    }
+
+    // CommentDto 를 Jackson 으로 직렬화했을 때와 같은 필드를 씀 (children 은 열어둔 채로 반환)
+    private void startComment(JsonGenerator generator, Long postId, CommentTreeRow row) throws IOException {
+        int depth = row.getDepth();
+
+        generator.writeStartObject();
+        generator.writeNumberField("id", row.getId());
+        generator.writeStringField("content", row.getContent());
+        generator.writeStringField("authorId", row.getAuthorId());
+        generator.writeStringField("createdAt", format(row.getCreatedAt()));
+        generator.writeStringField("updatedAt", format(row.getUpdatedAt()));
+        generator.writeNumberField("postId", postId);
+        if (row.getParentId() != null) {
+            generator.writeNumberField("parentId", row.getParentId());
+        } else {
+            generator.writeNullField("parentId");
+        }
+        generator.writeNumberField("depth", depth);
+        generator.writeBooleanField("deleted", false);
+        generator.writeNumberField("version", row.getVersion());
+        generator.writeStringField("indentation", "　　".repeat(depth));
+        generator.writeStringField("depthClass", "comment-depth-" + depth);
+        generator.writeBooleanField("reply", row.getParentId() != null && depth > 0);
+        generator.writeArrayFieldStart("children");
+    }
+
+    // 자식 수는 자식들을 다 쓴 뒤에야 알 수 있으므로 children 뒤에 씀
+    private void endComment(JsonGenerator generator, int childrenCount) throws IOException {
+        generator.writeEndArray();
+        generator.writeNumberField("childrenCount", childrenCount);
+        generator.writeEndObject();
+    }
+
+    private void writeStats(JsonGenerator generator, CommentStatsRow stats) throws IOException {
+        long total = stats.getTotalComments();
+        long deleted = stats.getDeletedComments();
+
+        generator.writeObjectFieldStart("stats");
+        generator.writeNumberField("totalComments", total);
+        generator.writeNumberField("deletedComments", deleted);
+        generator.writeNumberField("activeComments", total - deleted);
+        generator.writeNumberField("maxDepth", (long) stats.getMaxDepth());
+        generator.writeEndObject();
+    }
+
+    private String format(LocalDateTime time) {
+        return time != null ? time.format(DATE_FORMAT) : null;
+    }
+}
@@ -0,0 +1,21 @@
+package io.github.ewhaspringteam.spring_study_susie.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 관리자 일괄 정리 설정 (app.moderation.*)
+ */
+@ConfigurationProperties(prefix = "app.moderation")
+public class ModerationProperties {
+
+    // 한 트랜잭션에서 처리할 댓글 수 (잠그는 행 수와 IN 목록 크기의 상한)
+    private int chunkSize = 1000;
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+}
@@ -0,0 +1,144 @@
+package io.github.ewhaspringteam.spring_study_susie.service;
+
+import io.github.ewhaspringteam.spring_study_susie.dto.ModerationResultDto;
+import io.github.ewhaspringteam.spring_study_susie.entity.Comment;
+import io.github.ewhaspringteam.spring_study_susie.entity.CommentChange;
+import io.github.ewhaspringteam.spring_study_susie.entity.Post;
+import io.github.ewhaspringteam.spring_study_susie.repository.CommentRepository;
+import io.github.ewhaspringteam.spring_study_susie.repository.PostRepository;
+import io.github.ewhaspringteam.spring_study_susie.search.SearchIndexService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 관리자 일괄 정리 (스팸 작성자의 게시글/댓글을 한 번에 지움)
+ * 댓글을 하나씩 조회/확인/저장하지 않고 chunk-size 개씩 묶어서 몇 개의 집합 쿼리로 처리함
+ * - 게시글: 그 게시글의 댓글까지 물리 삭제 (초기화와 같음)
+ * - 댓글: 한 건씩 지울 때와 같은 규칙 (자식이 남아 있으면 논리 삭제, 없으면 물리 삭제)
+ */
+@Service
+public class ModerationService {
+
+    private static final Logger log = LoggerFactory.getLogger(ModerationService.class);
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentChangeLogService commentChangeLogService;
+
+    @Autowired
+    private CommentReactionService commentReactionService;
+
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    @Autowired
+    private ModerationProperties properties;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private Clock clock;
+
+    /**
+     * 작성자의 게시글과 댓글을 모두 정리 (from/to 는 작성 시각 범위, null 이면 제한 없음)
+     * 요청자(requesterId)가 관리자일 때만 정리함
+     */
+    public ModerationResultDto moderateAuthor(String requesterId, String authorId, LocalDateTime from, LocalDateTime to) {
+        // 관리자 확인
+        if (!"admin".equals(requesterId)) {
+            throw new RuntimeException("관리자만 일괄 정리할 수 있습니다.");
+        }
+        long startedAt = System.nanoTime();
+
+        // 게시글을 먼저 지워서 그 밑의 댓글은 댓글 단계에서 다시 보지 않게 함
+        List<Post> posts = transactionTemplate.execute(status -> {
+            List<Post> found = postRepository.findByAuthor(authorId, from, to);
+            if (!found.isEmpty()) {
+                postService.removePosts(found);
+            }
+            return found;
+        });
+
+        // 깊은 댓글부터 나뉘므로 같은 작성자의 답글은 부모보다 먼저 지워짐
+        List<Long> ids = commentRepository.findActiveIdsByAuthor(authorId, from, to);
+        int removed = 0;
+        int softDeleted = 0;
+        for (int start = 0; start < ids.size(); start += properties.getChunkSize()) {
+            List<Long> chunk = ids.subList(start, Math.min(start + properties.getChunkSize(), ids.size()));
+            int[] counts = transactionTemplate.execute(status -> deleteChunk(chunk));
+            removed += counts[0];
+            softDeleted += counts[1];
+        }
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("작성자 일괄 정리: {} 게시글 {}, 댓글 물리 삭제 {}, 논리 삭제 {} ({}ms)",
+                authorId, posts.size(), removed, softDeleted, elapsedMillis);
+        return new ModerationResultDto(authorId, posts.size(), removed, softDeleted, elapsedMillis);
+    }
+
+    // [물리 삭제 수, 논리 삭제 수]
+    private int[] deleteChunk(List<Long> chunk) {
+        // 조회한 뒤 이미 삭제됐거나 지워진 댓글은 빼고, 남은 것은 잠가서 답글 작성/수정과 순서를 정함
+        // (댓글 쓰기와 같은 순서로 댓글 행을 먼저 잠그고 게시글 버전은 recordAll 에서 올림)
+        List<Long> targets = commentRepository.findActiveByIdsForUpdate(chunk).stream()
+                .map(Comment::getId)
+                .collect(Collectors.toList());
+        if (targets.isEmpty()) {
+            return new int[] {0, 0};
+        }
+
+        commentRepository.markAsDeletedByIds(targets, Comment.DELETED_CONTENT, LocalDateTime.now(clock));
+
+        // 자식이 없는 것부터 물리 삭제, 지우고 나서 자식이 없어진 부모(같은 chunk 안)도 이어서 지움
+        List<Long> remaining = new ArrayList<>(targets);
+        List<Comment> removed = new ArrayList<>();
+        while (!remaining.isEmpty()) {
+            List<Comment> childless = commentRepository.findChildless(remaining);
+            if (childless.isEmpty()) {
+                break;
+            }
+            Set<Long> childlessIds = childless.stream().map(Comment::getId).collect(Collectors.toSet());
+            commentChangeLogService.recordAll(childless, CommentChange.Type.REMOVED);
+            commentRepository.deleteByIds(childlessIds);
+            remaining.removeAll(childlessIds);
+            removed.addAll(childless);
+        }
+
+        // 살아 있는 자식이 남은 댓글은 "삭제된 댓글입니다." 로 남김
+        List<Comment> softDeleted = commentRepository.findAllById(remaining);
+        commentChangeLogService.recordAll(softDeleted, CommentChange.Type.DELETED);
+
+        Map<Long, List<Long>> byPost = new HashMap<>();
+        for (Comment comment : removed) {
+            byPost.computeIfAbsent(comment.getPost().getId(), id -> new ArrayList<>()).add(comment.getId());
+        }
+        for (Comment comment : softDeleted) {
+            byPost.computeIfAbsent(comment.getPost().getId(), id -> new ArrayList<>()).add(comment.getId());
+        }
+        byPost.forEach(commentReactionService::forget);
+        searchIndexService.removeComments(targets);
+
+        return new int[] {removed.size(), softDeleted.size()};
+    }
+}
@@ -1,11 +1,18 @@
 package io.github.ewhaspringteam.spring_study_susie.service;
 
+import io.github.ewhaspringteam.spring_study_susie.datasource.ReadYourWritesTracker;
 import io.github.ewhaspringteam.spring_study_susie.dto.PostDto;
+import io.github.ewhaspringteam.spring_study_susie.entity.CacheInvalidation;
 import io.github.ewhaspringteam.spring_study_susie.entity.Post;
+import io.github.ewhaspringteam.spring_study_susie.invalidation.InvalidationBus;
+import io.github.ewhaspringteam.spring_study_susie.repository.CommentRepository;
 import io.github.ewhaspringteam.spring_study_susie.repository.PostRepository;
+import io.github.ewhaspringteam.spring_study_susie.search.SearchIndexService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -17,11 +24,39 @@ public class PostService {
     @Autowired
     private PostRepository postRepository;
 
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ReadYourWritesTracker readYourWritesTracker;
+
+    @Autowired
+    private SecondLevelCacheService secondLevelCacheService;
+
+    @Autowired
+    private PostVersionTracker postVersionTracker;
+
+    @Autowired
+    private CommentReactionService commentReactionService;
+
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    @Autowired
+    private CommentMetadataIndex commentMetadataIndex;
+
+    @Autowired
+    private Clock clock;
+
     /**
      * 오늘의 게시글 조회
      */
+    @Transactional(readOnly = true)
     public Optional<PostDto> getTodayPost() {
-        LocalDateTime startOfDay = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0).withNano(0);
+        LocalDateTime startOfDay = LocalDateTime.now(clock).withHour(0).withMinute(0).withSecond(0).withNano(0);
         LocalDateTime endOfDay = startOfDay.plusDays(1);
         Optional<Post> post = postRepository.findTodayPost(startOfDay, endOfDay);
         return post.map(PostDto::fromEntity);
@@ -30,8 +65,9 @@ public class PostService {
     /**
      * 오늘 게시글이 이미 작성되었는지 확인
      */
+    @Transactional(readOnly = true)
     public boolean isTodayPostExists() {
-        LocalDateTime startOfDay = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0).withNano(0);
+        LocalDateTime startOfDay = LocalDateTime.now(clock).withHour(0).withMinute(0).withSecond(0).withNano(0);
         LocalDateTime endOfDay = startOfDay.plusDays(1);
         List<Post> todayPosts = postRepository.findTodayPosts(startOfDay, endOfDay);
         return !todayPosts.isEmpty();
@@ -40,8 +76,9 @@ public class PostService {
     /**
      * 특정 사용자가 어제 게시글을 작성했는지 확인 (이틀 연속 작성 방지)
      */
+    @Transactional(readOnly = true)
     public boolean didUserPostYesterday(String authorId) {
-        LocalDateTime startOfYesterday = LocalDateTime.now().minusDays(1).withHour(0).withMinute(0).withSecond(0).withNano(0);
+        LocalDateTime startOfYesterday = LocalDateTime.now(clock).minusDays(1).withHour(0).withMinute(0).withSecond(0).withNano(0);
         LocalDateTime endOfYesterday = startOfYesterday.plusDays(1);
         Optional<Post> yesterdayPost = postRepository.findYesterdayPostByAuthor(authorId, startOfYesterday, endOfYesterday);
         return yesterdayPost.isPresent();
@@ -50,6 +87,7 @@ public class PostService {
     /**
      * 게시글 작성 가능 여부 확인
      */
+    @Transactional(readOnly = true)
     public String checkCanCreatePost(String authorId) {
         // 1. 오늘 이미 게시글이 있는지 확인
         if (isTodayPostExists()) {
@@ -67,6 +105,7 @@ public class PostService {
     /**
      * 게시글 작성
      */
+    @Transactional
     public PostDto createPost(PostDto postDto) {
         // 작성 가능 여부 재확인
         String canCreate = checkCanCreatePost(postDto.getAuthorId());
@@ -74,14 +113,19 @@ public class PostService {
             throw new RuntimeException(canCreate);
         }
 
-        Post post = postDto.toEntity();
+        Post post = postDto.toEntity(LocalDateTime.now(clock));
         Post savedPost = postRepository.save(post);
+        readYourWritesTracker.recordWrite(savedPost.getAuthorId());
+        searchIndexService.indexPost(savedPost);
+        commentMetadataIndex.addPost(savedPost.getId());
+        invalidationBus.publish(CacheInvalidation.Kind.POST_CREATED, savedPost.getId(), null, null);
         return PostDto.fromEntity(savedPost);
     }
 
     /**
      * 게시글 상세 조회
      */
+    @Transactional(readOnly = true)
     public Optional<PostDto> getPostById(Long id) {
         Optional<Post> post = postRepository.findById(id);
         return post.map(PostDto::fromEntity);
@@ -90,6 +134,7 @@ public class PostService {
     /**
      * 모든 게시글 조회 (최신순)
      */
+    @Transactional(readOnly = true)
     public List<PostDto> getAllPosts() {
         List<Post> posts = postRepository.findAllByOrderByCreatedAtDesc();
         return posts.stream()
@@ -100,13 +145,34 @@ public class PostService {
     /**
      * 초기화 시간이 지난 게시글들 삭제 (스케줄러에서 호출)
      */
+    @Transactional
     public void resetExpiredPosts() {
-        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime now = LocalDateTime.now(clock);
         List<Post> expiredPosts = postRepository.findPostsToReset(now);
         
         if (!expiredPosts.isEmpty()) {
-            postRepository.deleteAll(expiredPosts);
+            removePosts(expiredPosts);
             System.out.println("초기화된 게시글 수: " + expiredPosts.size());
         }
     }
+
+    /**
+     * 게시글과 그 댓글들을 물리 삭제 (초기화, 관리자 정리에서 사용)
+     */
+    @Transactional
+    public void removePosts(List<Post> posts) {
+        List<Long> postIds = posts.stream().map(Post::getId).collect(Collectors.toList());
+        // 댓글이 남아 있으면 외래키 때문에 게시글을 지울 수 없으므로 먼저 삭제
+        // (댓글 쓰기와 같은 순서로 댓글 행, 게시글 행 순으로 잡힘. 지우는 도중 달린 답글이 있으면 외래키 오류로 롤백되고 다음 초기화 때 다시 지움)
+        commentRepository.detachParentsByPostIds(postIds);
+        commentRepository.deleteByPostIds(postIds);
+        postRepository.deleteAll(posts);
+        secondLevelCacheService.evictPosts(postIds);
+        // 삭제된 게시글을 304로 계속 보여주지 않도록 ETag 버전도 버림
+        posts.forEach(post -> postVersionTracker.forget(post.getId()));
+        posts.forEach(post -> commentReactionService.evictPost(post.getId()));
+        searchIndexService.removePosts(postIds);
+        commentMetadataIndex.removePosts(postIds);
+        invalidationBus.publishPosts(CacheInvalidation.Kind.POST_REMOVED, postIds);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,115 @@
+package io.github.ewhaspringteam.spring_study_susie.service;
+
+import io.github.ewhaspringteam.spring_study_susie.datasource.ReplicaProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글별 변경 버전 (댓글이 작성/수정/삭제될 때마다 증가, 값은 댓글 변경 기록의 버전과 같음)
+ * 조회 API의 ETag / Last-Modified 로 쓰여서, 바뀐 게 없는 폴링은 DB를 읽지 않고 304로 응답할 수 있음
+ * 메모리에만 있으므로 ETag 에 기동 시각을 넣어 재시작 전에 받은 ETag 와 겹치지 않게 함
+ */
+@Component
+public class PostVersionTracker {
+
+    @Autowired
+    private ReplicaProperties replicaProperties;
+
+    private final long startedAt = System.currentTimeMillis();
+    private final String epoch = Long.toString(startedAt, 36);
+
+    private final Map<Long, Version> versions = new ConcurrentHashMap<>();
+
+    /**
+     * 조회에 성공한 게시글을 버전 0 으로 등록 (이미 있으면 그대로)
+     * 등록된 게시글만 ETag 를 받으므로 없는 게시글의 실패 응답이 304 로 굳지 않음
+     */
+    public void track(Long postId) {
+        versions.putIfAbsent(postId, new Version(epoch, 0, startedAt));
+    }
+
+    /**
+     * 지워진 게시글 버리기 (예전 ETag 로 와도 304 가 나가지 않음)
+     * 트랜잭션 안이면 커밋된 뒤에 버림
+     */
+    public void forget(Long postId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    versions.remove(postId);
+                }
+            });
+        } else {
+            versions.remove(postId);
+        }
+    }
+
+    /**
+     * 댓글 변경 기록에서 매긴 버전으로 올리기 (커밋된 뒤에 호출됨)
+     * 커밋 후 처리 순서가 뒤바뀌어도 더 작은 버전으로 내려가지 않음
+     */
+    public void advance(Long postId, long version) {
+        long now = System.currentTimeMillis();
+        versions.merge(postId, new Version(epoch, version, now), (current, next) ->
+                current.getVersion() >= next.getVersion()
+                        ? current
+                        : new Version(epoch, next.getVersion(), Math.max(now, current.getModifiedAt())));
+    }
+
+    /**
+     * 조건부 GET 에 쓸 현재 버전 (조회된 적 없거나 지워진 게시글이면 null)
+     * replica 를 쓰는 경우 방금 바뀐 게시글은 복제본이 아직 옛 데이터를 줄 수 있으므로 null (캐시하지 않음)
+     * → 새 ETag 에 옛 데이터가 묶여서 다음 변경 전까지 계속 304 가 나가는 일을 막음
+     */
+    public Version getCacheableVersion(Long postId) {
+        Version version = versions.get(postId);
+        if (version == null) {
+            return null;
+        }
+        if (replicaProperties.isEnabled()
+                && System.currentTimeMillis() - version.getModifiedAt() < replicaProperties.getMaxLag().toMillis()) {
+            return null;
+        }
+        return version;
+    }
+
+    /**
+     * 게시글의 한 시점 버전
+     */
+    public static class Version {
+
+        private final String epoch;
+        private final long version;
+        private final long modifiedAt;
+
+        Version(String epoch, long version, long modifiedAt) {
+            this.epoch = epoch;
+            this.version = version;
+            this.modifiedAt = modifiedAt;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public long getModifiedAt() {
+            return modifiedAt;
+        }
+
+        // 강한 ETag 값 (따옴표는 Spring 이 붙임)
+        public String getETag() {
+            return epoch + "-" + version;
+        }
+
+        // 같은 버전을 여러 포맷으로 내보낼 때 포맷별로 다른 강한 ETag
+        public String getETag(String format) {
+            return getETag() + "-" + format;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package io.github.ewhaspringteam.spring_study_susie.service;
+
+import io.github.ewhaspringteam.spring_study_susie.entity.Comment;
+import io.github.ewhaspringteam.spring_study_susie.entity.Post;
+import io.github.ewhaspringteam.spring_study_susie.invalidation.CacheInvalidationEvent;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hibernate 2차 캐시 / 쿼리 캐시 관리 (무효화, 적중률 통계)
+ */
+@Service
+public class SecondLevelCacheService {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    /**
+     * 초기화된 게시글과 그 댓글들을 캐시에서 제거
+     */
+    public void evictPosts(Collection<Long> postIds) {
+        org.hibernate.Cache cache = sessionFactory().getCache();
+        for (Long postId : postIds) {
+            cache.evictEntityData(Post.class, postId);
+        }
+        // 댓글은 게시글 단위로 골라낼 수 없으므로 영역 전체를 비움 (하루 한 번이라 부담 없음)
+        cache.evictEntityData(Comment.class);
+        cache.evictQueryRegions();
+    }
+
+    /**
+     * 다른 인스턴스에서 커밋된 변경 반영
+     * 쿼리 캐시는 이 인스턴스의 쓰기만 보고 무효화되므로 직접 비움
+     * 다른 캐시(ETag 버전 등)가 먼저 갱신되면 새 버전으로 옛 엔티티를 읽어 갈 수 있으므로 가장 먼저 실행
+     */
+    @EventListener
+    @Order(0)
+    public void onRemoteChange(CacheInvalidationEvent event) {
+        org.hibernate.Cache cache = sessionFactory().getCache();
+        switch (event.getKind()) {
+            case COMMENT_CHANGED -> {
+                cache.evictEntityData(Comment.class, event.getCommentId());
+                cache.evictQueryRegions();
+            }
+            case POST_REMOVED -> evictPosts(List.of(event.getPostId()));
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * 캐시 영역별 적중/실패/저장 횟수와 적중률
+     */
+    public Map<String, Map<String, Object>> getRegionStats() {
+        Statistics statistics = sessionFactory().getStatistics();
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(regionName);
+            if (region != null) {
+                result.put(regionName, toMap(region));
+            }
+        }
+
+        CacheRegionStatistics queryRegion = statistics.getQueryRegionStatistics("default-query-results-region");
+        if (queryRegion != null) {
+            result.put("default-query-results-region", toMap(queryRegion));
+        }
+        return result;
+    }
+
+    private Map<String, Object> toMap(CacheRegionStatistics region) {
+        long hits = region.getHitCount();
+        long misses = region.getMissCount();
+        long total = hits + misses;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("hitCount", hits);
+        stats.put("missCount", misses);
+        stats.put("putCount", region.getPutCount());
+        stats.put("hitRatio", total == 0 ? 0.0 : (double) hits / total);
+        stats.put("elementCountInMemory", region.getElementCountInMemory());
+        return stats;
+    }
+
+    private SessionFactory sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactory.class);
+    }
+}
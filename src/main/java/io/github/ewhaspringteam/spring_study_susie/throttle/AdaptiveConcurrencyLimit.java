@@ -0,0 +1,101 @@
+package io.github.ewhaspringteam.spring_study_susie.throttle;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 지연 시간을 보고 스스로 조절되는 동시 처리 한도 (gradient 방식)
+ * 오래 관찰한 평균 지연(longRtt)과 방금 끝난 요청의 지연(rtt)을 비교해서
+ * - 지연이 평소 수준(tolerance 배 이내)이면 한도를 sqrt(한도)만큼씩 늘리고
+ * - 지연이 늘어나면 그 비율만큼(최대 절반까지) 한도를 줄임
+ * 한도를 넘는 요청은 기다리게 하지 않고 바로 거절 (대기열이 쌓여서 모든 요청이 느려지는 것을 막음)
+ * 처리 중인 수는 CAS 로만 세고, 한도 계산만 짧게 잠금
+ */
+public class AdaptiveConcurrencyLimit {
+
+    // 처음 이만큼의 요청은 평균 지연을 잡는 데만 씀
+    private static final int WARMUP_SAMPLES = 10;
+    // 실패한 요청이 끝났을 때 한도를 줄이는 비율
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double tolerance;
+    private final int longWindow;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+
+    // 오래 관찰한 지연 시간 (지수 이동 평균, 나노초)
+    private double longRtt;
+    private int samples;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit,
+                                    double smoothing, double tolerance, int longWindow) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.tolerance = tolerance;
+        this.longWindow = longWindow;
+        this.limit = clamp(initialLimit);
+    }
+
+    /**
+     * 처리 시작 시도 (한도가 찼으면 false, true 면 끝날 때 release 를 불러야 함)
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 처리 끝 (걸린 시간과 실패 여부로 한도를 조절)
+     */
+    public void release(long rttNanos, boolean failed) {
+        int current = inFlight.getAndDecrement();
+        update(Math.max(1, rttNanos), current, failed);
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void update(long rtt, int inFlightAtEnd, boolean failed) {
+        if (failed) {
+            limit = clamp(limit * BACKOFF_RATIO);
+            return;
+        }
+        if (samples < WARMUP_SAMPLES) {
+            samples++;
+            longRtt += (rtt - longRtt) / samples;
+            return;
+        }
+        longRtt += (rtt - longRtt) / longWindow;
+        // 부하가 빠져서 지연이 크게 줄었으면 기준도 빨리 따라 내려가게 함 (그대로 두면 한도가 너무 오래 큼)
+        if (longRtt / rtt > 2) {
+            longRtt *= 0.95;
+        }
+        // 한도의 절반도 쓰지 않는 동안은 한도가 맞는지 판단할 근거가 없으므로 그대로 둠
+        if (inFlightAtEnd < limit / 2) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRtt / rtt));
+        double target = limit * gradient + Math.sqrt(limit);
+        limit = clamp(limit * (1 - smoothing) + target * smoothing);
+    }
+
+    private double clamp(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+}
@@ -0,0 +1,138 @@
+package io.github.ewhaspringteam.spring_study_susie.throttle;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.ewhaspringteam.spring_study_susie.controller.CommentController;
+import io.github.ewhaspringteam.spring_study_susie.controller.PostController;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 게시글/댓글 컨트롤러 앞의 동시 처리 한도
+ * 조회와 쓰기는 지연 시간도 병목(커넥션 풀, 행 잠금)도 달라서 한도를 따로 둠
+ * 한도를 넘으면 Tomcat 스레드와 커넥션 풀에서 기다리게 하지 않고 바로 503 (Retry-After: 1)
+ * 한도와 처리 중인 수는 app.concurrency.limit / app.concurrency.inflight, 거절 수는 app.concurrency.rejected 메트릭
+ */
+@Component
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    private static final String STARTED_AT = ConcurrencyLimitInterceptor.class.getName() + ".startedAt";
+    private static final String LIMIT = ConcurrencyLimitInterceptor.class.getName() + ".limit";
+
+    private static final String MESSAGE = "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
+
+    @Autowired
+    private ConcurrencyLimitProperties properties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private AdaptiveConcurrencyLimit readLimit;
+    private AdaptiveConcurrencyLimit writeLimit;
+    private Counter readRejected;
+    private Counter writeRejected;
+
+    @PostConstruct
+    void init() {
+        readLimit = createLimit(properties.getRead());
+        writeLimit = createLimit(properties.getWrite());
+        readRejected = registerMetrics("read", readLimit);
+        writeRejected = registerMetrics("write", writeLimit);
+    }
+
+    private AdaptiveConcurrencyLimit createLimit(ConcurrencyLimitProperties.Group group) {
+        return new AdaptiveConcurrencyLimit(group.getInitialLimit(), group.getMinLimit(), group.getMaxLimit(),
+                properties.getSmoothing(), properties.getTolerance(), properties.getLongWindow());
+    }
+
+    private Counter registerMetrics(String type, AdaptiveConcurrencyLimit limit) {
+        Gauge.builder("app.concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                .tag("type", type)
+                .description("지금의 동시 처리 한도")
+                .register(meterRegistry);
+        Gauge.builder("app.concurrency.inflight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                .tag("type", type)
+                .description("처리 중인 요청 수")
+                .register(meterRegistry);
+        return Counter.builder("app.concurrency.rejected")
+                .tag("type", type)
+                .description("한도를 넘어 503 으로 거절한 요청 수")
+                .register(meterRegistry);
+    }
+
+    public AdaptiveConcurrencyLimit getReadLimit() {
+        return readLimit;
+    }
+
+    public AdaptiveConcurrencyLimit getWriteLimit() {
+        return writeLimit;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        if (!properties.isEnabled() || !isLimited(handler)) {
+            return true;
+        }
+        boolean read = "GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod());
+        AdaptiveConcurrencyLimit limit = read ? readLimit : writeLimit;
+        if (limit.tryAcquire()) {
+            request.setAttribute(LIMIT, limit);
+            request.setAttribute(STARTED_AT, System.nanoTime());
+            return true;
+        }
+        (read ? readRejected : writeRejected).increment();
+        reject(request, response);
+        return false;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        AdaptiveConcurrencyLimit limit = (AdaptiveConcurrencyLimit) request.getAttribute(LIMIT);
+        if (limit == null) {
+            return;
+        }
+        request.removeAttribute(LIMIT);
+        long elapsed = System.nanoTime() - (Long) request.getAttribute(STARTED_AT);
+        limit.release(elapsed, ex != null || response.getStatus() >= 500);
+    }
+
+    private boolean isLimited(Object handler) {
+        if (!(handler instanceof HandlerMethod method)) {
+            return false;
+        }
+        Class<?> type = method.getBeanType();
+        return type == PostController.class || type == CommentController.class;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setHeader("Retry-After", "1");
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.startsWith("/api/")) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding("UTF-8");
+            objectMapper.writeValue(response.getOutputStream(), Map.of(
+                "success", false,
+                "message", MESSAGE
+            ));
+            return;
+        }
+        // 화면 요청은 기본 에러 페이지로
+        response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), MESSAGE);
+    }
+}
@@ -0,0 +1,114 @@
+package io.github.ewhaspringteam.spring_study_susie.throttle;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 게시글/댓글 컨트롤러의 동시 처리 한도 설정 (app.concurrency-limit.*)
+ */
+@ConfigurationProperties(prefix = "app.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+
+    // 조회 (GET/HEAD)
+    private Group read = new Group(50, 10, 400);
+
+    // 쓰기 (그 외 메서드)
+    private Group write = new Group(20, 4, 100);
+
+    // 한 요청이 끝날 때 새로 계산한 한도를 얼마나 반영할지 (0~1)
+    private double smoothing = 0.2;
+
+    // 평균 지연의 몇 배까지는 한도를 줄이지 않을지
+    private double tolerance = 1.5;
+
+    // 평균 지연을 잡는 기간 (요청 수)
+    private int longWindow = 600;
+
+    public static class Group {
+
+        private int initialLimit;
+        private int minLimit;
+        private int maxLimit;
+
+        public Group() {}
+
+        public Group(int initialLimit, int minLimit, int maxLimit) {
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+        }
+
+        public int getInitialLimit() {
+            return initialLimit;
+        }
+
+        public void setInitialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+        }
+
+        public int getMinLimit() {
+            return minLimit;
+        }
+
+        public void setMinLimit(int minLimit) {
+            this.minLimit = minLimit;
+        }
+
+        public int getMaxLimit() {
+            return maxLimit;
+        }
+
+        public void setMaxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Group getRead() {
+        return read;
+    }
+
+    public void setRead(Group read) {
+        this.read = read;
+    }
+
+    public Group getWrite() {
+        return write;
+    }
+
+    public void setWrite(Group write) {
+        this.write = write;
+    }
+
+    public double getSmoothing() {
+        return smoothing;
+    }
+
+    public void setSmoothing(double smoothing) {
+        this.smoothing = smoothing;
+    }
+
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    public void setTolerance(double tolerance) {
+        this.tolerance = tolerance;
+    }
+
+    public int getLongWindow() {
+        return longWindow;
+    }
+
+    public void setLongWindow(int longWindow) {
+        this.longWindow = longWindow;
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.ewhaspringteam.spring_study_susie.throttle;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 락 없이 동작하는 토큰 버킷
+ * 상태(남은 토큰, 마지막 충전 시각)를 불변 객체 하나로 묶어 CAS로 교체
+ */
+public class TokenBucket {
+
+    private final double capacity;
+    private final double refillPerNano;
+    private final AtomicReference<State> state;
+
+    private record State(double tokens, long refilledAt) {}
+
+    public TokenBucket(double capacity, double refillPerSecond, long now) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / 1_000_000_000.0;
+        this.state = new AtomicReference<>(new State(capacity, now));
+    }
+
+    /**
+     * 토큰 하나 사용 시도
+     */
+    public boolean tryAcquire(long now) {
+        while (true) {
+            State current = state.get();
+            double tokens = available(current, now);
+            if (tokens < 1.0) {
+                // 거절할 때는 상태를 바꾸지 않으므로 CAS 경쟁도 없음
+                return false;
+            }
+            if (state.compareAndSet(current, new State(tokens - 1.0, now))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 다음 토큰이 생길 때까지 남은 시간 (나노초)
+     */
+    public long nanosUntilNextToken(long now) {
+        double missing = 1.0 - available(state.get(), now);
+        if (missing <= 0) {
+            return 0;
+        }
+        return (long) Math.ceil(missing / refillPerNano);
+    }
+
+    /**
+     * 오래 쓰이지 않아 가득 찬 버킷인지 확인 (제거해도 동작이 달라지지 않음)
+     */
+    public boolean isIdle(long now, long idleNanos) {
+        State current = state.get();
+        return now - current.refilledAt() > idleNanos && available(current, now) >= capacity;
+    }
+
+    private double available(State current, long now) {
+        long elapsed = Math.max(0, now - current.refilledAt());
+        return Math.min(capacity, current.tokens() + elapsed * refillPerNano);
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.ewhaspringteam.spring_study_susie.throttle;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * (엔드포인트, 작성자)별 토큰 버킷 보관소
+ * ConcurrentHashMap은 조회에 락을 쓰지 않고, 생성 시에도 해당 bin만 잠그므로 작성자끼리 서로 막지 않음
+ */
+@Component
+public class TokenBucketRegistry {
+
+    @Autowired
+    private WriteThrottleProperties properties;
+
+    private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * 요청 허용 여부 확인, 거절 시 다음 토큰까지 남은 나노초를 반환 (허용 시 0)
+     */
+    public long tryAcquire(String endpoint, String authorKey, WriteThrottleProperties.EndpointLimit limit) {
+        long now = System.nanoTime();
+        String key = endpoint + '|' + authorKey;
+
+        // 대부분은 이미 버킷이 있으므로 먼저 get으로 확인 (computeIfAbsent는 bin을 잠금)
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(key,
+                    k -> new TokenBucket(limit.getCapacity(), limit.getRefillPerSecond(), now));
+        }
+
+        if (bucket.tryAcquire(now)) {
+            return 0;
+        }
+        return Math.max(1, bucket.nanosUntilNextToken(now));
+    }
+
+    /**
+     * 오래 쓰이지 않은 버킷 정리
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        long idleNanos = properties.getIdleTimeout().toNanos();
+        buckets.entrySet().removeIf(entry -> entry.getValue().isIdle(now, idleNanos));
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+}
@@ -0,0 +1,171 @@
+package io.github.ewhaspringteam.spring_study_susie.throttle;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.FlashMap;
+import org.springframework.web.servlet.support.SessionFlashMapManager;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 작성자별 쓰기 요청 제한 필터
+ * 컨트롤러와 DB 커넥션에 닿기 전에 토큰 버킷으로 과도한 요청을 거절
+ * 작성자는 X-Author-Id 헤더, authorId 파라미터, JSON 본문의 authorId 순서로 확인하고 없으면 클라이언트 IP 기준
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10) // 인코딩 필터 다음 (파라미터를 읽기 전에 인코딩이 정해져야 함)
+public class WriteThrottleFilter extends OncePerRequestFilter {
+
+    // 작성자를 찾기 위해 미리 읽을 JSON 본문의 최대 크기
+    private static final int MAX_INSPECTED_BODY = 64 * 1024;
+
+    @Autowired
+    private WriteThrottleProperties properties;
+
+    @Autowired
+    private TokenBucketRegistry registry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final SessionFlashMapManager flashMapManager = new SessionFlashMapManager();
+
+    private List<Rule> rules = new ArrayList<>();
+
+    private record Rule(String endpoint, List<PathPattern> patterns, WriteThrottleProperties.EndpointLimit limit) {}
+
+    @PostConstruct
+    void initRules() {
+        List<Rule> parsed = new ArrayList<>();
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        for (Map.Entry<String, WriteThrottleProperties.EndpointLimit> entry : properties.getEndpoints().entrySet()) {
+            List<PathPattern> patterns = entry.getValue().getPatterns().stream()
+                    .map(parser::parse)
+                    .collect(Collectors.toList());
+            parsed.add(new Rule(entry.getKey(), patterns, entry.getValue()));
+        }
+        this.rules = parsed;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !properties.isEnabled()
+                || "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Rule rule = findRule(request);
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        HttpServletRequest inspected = request;
+        String authorId = request.getHeader("X-Author-Id");
+        if (authorId == null && isJson(request)) {
+            CachedBodyHttpServletRequest cached = cacheBody(request);
+            if (cached != null) {
+                inspected = cached;
+                authorId = readAuthorFromJson(cached.getBody());
+            }
+        } else if (authorId == null) {
+            authorId = request.getParameter("authorId");
+        }
+        String authorKey = authorId != null ? "author:" + authorId : "ip:" + request.getRemoteAddr();
+
+        long waitNanos = registry.tryAcquire(rule.endpoint(), authorKey, rule.limit());
+        if (waitNanos == 0) {
+            filterChain.doFilter(inspected, response);
+            return;
+        }
+        reject(request, response, waitNanos);
+    }
+
+    private Rule findRule(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        PathContainer container = PathContainer.parsePath(path);
+        for (Rule rule : rules) {
+            for (PathPattern pattern : rule.patterns()) {
+                if (pattern.matches(container)) {
+                    return rule;
+                }
+            }
+        }
+        return null;
+    }
+
+    private boolean isJson(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return contentType != null && contentType.startsWith(MediaType.APPLICATION_JSON_VALUE);
+    }
+
+    private CachedBodyHttpServletRequest cacheBody(HttpServletRequest request) throws IOException {
+        int length = request.getContentLength();
+        if (length < 0 || length > MAX_INSPECTED_BODY) {
+            return null;
+        }
+        return new CachedBodyHttpServletRequest(request, request.getInputStream().readNBytes(length));
+    }
+
+    private String readAuthorFromJson(byte[] body) {
+        try {
+            JsonNode authorId = objectMapper.readTree(body).get("authorId");
+            return authorId != null && authorId.isTextual() ? authorId.asText() : null;
+        } catch (IOException e) {
+            // 본문이 잘못된 경우는 컨트롤러에서 처리
+            return null;
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1);
+        String message = "요청이 너무 많습니다. " + retryAfterSeconds + "초 후에 다시 시도해주세요.";
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.startsWith("/api/")) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding("UTF-8");
+            objectMapper.writeValue(response.getOutputStream(), Map.of(
+                "success", false,
+                "message", message
+            ));
+            return;
+        }
+
+        // 폼 요청은 컨트롤러와 같은 방식으로 에러 메시지를 들고 원래 페이지로 돌아감
+        String referer = request.getHeader("Referer");
+        String location = referer != null ? referer : "/";
+        FlashMap flashMap = new FlashMap();
+        flashMap.put("error", message);
+        flashMap.setTargetRequestPath(UriComponentsBuilder.fromUriString(location).build().getPath());
+        flashMapManager.saveOutputFlashMap(flashMap, request, response);
+        response.sendRedirect(location);
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.ewhaspringteam.spring_study_susie.throttle;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 작성자별 쓰기 요청 제한 설정 (app.throttle.*)
+ */
+@ConfigurationProperties(prefix = "app.throttle")
+public class WriteThrottleProperties {
+
+    private boolean enabled = true;
+
+    // 이 시간 동안 요청이 없던 버킷은 메모리에서 제거
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    // 엔드포인트 이름 -> 제한
+    private Map<String, EndpointLimit> endpoints = new LinkedHashMap<>();
+
+    public static class EndpointLimit {
+
+        // 적용할 경로 패턴 (예: /api/posts/*/comments)
+        private List<String> patterns = new ArrayList<>();
+
+        // 한 번에 몰아서 보낼 수 있는 최대 요청 수
+        private int capacity = 10;
+
+        // 초당 충전되는 토큰 수
+        private double refillPerSecond = 1.0;
+
+        public List<String> getPatterns() {
+            return patterns;
+        }
+
+        public void setPatterns(List<String> patterns) {
+            this.patterns = patterns;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        public double getRefillPerSecond() {
+            return refillPerSecond;
+        }
+
+        public void setRefillPerSecond(double refillPerSecond) {
+            this.refillPerSecond = refillPerSecond;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    public void setIdleTimeout(Duration idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    public Map<String, EndpointLimit> getEndpoints() {
+        return endpoints;
+    }
+
+    public void setEndpoints(Map<String, EndpointLimit> endpoints) {
+        this.endpoints = endpoints;
+    }
+}
@@ -0,0 +1,197 @@
+package io.github.ewhaspringteam.spring_study_susie.warmup;
+
+import io.github.ewhaspringteam.spring_study_susie.config.CompiledMustacheView;
+import io.github.ewhaspringteam.spring_study_susie.dto.PostDto;
+import io.github.ewhaspringteam.spring_study_susie.service.CommentReactionService;
+import io.github.ewhaspringteam.spring_study_susie.service.CommentService;
+import io.github.ewhaspringteam.spring_study_susie.service.PostService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.servlet.view.MustacheViewResolver;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기동 직후 워밍업 (배포 직후 첫 요청들이 느린 문제)
+ * ApplicationRunner 는 readiness 가 ACCEPTING_TRAFFIC 으로 바뀌기 전에 실행되므로,
+ * 여기서 시간을 쓰는 동안에는 /actuator/health/readiness 가 준비 안 됨으로 남아 트래픽이 들어오지 않음
+ * 1. queries   - 리포지토리의 @Query(JPQL)를 모두 파싱해서 Hibernate 쿼리 캐시에 올림
+ * 2. views     - 뷰 템플릿 컴파일 (CompiledMustacheView 가 컴파일 결과를 계속 사용)
+ * 3. caches    - 오늘의 게시글, 댓글 트리, 좋아요 집계를 읽어서 2차 캐시/메모리 집계를 채움
+ * 4. requests  - 내장 서버가 떠 있으면 자주 쓰는 GET 경로를 직접 호출 (필터, 직렬화, 렌더링, JIT)
+ * 단계별 시간은 app.warmup.duration{phase=...} 메트릭으로 남김
+ * app.warmup.exit-on-complete=true 면 워밍업 후 종료 (pom 의 cds 프로필이 AppCDS 학습 실행에 사용)
+ * 워밍업이 실패해도 기동은 계속함 (느릴 뿐 동작에는 문제 없음)
+ */
+@Component
+public class StartupWarmup implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmup.class);
+
+    private static final String BASE_PACKAGE = "io.github.ewhaspringteam.spring_study_susie";
+
+    @Autowired
+    private WarmupProperties properties;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private MustacheViewResolver mustacheViewResolver;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private CommentReactionService commentReactionService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        int queries = phase("queries", this::compileQueries, 0);
+        int views = phase("views", this::compileViews, 0);
+        Optional<Long> todayPostId = phase("caches", this::primeCaches, Optional.empty());
+        int requests = phase("requests", () -> exerciseHotPaths(todayPostId.orElse(null)), 0);
+        long elapsed = record("total", startedAt);
+
+        log.info("워밍업 완료: {}ms (쿼리 {}개, 템플릿 {}개, 요청 {}개)",
+                TimeUnit.NANOSECONDS.toMillis(elapsed), queries, views, requests);
+
+        if (properties.isExitOnComplete()) {
+            System.exit(SpringApplication.exit(applicationContext));
+        }
+    }
+
+    private interface Step<T> {
+        T run() throws Exception;
+    }
+
+    private <T> T phase(String name, Step<T> step, T fallback) {
+        long startedAt = System.nanoTime();
+        try {
+            return step.run();
+        } catch (Exception e) {
+            log.warn("워밍업 {} 단계 실패: {}", name, e.toString());
+            return fallback;
+        } finally {
+            record(name, startedAt);
+        }
+    }
+
+    private long record(String phase, long startedAt) {
+        long elapsed = System.nanoTime() - startedAt;
+        Timer.builder("app.warmup.duration")
+                .description("기동 워밍업 단계별 소요 시간")
+                .tag("phase", phase)
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        return elapsed;
+    }
+
+    // 우리 리포지토리의 JPQL @Query 를 모두 createQuery (실행하지 않으므로 수정 쿼리도 안전)
+    private int compileQueries() {
+        int compiled = 0;
+        for (Object repository : applicationContext.getBeansOfType(Repository.class).values()) {
+            for (Class<?> type : AopProxyUtils.proxiedUserInterfaces(repository)) {
+                if (!type.getName().startsWith(BASE_PACKAGE)) {
+                    continue;
+                }
+                for (Method method : type.getMethods()) {
+                    Query query = method.getAnnotation(Query.class);
+                    if (query != null && !query.nativeQuery()) {
+                        entityManager.createQuery(query.value());
+                        compiled++;
+                    }
+                }
+            }
+        }
+        return compiled;
+    }
+
+    private int compileViews() throws Exception {
+        int compiled = 0;
+        for (String name : properties.getViews()) {
+            if (mustacheViewResolver.resolveViewName(name, Locale.KOREA) instanceof CompiledMustacheView view) {
+                view.getTemplate();
+                compiled++;
+            }
+        }
+        return compiled;
+    }
+
+    // 오늘의 게시글 화면과 목록 화면이 읽는 것들을 미리 읽어 둠
+    private Optional<Long> primeCaches() {
+        Optional<Long> postId = postService.getTodayPost().map(PostDto::getId);
+        if (postId.isPresent()) {
+            commentService.getCommentStats(postId.get());
+            commentReactionService.applyReactionCounts(postId.get(), commentService.getCommentTree(postId.get()));
+        }
+        postService.getAllPosts();
+        return postId;
+    }
+
+    private int exerciseHotPaths(Long todayPostId) {
+        if (!(applicationContext instanceof WebServerApplicationContext web) || web.getWebServer() == null) {
+            return 0;
+        }
+
+        List<String> paths = new ArrayList<>(List.of("/", "/posts"));
+        if (todayPostId != null) {
+            paths.add("/api/posts/" + todayPostId + "/comments");
+            paths.add("/api/posts/" + todayPostId + "/comments/stream");
+            paths.add("/posts/" + todayPostId);
+        }
+
+        RestClient client = RestClient.create("http://localhost:" + web.getWebServer().getPort());
+        long deadline = System.nanoTime() + properties.getMaxDuration().toNanos();
+        int sent = 0;
+        for (int i = 0; i < properties.getRequests(); i++) {
+            for (String path : paths) {
+                if (System.nanoTime() > deadline) {
+                    log.warn("워밍업 시간 초과, 요청 {}개 후 중단", sent);
+                    return sent;
+                }
+                try {
+                    client.get().uri(path).retrieve().toBodilessEntity();
+                } catch (RestClientException e) {
+                    // 리다이렉트/오류 응답도 워밍업에는 충분
+                }
+                sent++;
+            }
+        }
+        return sent;
+    }
+}
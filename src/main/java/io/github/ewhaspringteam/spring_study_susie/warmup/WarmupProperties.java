@@ -0,0 +1,68 @@
+package io.github.ewhaspringteam.spring_study_susie.warmup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기동 워밍업 설정 (app.warmup.*)
+ */
+@ConfigurationProperties(prefix = "app.warmup")
+public class WarmupProperties {
+
+    private boolean enabled = true;
+
+    // 미리 컴파일해 둘 뷰 템플릿 (partial 은 자주 쓰는 경로를 요청할 때 함께 컴파일됨)
+    private List<String> views = new ArrayList<>(List.of("post/today", "post/list", "post/show", "post/new"));
+
+    // 자주 쓰는 경로마다 보낼 요청 수 (JIT 컴파일이 일어날 만큼)
+    private int requests = 200;
+
+    // 이 시간이 지나면 남은 요청은 건너뛰고 준비 완료로 넘어감
+    private Duration maxDuration = Duration.ofSeconds(30);
+
+    // 워밍업이 끝나면 종료 (AppCDS 학습 실행용, 워밍업 중 로드된 클래스까지 아카이브에 들어감)
+    private boolean exitOnComplete = false;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<String> getViews() {
+        return views;
+    }
+
+    public void setViews(List<String> views) {
+        this.views = views;
+    }
+
+    public int getRequests() {
+        return requests;
+    }
+
+    public void setRequests(int requests) {
+        this.requests = requests;
+    }
+
+    public Duration getMaxDuration() {
+        return maxDuration;
+    }
+
+    public void setMaxDuration(Duration maxDuration) {
+        this.maxDuration = maxDuration;
+    }
+
+    public boolean isExitOnComplete() {
+        return exitOnComplete;
+    }
+
+    public void setExitOnComplete(boolean exitOnComplete) {
+        this.exitOnComplete = exitOnComplete;
+    }
+}
@@ -0,0 +1,92 @@
+package io.github.ewhaspringteam.spring_study_susie.workload;
+
+/**
+ * 기록된 요청 하나 (workload 파일의 한 줄)
+ * at 은 Clock 기준 시각이라 재생할 때 같은 시각으로 시간을 맞출 수 있음
+ */
+public class WorkloadEvent {
+
+    private long at;              // 요청 시각 (epoch millis)
+    private String method;
+    private String path;          // 쿼리 스트링 포함
+    private String contentType;
+    private String authorId;      // X-Author-Id 헤더
+    private String body;
+    private int status;
+    private long durationMicros;  // 기록 당시 처리 시간
+
+    public WorkloadEvent() {}
+
+    public WorkloadEvent(long at, String method, String path, String contentType, String authorId, String body) {
+        this.at = at;
+        this.method = method;
+        this.path = path;
+        this.contentType = contentType;
+        this.authorId = authorId;
+        this.body = body;
+    }
+
+    public long getAt() {
+        return at;
+    }
+
+    public void setAt(long at) {
+        this.at = at;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public void setMethod(String method) {
+        this.method = method;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getAuthorId() {
+        return authorId;
+    }
+
+    public void setAuthorId(String authorId) {
+        this.authorId = authorId;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    public void setBody(String body) {
+        this.body = body;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public long getDurationMicros() {
+        return durationMicros;
+    }
+
+    public void setDurationMicros(long durationMicros) {
+        this.durationMicros = durationMicros;
+    }
+}
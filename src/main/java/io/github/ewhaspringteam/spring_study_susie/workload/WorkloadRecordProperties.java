@@ -0,0 +1,42 @@
+package io.github.ewhaspringteam.spring_study_susie.workload;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 요청 기록 설정 (app.workload.record.*)
+ */
+@ConfigurationProperties(prefix = "app.workload.record")
+public class WorkloadRecordProperties {
+
+    // 켜면 들어온 요청을 path 파일에 한 줄씩 JSON 으로 남김 (성능 테스트 재생용)
+    private boolean enabled = false;
+
+    private String path = "workload.jsonl";
+
+    // 기록할 요청 본문 최대 크기 (넘는 부분은 잘림)
+    private int maxBody = 16 * 1024;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public int getMaxBody() {
+        return maxBody;
+    }
+
+    public void setMaxBody(int maxBody) {
+        this.maxBody = maxBody;
+    }
+}
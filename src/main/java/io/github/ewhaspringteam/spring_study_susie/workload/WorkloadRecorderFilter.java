@@ -0,0 +1,90 @@
+package io.github.ewhaspringteam.spring_study_susie.workload;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 기록 필터 (app.workload.record.enabled=true 일 때만)
+ * 요청마다 시각, 경로, 본문, 응답 코드, 처리 시간을 JSON 한 줄로 남김
+ * 남긴 파일은 테스트의 WorkloadReplayer 로 시간을 빠르게 돌려가며 다시 보낼 수 있음
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE) // 쓰기 제한(429)으로 거절된 요청도 기록되도록 가장 바깥에서 실행
+public class WorkloadRecorderFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private WorkloadRecordProperties properties;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Clock clock;
+
+    private BufferedWriter writer;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long at = clock.millis();
+        long startedAt = System.nanoTime();
+        ContentCachingRequestWrapper cached = new ContentCachingRequestWrapper(request, properties.getMaxBody());
+        try {
+            filterChain.doFilter(cached, response);
+        } finally {
+            String path = request.getRequestURI() + (request.getQueryString() != null ? "?" + request.getQueryString() : "");
+            byte[] body = cached.getContentAsByteArray();
+            WorkloadEvent event = new WorkloadEvent(at, request.getMethod(), path, request.getContentType(),
+                    request.getHeader("X-Author-Id"), body.length > 0 ? new String(body, StandardCharsets.UTF_8) : null);
+            event.setStatus(response.getStatus());
+            event.setDurationMicros(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt));
+            write(event);
+        }
+    }
+
+    private synchronized void write(WorkloadEvent event) throws IOException {
+        if (writer == null) {
+            writer = Files.newBufferedWriter(Path.of(properties.getPath()), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+        writer.write(objectMapper.writeValueAsString(event));
+        writer.newLine();
+        writer.flush();
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                logger.warn("요청 기록 파일을 닫지 못했습니다.", e);
+            }
+            writer = null;
+        }
+    }
+}
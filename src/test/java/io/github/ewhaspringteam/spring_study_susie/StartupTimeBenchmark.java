@@ -0,0 +1,138 @@
+package io.github.ewhaspringteam.spring_study_susie;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 기동 시간 비교 (새 인스턴스를 띄워서 확장할 때 첫 요청을 받기까지 걸리는 시간)
+ * 1. plain   - 일반 jar (java -jar target/*.jar)
+ * 2. aot     - Spring AOT 로 만든 빈 구성 사용 (-Dspring.aot.enabled=true)
+ * 3. aot+cds - 2 + 학습 실행으로 만든 AppCDS 아카이브
+ * 프로세스 시작부터 /posts 가 처음 200 을 돌려줄 때까지, readiness 가 UP 이 될 때까지(워밍업 포함)를 잼
+ * 실행: mvn -Pcds package -DskipTests && mvn test -Pbenchmark -Dtest=StartupTimeBenchmark
+ */
+@Tag("benchmark")
+class StartupTimeBenchmark {
+
+    private static final Path TARGET = Path.of("target");
+    private static final Path CDS = TARGET.resolve("cds");
+    private static final String JAR = "spring-study-susie-0.0.1-SNAPSHOT.jar";
+
+    private static final Duration START_TIMEOUT = Duration.ofMinutes(3);
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(200))
+            .build();
+
+    @Test
+    void timeToFirstRequest() throws Exception {
+        assumeTrue(Files.exists(CDS.resolve("application.jsa")), "먼저 mvn -Pcds package -DskipTests 로 빌드");
+        int rounds = Integer.getInteger("startup.rounds", 3);
+
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        List<Variant> variants = List.of(
+                new Variant("plain", TARGET, java, "-jar", JAR),
+                new Variant("aot", CDS, java, "-Dspring.aot.enabled=true", "-jar", JAR),
+                new Variant("aot+cds", CDS, java, "-XX:SharedArchiveFile=application.jsa", "-Xlog:cds=off",
+                        "-Dspring.aot.enabled=true", "-jar", JAR));
+
+        // 첫 회는 파일 캐시 등을 데우는 용도로 버림
+        for (Variant variant : variants) {
+            start(variant);
+        }
+
+        StringBuilder report = new StringBuilder("기동 시간 (중앙값, " + rounds + "회)\n");
+        for (Variant variant : variants) {
+            long[] firstRequest = new long[rounds];
+            long[] ready = new long[rounds];
+            for (int i = 0; i < rounds; i++) {
+                long[] result = start(variant);
+                firstRequest[i] = result[0];
+                ready[i] = result[1];
+            }
+            report.append(String.format("  %-8s 첫 요청 %6dms, readiness UP %6dms%n",
+                    variant.name, median(firstRequest), median(ready)));
+        }
+        System.out.println(report);
+    }
+
+    // [첫 요청까지 ms, readiness UP 까지 ms]
+    private long[] start(Variant variant) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>(variant.command);
+        command.add("--spring.profiles.active=prod");
+        command.add("--server.port=" + port);
+
+        long startedAt = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(variant.directory.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            long deadline = startedAt + START_TIMEOUT.toNanos();
+            waitFor("http://localhost:" + port + "/posts", process, deadline);
+            long firstRequest = System.nanoTime() - startedAt;
+            waitFor("http://localhost:" + port + "/actuator/health/readiness", process, deadline);
+            long ready = System.nanoTime() - startedAt;
+            return new long[]{TimeUnit.NANOSECONDS.toMillis(firstRequest), TimeUnit.NANOSECONDS.toMillis(ready)};
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private void waitFor(String url, Process process, long deadline) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(5)).build();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("기동 실패 (exit " + process.exitValue() + ")");
+            }
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // 아직 포트가 안 열림
+            }
+            Thread.sleep(10);
+        }
+        throw new IllegalStateException(url + " 응답 대기 시간 초과");
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private record Variant(String name, Path directory, List<String> command) {
+        Variant(String name, Path directory, String... command) {
+            this(name, directory.toAbsolutePath(), List.of(command));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.ewhaspringteam.spring_study_susie.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import io.github.ewhaspringteam.spring_study_susie.dto.CommentDto;
+import io.github.ewhaspringteam.spring_study_susie.dto.PostDto;
+import io.github.ewhaspringteam.spring_study_susie.service.CommentService;
+import io.github.ewhaspringteam.spring_study_susie.service.PostService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:binaryformat")
+@AutoConfigureMockMvc
+class CommentBinaryFormatTests {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    private final CBORMapper cborMapper = new CBORMapper();
+
+    @Test
+    void commentsAsFlatParentIndexTree() throws Exception {
+        Long postId = postService.createPost(new PostDto("제목", "내용", "writer", null)).getId();
+        CommentDto root = commentService.createComment(new CommentDto("댓글", "alice", postId, null));
+        CommentDto reply = commentService.createComment(new CommentDto("답글", "bob", postId, root.getId()));
+        commentService.createComment(new CommentDto("다른 댓글", "carol", postId, null));
+
+        byte[] body = mockMvc.perform(get("/api/posts/{postId}/comments", postId).accept(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+        JsonNode comments = cborMapper.readTree(body).get("comments");
+
+        assertThat(comments.get("ids").get(1).asLong()).isEqualTo(reply.getId());
+        assertThat(comments.get("parents").toString()).isEqualTo("[-1,0,-1]");
+        assertThat(comments.get("createdAt").get(0).isIntegralNumber()).isTrue();
+        assertThat(comments.has("children")).isFalse();
+
+        // 요청 본문도 같은 포맷으로 받을 수 있음
+        byte[] updated = mockMvc.perform(put("/api/comments/{commentId}", reply.getId())
+                        .contentType(SMILE)
+                        .accept(SMILE)
+                        .content(new SmileMapper().writeValueAsBytes(Map.of("content", "수정", "authorId", "bob"))))
+                .andReturn().getResponse().getContentAsByteArray();
+        JsonNode comment = new SmileMapper().readTree(updated).get("comment");
+        assertThat(comment.get("content").asText()).isEqualTo("수정");
+        assertThat(comment.get("updatedAt").isIntegralNumber()).isTrue();
+    }
+}
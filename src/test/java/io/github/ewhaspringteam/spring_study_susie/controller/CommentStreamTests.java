@@ -0,0 +1,104 @@
+package io.github.ewhaspringteam.spring_study_susie.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.ewhaspringteam.spring_study_susie.dto.CommentDto;
+import io.github.ewhaspringteam.spring_study_susie.dto.PostDto;
+import io.github.ewhaspringteam.spring_study_susie.service.CommentService;
+import io.github.ewhaspringteam.spring_study_susie.service.PostService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:commentstream")
+@AutoConfigureMockMvc
+class CommentStreamTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Test
+    void streamedTreeMatchesRegularResponse() throws Exception {
+        Long postId = todayPostId();
+
+        CommentDto first = commentService.createComment(new CommentDto("첫 댓글", "alice", postId, null));
+        CommentDto second = commentService.createComment(new CommentDto("둘째 댓글", "bob", postId, null));
+        CommentDto reply = commentService.createComment(new CommentDto("답글", "bob", postId, first.getId()));
+        CommentDto nested = commentService.createComment(new CommentDto("답글의 답글", "carol", postId, reply.getId()));
+        commentService.createComment(new CommentDto("다른 답글", "carol", postId, first.getId()));
+        commentService.createComment(new CommentDto("둘째의 답글", "alice", postId, second.getId()));
+        commentService.createComment(new CommentDto("더 깊은 답글", "dave", postId, nested.getId()));
+        commentService.updateComment(reply.getId(), "수정된 답글", "bob");
+        // 자식이 있는 댓글은 논리 삭제 -> 그 아래 댓글들도 목록에서 빠짐
+        commentService.deleteComment(second.getId(), "bob");
+
+        JsonNode expected = readJson(mockMvc.perform(get("/api/posts/{postId}/comments", postId))
+                .andReturn().getResponse().getContentAsByteArray());
+        MockHttpServletResponse streamed = mockMvc.perform(get("/api/posts/{postId}/comments/stream", postId))
+                .andReturn().getResponse();
+
+        assertThat(readJson(streamed.getContentAsByteArray())).isEqualTo(expected);
+        assertThat(expected.get("comments").findValuesAsText("content"))
+                .contains("첫 댓글", "수정된 답글", "답글의 답글", "더 깊은 답글")
+                .doesNotContain("둘째 댓글", "둘째의 답글");
+        assertThat(streamed.getHeader("Content-Encoding")).isNull();
+    }
+
+    @Test
+    void gzipWhenAccepted() throws Exception {
+        Long postId = todayPostId();
+        commentService.createComment(new CommentDto("댓글", "alice", postId, null));
+
+        JsonNode expected = readJson(mockMvc.perform(get("/api/posts/{postId}/comments/stream", postId))
+                .andReturn().getResponse().getContentAsByteArray());
+        MockHttpServletResponse response = mockMvc.perform(get("/api/posts/{postId}/comments/stream", postId)
+                        .header("Accept-Encoding", "gzip, deflate"))
+                .andReturn().getResponse();
+
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertThat(objectMapper.readTree(in)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void missingPostReturnsFailure() throws Exception {
+        // 스트리밍을 시작하기 전에 확인하므로 gzip 을 받는 클라이언트에게도 압축하지 않은 실패 응답
+        MockHttpServletResponse response = mockMvc.perform(get("/api/posts/{postId}/comments/stream", 9999L)
+                        .header("Accept-Encoding", "gzip"))
+                .andReturn().getResponse();
+        JsonNode json = readJson(response.getContentAsByteArray());
+
+        assertThat(response.getHeader("Content-Encoding")).isNull();
+        assertThat(json.get("success").asBoolean()).isFalse();
+    }
+
+    // 게시글은 하루에 하나만 작성할 수 있으므로 테스트끼리 같은 게시글을 사용
+    private Long todayPostId() {
+        return postService.getTodayPost()
+                .orElseGet(() -> postService.createPost(new PostDto("제목", "내용", "writer", null)))
+                .getId();
+    }
+
+    private JsonNode readJson(byte[] body) throws Exception {
+        return objectMapper.readTree(body);
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.ewhaspringteam.spring_study_susie.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.ewhaspringteam.spring_study_susie.dto.CommentDto;
+import io.github.ewhaspringteam.spring_study_susie.dto.PostDto;
+import io.github.ewhaspringteam.spring_study_susie.service.CommentService;
+import io.github.ewhaspringteam.spring_study_susie.service.PostService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:versionconflict")
+@AutoConfigureMockMvc
+class CommentVersionConflictTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void staleIfMatchGetsConflictWithCurrentComment() throws Exception {
+        Long postId = postService.createPost(new PostDto("제목", "내용", "writer", null)).getId();
+        CommentDto comment = commentService.createComment(new CommentDto("댓글", "alice", postId, null));
+        String seen = "\"" + comment.getVersion() + "\"";
+
+        // 두 창에서 같은 버전을 보고 수정 → 먼저 저장한 쪽만 성공
+        MockHttpServletResponse first = update(comment.getId(), seen, "첫 번째 수정");
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(first.getHeader(HttpHeaders.ETAG)).isEqualTo("\"" + (comment.getVersion() + 1) + "\"");
+
+        MockHttpServletResponse second = update(comment.getId(), seen, "두 번째 수정");
+        assertThat(second.getStatus()).isEqualTo(409);
+        JsonNode current = objectMapper.readTree(second.getContentAsByteArray()).get("comment");
+        assertThat(current.get("content").asText()).isEqualTo("첫 번째 수정");
+        assertThat(second.getHeader(HttpHeaders.ETAG)).isEqualTo("\"" + current.get("version").asLong() + "\"");
+
+        // 받은 최신 ETag 로 다시 보내면 성공
+        MockHttpServletResponse retry = update(comment.getId(), second.getHeader(HttpHeaders.ETAG), "두 번째 수정");
+        assertThat(retry.getStatus()).isEqualTo(200);
+        assertThat(commentService.getCommentById(comment.getId()).orElseThrow().getContent()).isEqualTo("두 번째 수정");
+    }
+
+    private MockHttpServletResponse update(Long commentId, String ifMatch, String content) throws Exception {
+        return mockMvc.perform(put("/api/comments/{commentId}", commentId)
+                        .header(HttpHeaders.IF_MATCH, ifMatch)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(Map.of("content", content, "authorId", "alice"))))
+                .andReturn().getResponse();
+    }
+}
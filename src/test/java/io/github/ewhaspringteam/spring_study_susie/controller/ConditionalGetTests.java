@@ -0,0 +1,103 @@
+package io.github.ewhaspringteam.spring_study_susie.controller;
+
+import io.github.ewhaspringteam.spring_study_susie.dto.CommentDto;
+import io.github.ewhaspringteam.spring_study_susie.dto.PostDto;
+import io.github.ewhaspringteam.spring_study_susie.service.CommentService;
+import io.github.ewhaspringteam.spring_study_susie.service.PostService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:conditionalget")
+@AutoConfigureMockMvc
+class ConditionalGetTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void unchangedPollIsAnsweredWithoutQueries() throws Exception {
+        Long postId = todayPostId();
+        commentService.createComment(new CommentDto("댓글", "alice", postId, null));
+
+        for (String url : new String[] {"/api/posts/" + postId + "/comments", "/posts/" + postId}) {
+            String etag = mockMvc.perform(get(url)).andReturn().getResponse().getHeader("ETag");
+            assertThat(etag).startsWith("\"");
+
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            long before = statistics.getPrepareStatementCount() + statistics.getSecondLevelCacheHitCount();
+            int status = mockMvc.perform(get(url).header("If-None-Match", etag)).andReturn().getResponse().getStatus();
+            assertThat(status).isEqualTo(304);
+            assertThat(statistics.getPrepareStatementCount() + statistics.getSecondLevelCacheHitCount()).isEqualTo(before);
+        }
+
+        // 댓글이 바뀌면 예전 ETag 로는 304가 나오지 않음
+        String url = "/api/posts/" + postId + "/comments";
+        String etag = mockMvc.perform(get(url)).andReturn().getResponse().getHeader("ETag");
+        commentService.createComment(new CommentDto("새 댓글", "bob", postId, null));
+        assertThat(mockMvc.perform(get(url).header("If-None-Match", etag)).andReturn().getResponse().getStatus())
+                .isEqualTo(200);
+    }
+
+    @Test
+    void etagDependsOnFormatFlashAndPostExistence() throws Exception {
+        Long postId = todayPostId();
+        Long commentId = commentService.createComment(new CommentDto("댓글", "alice", postId, null)).getId();
+
+        // 같은 버전이라도 JSON 과 CBOR 는 ETag 가 다르고, 다른 포맷의 ETag 로는 304 가 나오지 않음
+        String url = "/api/posts/" + postId + "/comments";
+        String json = mockMvc.perform(get(url)).andReturn().getResponse().getHeader("ETag");
+        String cbor = mockMvc.perform(get(url).accept(MediaType.APPLICATION_CBOR)).andReturn().getResponse().getHeader("ETag");
+        assertThat(cbor).isNotNull().isNotEqualTo(json);
+        assertThat(mockMvc.perform(get(url).accept(MediaType.APPLICATION_CBOR).header("If-None-Match", json))
+                .andReturn().getResponse().getStatus()).isEqualTo(200);
+        assertThat(mockMvc.perform(get(url).accept(MediaType.APPLICATION_CBOR).header("If-None-Match", cbor))
+                .andReturn().getResponse().getStatus()).isEqualTo(304);
+
+        // 리다이렉트로 넘어온 메시지가 있으면 캐시된 페이지 대신 새로 그림
+        String page = "/posts/" + postId;
+        String etag = mockMvc.perform(get(page)).andReturn().getResponse().getHeader("ETag");
+        assertThat(mockMvc.perform(get(page).header("If-None-Match", etag).flashAttr("error", "실패"))
+                .andReturn().getResponse().getStatus()).isEqualTo(200);
+
+        // 좋아요는 게시글 화면으로 돌아오고, 댓글 버전이 그대로여도 예전 ETag 로는 304 가 나오지 않음 (좋아요 수가 보여야 함)
+        etag = mockMvc.perform(get(page)).andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(post("/comments/{commentId}/like", commentId).param("postId", postId.toString()))
+                .andExpect(redirectedUrl(page));
+        MockHttpServletResponse liked = mockMvc.perform(get(page).header("If-None-Match", etag)).andReturn().getResponse();
+        assertThat(liked.getStatus()).isEqualTo(200);
+        assertThat(liked.getContentAsString()).contains("❤️ 1");
+
+        // 없는 게시글의 실패 응답에는 ETag 를 붙이지 않음
+        assertThat(mockMvc.perform(get("/api/posts/{postId}/comments", postId + 1000))
+                .andReturn().getResponse().getHeader("ETag")).isNull();
+    }
+
+    // 게시글은 하루에 하나만 작성할 수 있으므로 테스트끼리 같은 게시글을 사용
+    private Long todayPostId() {
+        return postService.getTodayPost()
+                .orElseGet(() -> postService.createPost(new PostDto("제목", "내용", "writer", null)))
+                .getId();
+    }
+}
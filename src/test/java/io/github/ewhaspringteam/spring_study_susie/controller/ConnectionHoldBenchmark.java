@@ -0,0 +1,142 @@
+package io.github.ewhaspringteam.spring_study_susie.controller;
+
+import io.github.ewhaspringteam.spring_study_susie.SpringStudySusieApplication;
+import io.github.ewhaspringteam.spring_study_susie.dto.CommentDto;
+import io.github.ewhaspringteam.spring_study_susie.dto.PostDto;
+import io.github.ewhaspringteam.spring_study_susie.service.CommentService;
+import io.github.ewhaspringteam.spring_study_susie.service.PostService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * open-in-view 를 켰을 때와 껐을 때의 커넥션 보유 시간과 풀 대기 시간 비교
+ * 커넥션 풀보다 많은 스레드가 댓글 많은 화면(/, /posts/{id})을 동시에 요청
+ * open-in-view 면 렌더링이 끝날 때까지 커넥션을 잡고 있으므로 보유 시간이 렌더링만큼 길어지고 그만큼 대기가 생김
+ * 값은 Hikari 메트릭(hikaricp.connections.usage / acquire) 기준
+ * 실행: mvn test -Pbenchmark -Dtest=ConnectionHoldBenchmark
+ */
+@Tag("benchmark")
+class ConnectionHoldBenchmark {
+
+    private static final int COMMENTS = 300;
+    private static final int POOL_SIZE = 4;
+    private static final int THREADS = 16;
+    private static final int WARMUP = 500;
+    private static final int REQUESTS = 4_000;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void openInViewOnAndOff() throws Exception {
+        String on = run(true);
+        String off = run(false);
+        System.out.println("[osiv] 댓글 " + COMMENTS + "개, 커넥션 " + POOL_SIZE + "개, 동시 요청 " + THREADS + "개");
+        System.out.print(on);
+        System.out.print(off);
+    }
+
+    private String run(boolean openInView) throws Exception {
+        // builder.properties() 는 application.properties 보다 우선순위가 낮으므로 인자로 넘김
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SpringStudySusieApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:osiv" + openInView,
+                "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                "--spring.jpa.open-in-view=" + openInView,
+                "--spring.jpa.show-sql=false",
+                "--app.warmup.enabled=false",
+                "--logging.level.root=WARN")) {
+            Long postId = seed(context);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            List<URI> pages = List.of(
+                    URI.create("http://localhost:" + port + "/"),
+                    URI.create("http://localhost:" + port + "/posts/" + postId));
+
+            load(pages, WARMUP);
+
+            MeterRegistry registry = context.getBean(MeterRegistry.class);
+            Timer usage = registry.get("hikaricp.connections.usage").timer();
+            Timer acquire = registry.get("hikaricp.connections.acquire").timer();
+            long usageCount = usage.count();
+            double usageTotal = usage.totalTime(TimeUnit.MILLISECONDS);
+            double acquireTotal = acquire.totalTime(TimeUnit.MILLISECONDS);
+
+            long startedAt = System.nanoTime();
+            long[] latencies = load(pages, REQUESTS);
+            double seconds = (System.nanoTime() - startedAt) / 1e9;
+
+            long checkouts = usage.count() - usageCount;
+            double held = usage.totalTime(TimeUnit.MILLISECONDS) - usageTotal;
+            double waited = acquire.totalTime(TimeUnit.MILLISECONDS) - acquireTotal;
+            Arrays.sort(latencies);
+            return String.format("[osiv]   open-in-view=%-5s %6.0f req/s  p50 %6.2fms  p99 %6.2fms  "
+                            + "커넥션 보유 %5.2fms/요청 (%.2fms x %.1f회)  대기 %6.3fms/요청%n",
+                    openInView, REQUESTS / seconds,
+                    latencies[latencies.length / 2] / 1e6, latencies[(int) (latencies.length * 0.99)] / 1e6,
+                    held / REQUESTS, held / checkouts, checkouts / (double) REQUESTS,
+                    waited / REQUESTS);
+        }
+    }
+
+    private Long seed(ConfigurableApplicationContext context) {
+        PostService postService = context.getBean(PostService.class);
+        CommentService commentService = context.getBean(CommentService.class);
+
+        Long postId = postService.createPost(new PostDto("제목", "내용", "writer", null)).getId();
+        Random random = new Random(42);
+        List<CommentDto> created = new ArrayList<>();
+        for (int i = 0; i < COMMENTS; i++) {
+            Long parentId = null;
+            if (!created.isEmpty() && random.nextInt(3) > 0) {
+                CommentDto candidate = created.get(random.nextInt(created.size()));
+                parentId = candidate.getDepth() < 4 ? candidate.getId() : null;
+            }
+            created.add(commentService.createComment(
+                    new CommentDto("댓글 내용입니다 " + i, "user" + random.nextInt(50), postId, parentId)));
+        }
+        return postId;
+    }
+
+    // 요청별 지연 시간(ns)
+    private long[] load(List<URI> pages, int requests) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                HttpRequest request = HttpRequest.newBuilder(pages.get(i % pages.size())).build();
+                futures.add(executor.submit(() -> {
+                    long startedAt = System.nanoTime();
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() != 200) {
+                        throw new IllegalStateException(request.uri() + " -> " + response.statusCode());
+                    }
+                    return System.nanoTime() - startedAt;
+                }));
+            }
+            long[] latencies = new long[requests];
+            for (int i = 0; i < requests; i++) {
+                latencies[i] = futures.get(i).get();
+            }
+            return latencies;
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.ewhaspringteam.spring_study_susie.controller;
+
+import io.github.ewhaspringteam.spring_study_susie.dto.PostDto;
+import io.github.ewhaspringteam.spring_study_susie.idempotency.IdempotencyStore;
+import io.github.ewhaspringteam.spring_study_susie.service.CommentService;
+import io.github.ewhaspringteam.spring_study_susie.service.PostService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:idempotency",
+        "app.throttle.enabled=false"
+})
+@AutoConfigureMockMvc
+class IdempotentCommentTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Test
+    void retriesWithSameKeyCreateOneComment() throws Exception {
+        Long postId = postService.createPost(new PostDto("제목", "내용", "writer", null)).getId();
+        String body = "{\"content\":\"한 번만\",\"authorId\":\"alice\"}";
+
+        // 같은 키로 동시에 8번 보내도 댓글은 하나
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Callable<MockHttpServletResponse>> requests = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            requests.add(() -> send(postId, "key-1", body));
+        }
+        List<String> responses = new ArrayList<>();
+        for (Future<MockHttpServletResponse> future : executor.invokeAll(requests)) {
+            responses.add(future.get().getContentAsString());
+        }
+        executor.shutdown();
+
+        assertThat(responses).allMatch(r -> r.equals(responses.get(0)));
+        assertThat(responses.get(0)).contains("\"success\":true");
+        assertThat(commentService.getCommentsByPost(postId)).hasSize(1);
+
+        // 나중에 다시 보내도 처음 응답을 그대로 돌려줌
+        MockHttpServletResponse replay = send(postId, "key-1", body);
+        assertThat(replay.getHeader(IdempotencyStore.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(replay.getContentAsString()).isEqualTo(responses.get(0));
+
+        // 같은 키에 다른 내용은 거절, 다른 키는 새 댓글
+        assertThat(send(postId, "key-1", "{\"content\":\"다른 내용\",\"authorId\":\"alice\"}").getContentAsString())
+                .contains("\"success\":false");
+        send(postId, "key-2", body);
+        assertThat(commentService.getCommentsByPost(postId)).hasSize(2);
+    }
+
+    private MockHttpServletResponse send(Long postId, String key, String body) throws Exception {
+        return mockMvc.perform(post("/api/posts/" + postId + "/comments")
+                        .header(IdempotencyStore.HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andReturn().getResponse();
+    }
+}
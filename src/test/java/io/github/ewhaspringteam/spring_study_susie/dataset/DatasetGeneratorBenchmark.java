@@ -0,0 +1,37 @@
+package io.github.ewhaspringteam.spring_study_susie.dataset;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * 합성 데이터 생성 속도 (댓글 약 100만 개)
+ * 실행: mvn test -Pbenchmark -Dtest=DatasetGeneratorBenchmark
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:datasetbench",
+        "spring.jpa.show-sql=false",
+        "app.warmup.enabled=false",
+        "app.search.enabled=false",
+        "logging.level.root=WARN"
+})
+class DatasetGeneratorBenchmark {
+
+    @Autowired
+    private DatasetGenerator generator;
+
+    @Test
+    void millionComments() {
+        DatasetProperties spec = new DatasetProperties();
+        spec.setDays(100);
+        spec.setCommentsPerPost(2_600);
+
+        DatasetGenerator.Result result = generator.generate(spec);
+        long rows = result.posts() + result.comments();
+        System.out.printf("[dataset] 게시글 %d, 댓글 %d (논리 삭제 %d): %dms, %,d 행/분%n",
+                result.posts(), result.comments(), result.deletedComments(), result.elapsedMillis(),
+                rows * 60_000 / Math.max(1, result.elapsedMillis()));
+    }
+}
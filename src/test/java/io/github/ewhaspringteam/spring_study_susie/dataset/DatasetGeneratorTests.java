@@ -0,0 +1,143 @@
+package io.github.ewhaspringteam.spring_study_susie.dataset;
+
+import io.github.ewhaspringteam.spring_study_susie.dto.CommentDto;
+import io.github.ewhaspringteam.spring_study_susie.entity.Comment;
+import io.github.ewhaspringteam.spring_study_susie.service.CommentService;
+import io.github.ewhaspringteam.spring_study_susie.service.PostService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기동 때 만든 데이터가 앱의 게시글/트리 규칙을 지키고, 같은 설정과 기준 시각으로 다시 만들면 같은 데이터가 나오는지 확인
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:datasetgen",
+        "spring.jpa.show-sql=false",
+        "app.warmup.enabled=false",
+        "app.dataset.enabled=true",
+        "app.dataset.days=5",
+        "app.dataset.authors=300",
+        "app.dataset.comments-per-post=40",
+        "app.dataset.deleted-ratio=0.3",
+        "app.dataset.batch-size=100"
+})
+class DatasetGeneratorTests {
+
+    @Autowired
+    private DatasetGenerator generator;
+
+    @Autowired
+    private DatasetProperties properties;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void generatesValidTreesReproducibly() {
+        DatasetGenerator.Result first = generator.getLastResult();
+        assertThat(first).isNotNull();
+        assertThat(first.posts()).isEqualTo(5);
+        assertThat(first.comments()).isGreaterThan(first.posts() * 40L);
+        assertThat(first.deletedComments()).isPositive();
+
+        // 날짜마다 게시글 하나, 전날 작성자와 다른 작성자 (오늘 게시글 조회가 그대로 동작)
+        List<Map<String, Object>> posts = jdbcTemplate.queryForList(
+                "SELECT author_id, CAST(created_at AS DATE) AS created_on FROM posts ORDER BY created_at");
+        for (int i = 0; i < posts.size(); i++) {
+            assertThat(posts.get(i).get("CREATED_ON").toString())
+                    .isEqualTo(first.now().toLocalDate().minusDays(posts.size() - 1 - i).toString());
+            if (i > 0) {
+                assertThat(posts.get(i).get("AUTHOR_ID")).isNotEqualTo(posts.get(i - 1).get("AUTHOR_ID"));
+            }
+        }
+        assertThat(postService.getTodayPost()).isPresent();
+
+        assertThat(violations()).isEmpty();
+
+        // 작성자 활동량이 한쪽으로 몰림 (가장 활발한 작성자가 균등 분포의 10배 이상)
+        Long top = jdbcTemplate.queryForObject(
+                "SELECT MAX(c) FROM (SELECT COUNT(*) AS c FROM comments GROUP BY author_id)", Long.class);
+        assertThat(top * 300).isGreaterThan(first.comments() * 2 * 10);
+
+        // 생성한 데이터 위에서 앱이 그대로 동작 (새 id 는 생성한 id 다음부터)
+        Map<String, Object> parent = jdbcTemplate.queryForMap(
+                "SELECT c.id, c.post_id, c.depth FROM comments c JOIN posts p ON p.id = c.post_id "
+                        + "WHERE p.reset_time > CURRENT_TIMESTAMP AND c.deleted = false AND c.depth < 4 ORDER BY c.id DESC LIMIT 1");
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM comments", Long.class);
+        CommentDto reply = commentService.createComment(new CommentDto("답글", "tester",
+                ((Number) parent.get("POST_ID")).longValue(), ((Number) parent.get("ID")).longValue()));
+        assertThat(reply.getId()).isGreaterThan(maxId);
+        assertThat(reply.getDepth()).isEqualTo(((Number) parent.get("DEPTH")).intValue() + 1);
+
+        // 같은 시드, 설정, 기준 시각이면 id/시각의 상대값까지 같음 (날짜마다 게시글이 하나 더 생기므로 마지막에 확인)
+        DatasetGenerator.Result second = generator.generate(properties, first.now());
+        assertThat(second.fingerprint()).isEqualTo(first.fingerprint());
+        assertThat(second.comments()).isEqualTo(first.comments());
+    }
+
+    private List<String> violations() {
+        Map<Long, Map<String, Object>> rows = new HashMap<>();
+        Map<Long, List<Map<String, Object>>> children = new HashMap<>();
+        for (Map<String, Object> row : jdbcTemplate.queryForList("SELECT * FROM comments")) {
+            rows.put(((Number) row.get("ID")).longValue(), row);
+            Number parentId = (Number) row.get("PARENT_ID");
+            if (parentId != null) {
+                children.computeIfAbsent(parentId.longValue(), id -> new ArrayList<>()).add(row);
+            }
+        }
+        Map<Long, Timestamp> resetTimes = new HashMap<>();
+        jdbcTemplate.query("SELECT id, reset_time FROM posts", rs -> {
+            resetTimes.put(rs.getLong("id"), rs.getTimestamp("reset_time"));
+        });
+
+        List<String> violations = new ArrayList<>();
+        for (Map<String, Object> row : rows.values()) {
+            Long id = ((Number) row.get("ID")).longValue();
+            int depth = ((Number) row.get("DEPTH")).intValue();
+            Timestamp createdAt = (Timestamp) row.get("CREATED_AT");
+            if (depth > 4) {
+                violations.add(id + ": depth " + depth);
+            }
+            if (createdAt.after(resetTimes.get(((Number) row.get("POST_ID")).longValue()))) {
+                violations.add(id + ": 초기화 뒤에 작성됨");
+            }
+            if ((Boolean) row.get("DELETED")) {
+                if (!Comment.DELETED_CONTENT.equals(row.get("CONTENT")) || !children.containsKey(id)) {
+                    violations.add(id + ": 답글 없이 논리 삭제됐거나 내용이 남음");
+                }
+                for (Map<String, Object> child : children.getOrDefault(id, List.of())) {
+                    if (((Timestamp) child.get("CREATED_AT")).after((Timestamp) row.get("UPDATED_AT"))) {
+                        violations.add(id + ": 삭제 뒤에 달린 답글");
+                    }
+                }
+            }
+            Number parentId = (Number) row.get("PARENT_ID");
+            if (parentId == null) {
+                continue;
+            }
+            Map<String, Object> parent = rows.get(parentId.longValue());
+            if (!row.get("POST_ID").equals(parent.get("POST_ID"))
+                    || depth != ((Number) parent.get("DEPTH")).intValue() + 1
+                    || createdAt.before((Timestamp) parent.get("CREATED_AT"))) {
+                violations.add(id + ": 부모와 맞지 않음");
+            }
+        }
+        return violations;
+    }
+}
@@ -0,0 +1,123 @@
+package io.github.ewhaspringteam.spring_study_susie.datasource;
+
+import io.github.ewhaspringteam.spring_study_susie.dto.CommentDto;
+import io.github.ewhaspringteam.spring_study_susie.dto.PostDto;
+import io.github.ewhaspringteam.spring_study_susie.service.CommentService;
+import io.github.ewhaspringteam.spring_study_susie.service.PostService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+
+@SpringBootTest(properties = {
+        "app.datasource.replica.enabled=true",
+        "spring.datasource.url=jdbc:h2:mem:routing-primary",
+        "app.datasource.replica.url=jdbc:h2:mem:routing-replica",
+        "app.datasource.replica.sync-interval=1h"
+})
+@AutoConfigureMockMvc
+class ReplicationRoutingDataSourceTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private H2ReplicaSynchronizer synchronizer;
+
+    @Autowired
+    private ReadYourWritesTracker tracker;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void clearContext() {
+        ReplicationContext.clear();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplicaAndWritesToPrimary() throws Exception {
+        synchronizer.sync();
+
+        assertThat(connectionUrl(true)).contains("routing-replica");
+        assertThat(connectionUrl(false)).contains("routing-primary");
+    }
+
+    @Test
+    void authorSeesOwnCommentBeforeReplicaCatchesUp() throws Exception {
+        Long postId = todayPostId();
+        synchronizer.sync();
+        int before = commentService.getCommentsByPost(postId).size();
+
+        commentService.createComment(new CommentDto("첫 댓글", "alice", postId, null));
+
+        // 다른 사용자는 아직 동기화되지 않은 replica를 봄
+        ReplicationContext.setCurrentAuthor("bob");
+        assertThat(commentService.getCommentsByPost(postId)).hasSize(before);
+
+        // 방금 쓴 작성자는 primary에서 읽으므로 자기 댓글이 보임 (replica 결과는 쿼리 캐시에 남지 않음)
+        ReplicationContext.setCurrentAuthor("alice");
+        assertThat(commentService.getCommentsByPost(postId)).hasSize(before + 1);
+
+        synchronizer.sync();
+        assertThat(commentService.getCommentsByPost(postId)).hasSize(before + 1);
+    }
+
+    @Test
+    void cookieIsIssuedOnlyAfterCommittedWrite() throws Exception {
+        Long postId = todayPostId();
+
+        // 본문에만 authorId가 있는 API 쓰기도 커밋된 뒤에 쿠키를 받음
+        mockMvc.perform(post("/api/posts/{postId}/comments", postId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"content\":\"댓글\",\"authorId\":\"carol\"}"))
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(cookie().value(ReadYourWritesFilter.AUTHOR_COOKIE, "carol"));
+        assertThat(tracker.isPinnedToPrimary("carol")).isTrue();
+
+        // 실패한 쓰기는 primary에 묶지도 쿠키를 심지도 않음
+        mockMvc.perform(post("/api/posts/{postId}/comments", postId)
+                        .param("authorId", "dave")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"content\":\"댓글\",\"authorId\":\"dave\",\"parentId\":-1}"))
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(cookie().doesNotExist(ReadYourWritesFilter.AUTHOR_COOKIE));
+        assertThat(tracker.isPinnedToPrimary("dave")).isFalse();
+    }
+
+    // 게시글은 하루에 하나만 작성할 수 있으므로 테스트끼리 같은 게시글을 사용 (조회는 replica라서 먼저 동기화)
+    private Long todayPostId() throws Exception {
+        synchronizer.sync();
+        return postService.getTodayPost()
+                .orElseGet(() -> postService.createPost(new PostDto("제목", "내용", "writer", null)))
+                .getId();
+    }
+
+    private String connectionUrl(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> entityManager.unwrap(Session.class)
+                .doReturningWork(connection -> connection.getMetaData().getURL()));
+    }
+}
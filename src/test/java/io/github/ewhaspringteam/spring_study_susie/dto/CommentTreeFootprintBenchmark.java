@@ -0,0 +1,89 @@
+package io.github.ewhaspringteam.spring_study_susie.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+import io.github.ewhaspringteam.spring_study_susie.entity.Comment;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * CommentDto 트리와 배열 트리(CommentTree)의 댓글당 메모리, JSON 직렬화, Mustache 렌더링 비교
+ * 메모리는 힙 사용량 차이로 잰 근사치 (내용/작성자 문자열은 엔티티와 공유하므로 둘 다 빠짐)
+ * 실행: mvn test -Pbenchmark -Dtest=CommentTreeFootprintBenchmark
+ */
+@Tag("benchmark")
+class CommentTreeFootprintBenchmark {
+
+    private static final int COPIES = 40;
+    private static final int ITERATIONS = 200;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void compareRepresentations() throws Exception {
+        Template template = Mustache.compiler()
+                .withLoader(name -> new InputStreamReader(
+                        getClass().getResourceAsStream("/templates/" + name + ".mustache"), StandardCharsets.UTF_8))
+                .compile("{{#comments}}{{>comment_item}}{{/comments}}");
+
+        for (int size : new int[] {500, 5_000}) {
+            List<Comment> comments = CommentTreeTests.randomComments(size, new Random(42));
+            List<CommentDto> roots = CommentTreeTests.hierarchy(comments);
+            CommentTree tree = CommentTree.of(1L, comments);
+
+            System.out.printf("[tree] %d comments%n", size);
+            System.out.printf("[tree]   %-12s %6.1f bytes/comment  json %7.1f us  render %7.1f us%n", "CommentDto",
+                    bytesPerComment(() -> CommentTreeTests.hierarchy(comments), size),
+                    micros(() -> objectMapper.writeValueAsBytes(roots)),
+                    micros(() -> template.execute(Map.of("comments", roots))));
+            System.out.printf("[tree]   %-12s %6.1f bytes/comment  json %7.1f us  render %7.1f us%n", "CommentTree",
+                    bytesPerComment(() -> CommentTree.of(1L, comments), size),
+                    micros(() -> objectMapper.writeValueAsBytes(tree)),
+                    micros(() -> template.execute(Map.of("comments", tree.getRoots()))));
+        }
+    }
+
+    private double bytesPerComment(Supplier<Object> build, int size) {
+        Object[] retained = new Object[COPIES];
+        long before = usedHeap();
+        for (int i = 0; i < COPIES; i++) {
+            retained[i] = build.get();
+        }
+        long after = usedHeap();
+        if (retained[COPIES - 1] == null) {
+            throw new IllegalStateException();
+        }
+        return (after - before) / (double) COPIES / size;
+    }
+
+    private long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private interface Work {
+        Object run() throws Exception;
+    }
+
+    private double micros(Work work) throws Exception {
+        for (int i = 0; i < ITERATIONS; i++) {
+            work.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            work.run();
+        }
+        return (System.nanoTime() - start) / 1_000.0 / ITERATIONS;
+    }
+}
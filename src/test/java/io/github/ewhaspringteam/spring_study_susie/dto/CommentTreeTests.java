@@ -0,0 +1,114 @@
+package io.github.ewhaspringteam.spring_study_susie.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+import io.github.ewhaspringteam.spring_study_susie.entity.Comment;
+import io.github.ewhaspringteam.spring_study_susie.entity.Post;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommentTreeTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void rendersAndSerializesLikeCommentDtoTree() throws Exception {
+        List<Comment> comments = randomComments(300, new Random(7));
+        CommentTree tree = CommentTree.of(1L, comments);
+        List<CommentDto> roots = hierarchy(comments);
+
+        assertThat(tree.size()).isEqualTo(300);
+        assertThat(objectMapper.readTree(objectMapper.writeValueAsBytes(tree)))
+                .isEqualTo(objectMapper.readTree(objectMapper.writeValueAsBytes(roots)));
+
+        Template template = Mustache.compiler()
+                .withLoader(name -> new InputStreamReader(
+                        getClass().getResourceAsStream("/templates/" + name + ".mustache"), StandardCharsets.UTF_8))
+                .compile("{{#comments}}{{>comment_item}}{{/comments}}");
+        assertThat(template.execute(Map.of("comments", tree.getRoots())))
+                .isEqualTo(template.execute(Map.of("comments", roots)));
+    }
+
+    @Test
+    void dropsCommentsWhoseParentIsMissing() {
+        Post post = new Post();
+        post.setId(1L);
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 9, 0);
+        Comment root = comment(1, new Comment("최상위", "alice", post, now));
+        Comment deletedParent = comment(2, new Comment("삭제됨", "bob", post, root, now));
+        Comment orphan = comment(3, new Comment("고아", "carol", post, deletedParent, now));
+        Comment orphanChild = comment(4, new Comment("고아의 답글", "dave", post, orphan, now));
+        Comment reply = comment(5, new Comment("답글", "erin", post, root, now));
+
+        // 삭제된 부모(2)는 활성 댓글 목록에 없음
+        CommentTree tree = CommentTree.of(1L, List.of(root, orphan, orphanChild, reply));
+
+        assertThat(tree.size()).isEqualTo(2);
+        assertThat(tree.getRoots()).hasSize(1);
+        assertThat(tree.getRoots().get(0).getChildren())
+                .extracting(CommentTree.Node::getId).containsExactly(5L);
+        assertThat(tree.getRoots().get(0).getChildrenCount()).isEqualTo(1);
+    }
+
+    private Comment comment(long id, Comment comment) {
+        comment.setId(id);
+        return comment;
+    }
+
+    // 작성 순 댓글 목록 (부모는 항상 자식보다 먼저, 작성자는 몇 명이 번갈아 씀)
+    static List<Comment> randomComments(int size, Random random) {
+        Post post = new Post();
+        post.setId(1L);
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+        List<Comment> comments = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Comment parent = null;
+            if (!comments.isEmpty() && random.nextInt(3) > 0) {
+                Comment candidate = comments.get(random.nextInt(comments.size()));
+                parent = candidate.getDepth() < 4 ? candidate : null;
+            }
+
+            String content = "댓글 내용입니다 " + i;
+            String author = "user" + random.nextInt(50);
+            Comment comment = parent == null
+                    ? new Comment(content, author, post, base.plusMinutes(i))
+                    : new Comment(content, author, post, parent, base.plusMinutes(i));
+            comment.setId((long) i + 1);
+            if (random.nextInt(10) == 0) {
+                comment.setUpdatedAt(base.plusMinutes(i + 5));
+            }
+            comments.add(comment);
+        }
+        return comments;
+    }
+
+    // CommentService.buildCommentHierarchy 와 같은 방식의 DTO 트리
+    static List<CommentDto> hierarchy(List<Comment> comments) {
+        Map<Long, CommentDto> byId = new HashMap<>();
+        List<CommentDto> roots = new ArrayList<>();
+        for (Comment comment : comments) {
+            byId.put(comment.getId(), CommentDto.fromEntityWithoutChildren(comment));
+        }
+        for (Comment comment : comments) {
+            CommentDto dto = byId.get(comment.getId());
+            if (comment.getParent() == null) {
+                roots.add(dto);
+            } else if (byId.containsKey(comment.getParent().getId())) {
+                byId.get(comment.getParent().getId()).addChild(dto);
+            }
+        }
+        return roots;
+    }
+}
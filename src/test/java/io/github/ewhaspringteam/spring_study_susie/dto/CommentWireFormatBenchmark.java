@@ -0,0 +1,103 @@
+package io.github.ewhaspringteam.spring_study_susie.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import io.github.ewhaspringteam.spring_study_susie.entity.Comment;
+import io.github.ewhaspringteam.spring_study_susie.entity.Post;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 댓글 목록 응답의 크기와 직렬화 CPU 비교 (JSON 중첩 트리 vs CBOR/Smile 펼친 트리)
+ * 실행: mvn test -Pbenchmark -Dtest=CommentWireFormatBenchmark
+ */
+@Tag("benchmark")
+class CommentWireFormatBenchmark {
+
+    private static final int WARMUP = 300;
+    private static final int ITERATIONS = 1_000;
+
+    @Test
+    void compareFormats() throws Exception {
+        for (int size : new int[] {50, 500, 5_000}) {
+            List<CommentDto> roots = buildTree(size, new Random(42));
+            Map<String, Object> json = Map.of("success", true, "comments", roots);
+            Map<String, Object> compact = Map.of("success", true, "comments", CompactCommentTree.fromHierarchy(roots));
+
+            System.out.printf("[wire] %d comments%n", size);
+            report("json (nested)", new ObjectMapper(), json);
+            report("cbor (flat)", new CBORMapper(), compact);
+            report("smile (flat)", new SmileMapper(), compact);
+        }
+    }
+
+    private void report(String name, ObjectMapper mapper, Object body) throws Exception {
+        byte[] bytes = mapper.writeValueAsBytes(body);
+        for (int i = 0; i < WARMUP; i++) {
+            mapper.writeValueAsBytes(body);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            mapper.writeValueAsBytes(body);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("[wire]   %-14s %9d bytes  %7d gzip  %9.1f us/op%n",
+                name, bytes.length, gzipSize(bytes), elapsed / 1_000.0 / ITERATIONS);
+    }
+
+    private int gzipSize(byte[] bytes) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.size();
+    }
+
+    // 실제 서비스와 같은 DTO 변환을 거치도록 엔티티로 만든 뒤 계층구조로 묶음
+    private List<CommentDto> buildTree(int size, Random random) {
+        Post post = new Post();
+        post.setId(1L);
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+        List<Comment> comments = new ArrayList<>();
+        List<CommentDto> dtos = new ArrayList<>();
+        List<CommentDto> roots = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Comment parent = null;
+            if (!comments.isEmpty() && random.nextInt(3) > 0) {
+                Comment candidate = comments.get(random.nextInt(comments.size()));
+                parent = candidate.getDepth() < 4 ? candidate : null;
+            }
+
+            String content = "댓글 내용입니다 " + i + " ".repeat(random.nextInt(40));
+            Comment comment = parent == null
+                    ? new Comment(content, "user" + random.nextInt(50), post, base.plusMinutes(i))
+                    : new Comment(content, "user" + random.nextInt(50), post, parent, base.plusMinutes(i));
+            comment.setId((long) i + 1);
+            if (random.nextInt(10) == 0) {
+                comment.setUpdatedAt(base.plusMinutes(i + 5));
+            }
+            comments.add(comment);
+
+            CommentDto dto = CommentDto.fromEntityWithoutChildren(comment);
+            dtos.add(dto);
+            if (parent == null) {
+                roots.add(dto);
+            } else {
+                dtos.get(parent.getId().intValue() - 1).addChild(dto);
+            }
+        }
+        return roots;
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.ewhaspringteam.spring_study_susie.invalidation;
+
+import io.github.ewhaspringteam.spring_study_susie.SpringStudySusieApplication;
+import io.github.ewhaspringteam.spring_study_susie.dto.CommentDto;
+import io.github.ewhaspringteam.spring_study_susie.dto.CommentTree;
+import io.github.ewhaspringteam.spring_study_susie.dto.PostDto;
+import io.github.ewhaspringteam.spring_study_susie.dto.SearchResultDto;
+import io.github.ewhaspringteam.spring_study_susie.repository.PostRepository;
+import io.github.ewhaspringteam.spring_study_susie.search.SearchIndexService;
+import io.github.ewhaspringteam.spring_study_susie.service.CommentReactionService;
+import io.github.ewhaspringteam.spring_study_susie.service.CommentService;
+import io.github.ewhaspringteam.spring_study_susie.service.PostService;
+import io.github.ewhaspringteam.spring_study_susie.service.PostVersionTracker;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 DB(H2 파일)를 쓰는 인스턴스 두 개를 한 JVM 에 띄우고, 한쪽의 쓰기가 다른 쪽 캐시에 반영되는지 확인
+ * 자동 폴링은 길게 잡아 두고 poll() 을 직접 불러서, 폴링 전에는 캐시가 낡아 있고 폴링 후에는 맞는 것까지 봄
+ */
+class CacheInvalidationTests {
+
+    private static final Path DB_DIR = Path.of("target", "invalidation-test");
+
+    @Test
+    void writesOnOneInstanceInvalidateCachesOnTheOther() throws Exception {
+        FileSystemUtils.deleteRecursively(DB_DIR);
+        String url = "jdbc:h2:file:" + DB_DIR.toAbsolutePath().resolve("db");
+        try (ConfigurableApplicationContext a = start(url, "node-a");
+             ConfigurableApplicationContext b = start(url, "node-b")) {
+            InvalidationBus busA = a.getBean(InvalidationBus.class);
+            InvalidationBus busB = b.getBean(InvalidationBus.class);
+            busA.poll();
+            busB.poll();
+
+            // A 에서 작성 -> B 가 읽어서 캐시에 올림
+            Long postId = a.getBean(PostService.class).createPost(new PostDto("제목", "내용", "writer", null)).getId();
+            CommentService commentsA = a.getBean(CommentService.class);
+            CommentService commentsB = b.getBean(CommentService.class);
+            CommentDto first = commentsA.createComment(new CommentDto("처음 내용", "alice", postId, null));
+            assertThat(busB.poll()).isEqualTo(2);
+            assertThat(contents(commentsB, postId)).containsExactly("처음 내용");
+            assertThat(versionOf(b, postId)).isEqualTo(1);
+            assertThat(searchIds(b, "처음")).containsExactly(first.getId());
+
+            // A 에서 수정/작성 -> 폴링 전의 B 는 쿼리 캐시/2차 캐시 때문에 옛 내용
+            commentsA.updateComment(first.getId(), "고친 내용", "alice");
+            CommentDto second = commentsA.createComment(new CommentDto("새 댓글", "bob", postId, null));
+            assertThat(contents(commentsB, postId)).containsExactly("처음 내용");
+            assertThat(versionOf(b, postId)).isEqualTo(1);
+
+            assertThat(busB.poll()).isEqualTo(2);
+            assertThat(contents(commentsB, postId)).containsExactly("고친 내용", "새 댓글");
+            assertThat(versionOf(b, postId)).isEqualTo(3);
+            assertThat(searchIds(b, "처음")).isEmpty();
+            assertThat(searchIds(b, "고친")).containsExactly(first.getId());
+
+            // 반대 방향 (자기가 쓴 것은 다시 받지 않음)
+            commentsB.deleteComment(second.getId(), "bob");
+            assertThat(busB.poll()).isZero();
+            assertThat(busA.poll()).isEqualTo(1);
+            assertThat(contents(commentsA, postId)).containsExactly("고친 내용");
+            assertThat(versionOf(a, postId)).isEqualTo(4);
+
+            // 반응 수: A 에서 반영한 좋아요가 B 의 집계에 보임
+            CommentReactionService reactionsA = a.getBean(CommentReactionService.class);
+            CommentReactionService reactionsB = b.getBean(CommentReactionService.class);
+            assertThat(reactionCount(reactionsB, commentsB, postId)).isZero();
+            reactionsA.like(first.getId());
+            reactionsA.like(first.getId());
+            reactionsA.flush();
+            assertThat(reactionCount(reactionsB, commentsB, postId)).isZero();
+            assertThat(busB.poll()).isEqualTo(1);
+            assertThat(reactionCount(reactionsB, commentsB, postId)).isEqualTo(2);
+
+            // 게시글 삭제: B 의 2차 캐시에 남은 게시글도 사라짐
+            PostService postsB = b.getBean(PostService.class);
+            assertThat(postsB.getPostById(postId)).isPresent();
+            PostRepository postRepositoryA = a.getBean(PostRepository.class);
+            a.getBean(PostService.class).removePosts(List.of(postRepositoryA.findById(postId).orElseThrow()));
+            assertThat(postsB.getPostById(postId)).isPresent();
+            assertThat(busB.poll()).isEqualTo(1);
+            assertThat(postsB.getPostById(postId)).isEmpty();
+            assertThat(searchIds(b, "고친")).isEmpty();
+        }
+    }
+
+    private ConfigurableApplicationContext start(String url, String nodeId) {
+        return new SpringApplicationBuilder(SpringStudySusieApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=" + url,
+                "--spring.jpa.show-sql=false",
+                "--app.warmup.enabled=false",
+                "--app.invalidation.node-id=" + nodeId,
+                "--app.invalidation.poll-interval=1h",
+                "--app.reactions.flush-interval=1h",
+                "--logging.level.root=WARN");
+    }
+
+    private List<String> contents(CommentService commentService, Long postId) {
+        return commentService.getCommentsByPost(postId).stream()
+                .map(CommentDto::getContent)
+                .collect(Collectors.toList());
+    }
+
+    private long versionOf(ConfigurableApplicationContext context, Long postId) {
+        return context.getBean(PostVersionTracker.class).getCacheableVersion(postId).getVersion();
+    }
+
+    private List<Long> searchIds(ConfigurableApplicationContext context, String query) {
+        return context.getBean(SearchIndexService.class).search(query, "comment", 0, 10).getResults().stream()
+                .map(SearchResultDto::getId)
+                .collect(Collectors.toList());
+    }
+
+    private long reactionCount(CommentReactionService reactionService, CommentService commentService, Long postId) {
+        CommentTree tree = reactionService.applyReactionCounts(postId, commentService.getCommentTree(postId));
+        return tree.getReactionCount(0);
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.ewhaspringteam.spring_study_susie.profiling;
+
+import io.github.ewhaspringteam.spring_study_susie.dto.CommentDto;
+import io.github.ewhaspringteam.spring_study_susie.dto.PostDto;
+import io.github.ewhaspringteam.spring_study_susie.service.CommentService;
+import io.github.ewhaspringteam.spring_study_susie.service.PostService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:jfrprofiler")
+@AutoConfigureMockMvc
+class JfrProfilerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JfrProfiler jfrProfiler;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void recordsEachPhaseOfARequest() throws Exception {
+        Long postId = postService.createPost(new PostDto("제목", "내용", "writer", null)).getId();
+        Long parentId = commentService.createComment(new CommentDto("댓글", "alice", postId, null)).getId();
+        commentService.createComment(new CommentDto("답글", "bob", postId, parentId));
+
+        mockMvc.perform(post("/api/admin/profiling/start").param("duration", "1m"));
+        assertThat(jfrProfiler.isRecording()).isTrue();
+        try {
+            mockMvc.perform(get("/"));
+            mockMvc.perform(get("/posts/" + postId));
+            // 화면은 모두 배열 트리이므로 DTO 트리(델타 동기화의 전체 스냅샷)는 직접 만듦
+            commentService.getCommentsByPost(postId);
+
+            // 스트림은 약 1초마다 이벤트를 읽어 오므로 나타날 때까지 기다림
+            List<Map<String, Object>> events = List.of();
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (System.nanoTime() < deadline && (find(events, ViewRenderEvent.NAME, "post/show").isEmpty()
+                    || find(events, CommentTreeEvent.NAME, "dto").isEmpty())) {
+                Thread.sleep(200);
+                events = (List<Map<String, Object>>) jfrProfiler.getStats().get("events");
+            }
+
+            assertThat(find(events, RequestEvent.NAME, "GET /posts/{id}")).isPresent();
+            assertThat(find(events, RepositoryEvent.NAME, "CommentRepository.findActiveCommentsByPost"))
+                    .hasValueSatisfying(entry -> assertThat((long) entry.get("amount")).isEqualTo(6L));
+            assertThat(find(events, CommentTreeEvent.NAME, "array")).isPresent();
+            assertThat(find(events, CommentTreeEvent.NAME, "dto")).isPresent();
+            assertThat(find(events, CommentMappingEvent.NAME, CommentMappingEvent.NAME)).isPresent();
+            assertThat(find(events, ViewRenderEvent.NAME, "post/today"))
+                    .hasValueSatisfying(entry -> assertThat((long) entry.get("amount")).isPositive());
+        } finally {
+            mockMvc.perform(post("/api/admin/profiling/stop"));
+        }
+        assertThat(jfrProfiler.isRecording()).isFalse();
+    }
+
+    private static Optional<Map<String, Object>> find(List<Map<String, Object>> events, String event, String key) {
+        return events.stream()
+                .filter(entry -> event.equals(entry.get("event")) && key.equals(entry.get("key")))
+                .findFirst();
+    }
+}
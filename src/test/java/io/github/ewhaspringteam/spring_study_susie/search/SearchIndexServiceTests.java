@@ -0,0 +1,116 @@
+package io.github.ewhaspringteam.spring_study_susie.search;
+
+import io.github.ewhaspringteam.spring_study_susie.dto.CommentDto;
+import io.github.ewhaspringteam.spring_study_susie.dto.PostDto;
+import io.github.ewhaspringteam.spring_study_susie.dto.SearchPageDto;
+import io.github.ewhaspringteam.spring_study_susie.service.CommentService;
+import io.github.ewhaspringteam.spring_study_susie.service.PostService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:search")
+class SearchIndexServiceTests {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    @Test
+    void followsWritesAndMatchesRebuild() throws Exception {
+        Long postId = postService.createPost(new PostDto("봄 나들이", "스프링 공부 모임을 합니다", "writer", null)).getId();
+        CommentDto often = commentService.createComment(new CommentDto("스프링, 스프링, 또 스프링", "alice", postId, null));
+        CommentDto once = commentService.createComment(new CommentDto("스프링을 처음 배우는데 질문이 많습니다. 괜찮을까요?", "bob", postId, null));
+        CommentDto other = commentService.createComment(new CommentDto("저녁은 뭐 먹나요", "carol", postId, often.getId()));
+
+        // 조사가 붙어도 찾고, 여러 번 나오고 짧은 댓글이 먼저
+        SearchPageDto found = searchIndexService.search("스프링", null, 0, 10);
+        assertThat(ids(found)).containsExactly("comment:" + often.getId(), "post:" + postId, "comment:" + once.getId());
+        assertThat(found.getTotal()).isEqualTo(3);
+        assertThat(found.getResults().get(1).getTitle()).isEqualTo("봄 나들이");
+
+        // 페이지와 종류 필터
+        SearchPageDto second = searchIndexService.search("스프링", null, 1, 2);
+        assertThat(ids(second)).containsExactly("comment:" + once.getId());
+        assertThat(second.getTotal()).isEqualTo(3);
+        assertThat(ids(searchIndexService.search("스프링", "post", 0, 10))).containsExactly("post:" + postId);
+
+        // 한 글자 검색어는 그 글자로 시작하는 gram 으로 찾음
+        assertThat(ids(searchIndexService.search("봄", null, 0, 10))).containsExactly("post:" + postId);
+
+        // 수정하면 새 내용으로, 삭제하면 결과에서 빠짐 (자식이 있어 논리 삭제된 댓글도)
+        commentService.updateComment(once.getId(), "자바만 합니다", "bob");
+        commentService.deleteComment(often.getId(), "alice");
+        assertThat(ids(searchIndexService.search("스프링", null, 0, 10))).containsExactly("post:" + postId);
+        assertThat(ids(searchIndexService.search("자바", null, 0, 10))).containsExactly("comment:" + once.getId());
+        assertThat(ids(searchIndexService.search("저녁", null, 0, 10))).containsExactly("comment:" + other.getId());
+
+        // DB 에서 다시 만든 색인도 같은 결과
+        searchIndexService.rebuild();
+        assertThat(ids(searchIndexService.search("스프링", null, 0, 10))).containsExactly("post:" + postId);
+        assertThat(ids(searchIndexService.search("자바", null, 0, 10))).containsExactly("comment:" + once.getId());
+        assertThat(searchIndexService.getStats().get("documents")).isEqualTo(3);
+
+        assertThatThrownBy(() -> searchIndexService.search(" ,. ", null, 0, 10))
+                .hasMessage("검색어를 입력해 주세요.");
+    }
+
+    @Test
+    void parallelBuildMatchesSequentialBuild() throws Exception {
+        String[] words = {"스프링", "자바", "댓글", "게시판", "트랜잭션", "캐시", "검색", "색인", "spring", "cache"};
+        Random random = new Random(42);
+        List<InvertedIndex.Source> sources = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder text = new StringBuilder();
+            for (int w = 0; w < 3 + random.nextInt(20); w++) {
+                text.append(words[random.nextInt(words.length)]).append(random.nextBoolean() ? "을 " : " ");
+            }
+            sources.add(new InvertedIndex.Source(i % 10 == 0 ? InvertedIndex.POST : InvertedIndex.COMMENT,
+                    i, i / 10, text.toString()));
+        }
+
+        long startedAt = System.nanoTime();
+        InvertedIndex sequential = InvertedIndex.build(sources, 1);
+        long sequentialNanos = System.nanoTime() - startedAt;
+        startedAt = System.nanoTime();
+        InvertedIndex parallel = InvertedIndex.build(sources, 4);
+        long parallelNanos = System.nanoTime() - startedAt;
+        System.out.printf("[search] 문서 %d개 색인: 1스레드 %dms, 4스레드 %dms, 약 %dKB%n", sources.size(),
+                sequentialNanos / 1_000_000, parallelNanos / 1_000_000, parallel.estimatedBytes() / 1024);
+
+        assertThat(parallel.documentCount()).isEqualTo(sequential.documentCount());
+        assertThat(parallel.termCount()).isEqualTo(sequential.termCount());
+        for (String query : List.of("스프링", "트랜잭션 캐시", "spring", "자바을", "색")) {
+            List<String> grams = NgramTokenizer.queryGrams(query);
+            assertThat(parallel.search(grams, (byte) 0, 0, 50)).as(query).isEqualTo(sequential.search(grams, (byte) 0, 0, 50));
+        }
+
+        // 빼고 다시 넣어도 (슬롯이 뒤로 옮겨져도) 같은 결과
+        for (int i = 0; i < 1_000; i++) {
+            InvertedIndex.Source source = sources.get(i);
+            parallel.remove(source.type(), source.id());
+            parallel.put(source.type(), source.id(), source.postId(), NgramTokenizer.countGrams(source.text()));
+        }
+        List<String> grams = NgramTokenizer.queryGrams("게시판 검색");
+        assertThat(parallel.search(grams, (byte) 0, 0, 20_000).total()).isEqualTo(sequential.search(grams, (byte) 0, 0, 0).total());
+    }
+
+    private List<String> ids(SearchPageDto page) {
+        return page.getResults().stream()
+                .map(result -> result.getType() + ":" + result.getId())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.ewhaspringteam.spring_study_susie.service;
+
+import io.github.ewhaspringteam.spring_study_susie.dto.CommentChangeDto;
+import io.github.ewhaspringteam.spring_study_susie.dto.CommentDto;
+import io.github.ewhaspringteam.spring_study_susie.dto.CommentSyncDto;
+import io.github.ewhaspringteam.spring_study_susie.dto.PostDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:changelog",
+        "app.comment-changes.max-delta=5",
+        "app.comment-changes.memory-per-post=3"
+})
+class CommentChangeLogTests {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Test
+    void deltaSinceVersionAndSnapshotWhenTooFarBehind() {
+        Long postId = postService.createPost(new PostDto("제목", "내용", "writer", null)).getId();
+
+        CommentDto root = commentService.createComment(new CommentDto("댓글", "alice", postId, null));
+        CommentDto reply = commentService.createComment(new CommentDto("답글", "bob", postId, root.getId()));
+        CommentSyncDto first = commentService.getCommentChanges(postId, 0);
+        assertThat(first.getMode()).isEqualTo(CommentSyncDto.DELTA);
+        assertThat(first.getVersion()).isEqualTo(2L);
+
+        commentService.updateComment(reply.getId(), "수정된 답글", "bob");
+        commentService.deleteComment(root.getId(), "alice");
+        commentService.deleteComment(reply.getId(), "bob");
+
+        // 메모리 로그(최근 3개)로 답할 수 있는 범위
+        CommentSyncDto recent = commentService.getCommentChanges(postId, first.getVersion());
+        assertThat(recent.getVersion()).isEqualTo(5L);
+        assertThat(recent.getChanges().stream().map(CommentChangeDto::getType).collect(Collectors.toList()))
+                .containsExactly("UPDATED", "DELETED", "REMOVED");
+        assertThat(recent.getChanges().get(0).getContent()).isEqualTo("수정된 답글");
+
+        // 메모리에서 밀려난 범위는 DB 기록으로
+        CommentSyncDto fromDb = commentService.getCommentChanges(postId, 0);
+        assertThat(fromDb.getMode()).isEqualTo(CommentSyncDto.DELTA);
+        assertThat(fromDb.getChanges()).hasSize(5);
+
+        // 최신이면 빈 변경 목록
+        assertThat(commentService.getCommentChanges(postId, 5).getChanges()).isEmpty();
+
+        // max-delta(5)보다 많이 뒤처지면 스냅샷
+        commentService.createComment(new CommentDto("새 댓글", "carol", postId, null));
+        CommentSyncDto snapshot = commentService.getCommentChanges(postId, 0);
+        assertThat(snapshot.getMode()).isEqualTo(CommentSyncDto.SNAPSHOT);
+        assertThat(snapshot.getVersion()).isEqualTo(6L);
+        assertThat(snapshot.getComments()).extracting(CommentDto::getContent).containsExactly("새 댓글");
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.ewhaspringteam.spring_study_susie.service;
+
+import io.github.ewhaspringteam.spring_study_susie.dto.CommentDto;
+import io.github.ewhaspringteam.spring_study_susie.dto.PostDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:compactor",
+        "app.comment-compaction.enabled=false",
+        "app.comment-compaction.min-age=0s",
+        "app.comment-compaction.batch-size=1"
+})
+class CommentCompactorTests {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private CommentCompactor commentCompactor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void removesDeletedStubsBottomUpOnlyWhenNoChildrenLeft() throws Exception {
+        Long postId = postService.createPost(new PostDto("제목", "내용", "writer", null)).getId();
+        CommentDto root = commentService.createComment(new CommentDto("댓글", "alice", postId, null));
+        CommentDto reply = commentService.createComment(new CommentDto("답글", "bob", postId, root.getId()));
+        CommentDto leaf = commentService.createComment(new CommentDto("답글의 답글", "carol", postId, reply.getId()));
+        CommentDto other = commentService.createComment(new CommentDto("다른 댓글", "dave", postId, null));
+        CommentDto otherReply = commentService.createComment(new CommentDto("살아 있는 답글", "erin", postId, other.getId()));
+
+        // root, reply 는 자식이 있어서 논리 삭제, leaf 는 물리 삭제
+        commentService.deleteComment(root.getId(), "alice");
+        commentService.deleteComment(reply.getId(), "bob");
+        commentService.deleteComment(other.getId(), "dave");
+        commentService.deleteComment(leaf.getId(), "carol");
+        Thread.sleep(5); // updatedAt < now 가 되도록
+
+        // 배치 하나에 하나씩, 깊은 것(reply)부터
+        assertThat(commentCompactor.compactBatch()).isEqualTo(1);
+        assertThat(commentService.getCommentById(reply.getId())).isEmpty();
+        assertThat(commentService.getCommentById(root.getId())).isPresent();
+
+        assertThat(commentCompactor.compactBatch()).isEqualTo(1);
+        assertThat(commentService.getCommentById(root.getId())).isEmpty();
+
+        // 살아 있는 답글이 있는 삭제 댓글은 남음
+        assertThat(commentCompactor.compactBatch()).isZero();
+        assertThat(commentService.getCommentById(other.getId())).isPresent();
+        assertThat(commentService.getCommentById(otherReply.getId())).isPresent();
+
+        assertThat(meterRegistry.get("app.comments.compacted").counter().count()).isEqualTo(2.0);
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.ewhaspringteam.spring_study_susie.service;
+
+import io.github.ewhaspringteam.spring_study_susie.dto.CommentDto;
+import io.github.ewhaspringteam.spring_study_susie.dto.CommentTree;
+import io.github.ewhaspringteam.spring_study_susie.dto.PostDto;
+import io.github.ewhaspringteam.spring_study_susie.repository.CommentReactionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactions",
+        "app.reactions.flush-interval=1h"
+})
+class CommentReactionServiceTests {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private CommentReactionService commentReactionService;
+
+    @Autowired
+    private CommentReactionRepository commentReactionRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void concurrentLikesAreFlushedInBatchesAndRanked() throws Exception {
+        Long postId = postService.createPost(new PostDto("제목", "내용", "writer", null)).getId();
+        CommentDto quiet = commentService.createComment(new CommentDto("조용한 댓글", "alice", postId, null));
+        CommentDto popular = commentService.createComment(new CommentDto("인기 댓글", "bob", postId, null));
+        CommentDto reply = commentService.createComment(new CommentDto("답글", "carol", postId, quiet.getId()));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1_000; i++) {
+            executor.submit(() -> commentReactionService.like(popular.getId()));
+            if (i % 2 == 0) {
+                executor.submit(() -> commentReactionService.like(reply.getId()));
+            }
+            // 반영 도중에 들어온 클릭도 잃어버리지 않아야 함
+            if (i % 100 == 0) {
+                executor.submit(() -> commentReactionService.flush());
+            }
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        commentReactionService.flush();
+
+        assertThat(commentReactionRepository.findById(popular.getId()).get().getLikeCount()).isEqualTo(1_000L);
+        assertThat(commentReactionRepository.findById(reply.getId()).get().getLikeCount()).isEqualTo(500L);
+        assertThat(commentReactionRepository.findById(quiet.getId())).isEmpty();
+
+        // 다 반영된 뒤로 클릭이 없는 항목은 다음 주기에 치움
+        assertThat(commentReactionService.flush()).isZero();
+        assertThat(commentReactionService.getPendingSize()).isZero();
+
+        CommentTree tree = commentReactionService.applyReactionCounts(postId, commentService.getCommentTree(postId));
+        List<CommentTree.Node> top = commentReactionService.getTopComments(tree, 2);
+        assertThat(top).extracting(CommentTree.Node::getId).containsExactly(popular.getId(), reply.getId());
+
+        // 삭제 트랜잭션이 롤백되면 메모리 집계도 그대로, 커밋되면 지움
+        transactionTemplate.executeWithoutResult(status -> {
+            commentReactionService.forget(postId, popular.getId());
+            status.setRollbackOnly();
+        });
+        assertThat(commentReactionService.getReactionTotal(postId)).isEqualTo(1_500L);
+        assertThat(commentReactionRepository.findById(popular.getId())).isPresent();
+        transactionTemplate.executeWithoutResult(status -> commentReactionService.forget(postId, popular.getId()));
+        assertThat(commentReactionService.getReactionTotal(postId)).isEqualTo(500L);
+    }
+}
@@ -0,0 +1,231 @@
+package io.github.ewhaspringteam.spring_study_susie.service;
+
+import io.github.ewhaspringteam.spring_study_susie.dto.CommentDto;
+import io.github.ewhaspringteam.spring_study_susie.dto.PostDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 서브트리에 댓글 작성/답글/수정/삭제를 여러 스레드로 몰아넣고 트리 불변식 확인
+ * - 부모가 없는 댓글(고아) 없음, 부모와 게시글이 같고 depth = 부모 depth + 1 <= 4
+ * - 성공한 작성은 삭제하지 않는 한 살아 있음 (부모 삭제에 휩쓸려 사라지지 않음)
+ * - 성공한 삭제는 자식이 없었으면 물리 삭제, 있었으면 논리 삭제 (내용도 "삭제된 댓글입니다.")
+ * - 삭제된 댓글 밑의 살아 있는 답글은 삭제 전에 달린 것뿐
+ * - 게시글의 댓글 변경 버전은 1부터 빠짐없이 이어지고 마지막 값이 posts.comment_version 과 같음
+ * 업무 규칙으로 거절되는 것(깊이 제한, 삭제된 부모 등)과 수정 중 버전 충돌 외의 예외는 없어야 함
+ * 같은 게시글의 쓰기는 커밋 직전 버전을 매기는 UPDATE 부터만 한 줄로 서므로, 그 UPDATE 에서 기다린 시간의 비율을 함께 출력
+ * 크기 조절: -Dstress.threads=16 -Dstress.operations=20000
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:commentstress",
+        "spring.jpa.show-sql=false"
+})
+class CommentTreeStressTests {
+
+    private static final String DELETED_CONTENT = "삭제된 댓글입니다.";
+
+    // 서비스가 던지는 업무 규칙 위반 메시지 (동시에 부딪히면 당연히 나올 수 있는 거절)
+    private static final Set<String> EXPECTED_REJECTIONS = Set.of(
+            "부모 댓글을 찾을 수 없습니다.",
+            "삭제된 댓글에는 답글을 달 수 없습니다.",
+            "댓글은 최대 5단계까지만 작성할 수 있습니다.",
+            "댓글을 찾을 수 없습니다.",
+            "이미 삭제된 댓글입니다.",
+            "삭제된 댓글은 수정할 수 없습니다."
+    );
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void parallelWritesKeepTreeInvariants() throws Exception {
+        int threads = Integer.getInteger("stress.threads", 8);
+        int operations = Integer.getInteger("stress.operations", 2_000);
+
+        Long postId = postService.createPost(new PostDto("제목", "내용", "writer", null)).getId();
+
+        // 적은 수의 서브트리에 몰리도록 최상위 댓글 4개에서 시작
+        List<Long> ids = new CopyOnWriteArrayList<>();
+        Map<Long, Boolean> live = new ConcurrentHashMap<>();
+        for (int i = 0; i < 4; i++) {
+            Long id = commentService.createComment(new CommentDto("루트 " + i, "user" + i, postId, null)).getId();
+            live.put(id, true);
+            ids.add(id);
+        }
+
+        Map<String, AtomicLong> outcomes = new ConcurrentHashMap<>();
+        List<Throwable> unexpected = new CopyOnWriteArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            Random random = new Random(t);
+            int share = operations / threads;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < share; i++) {
+                    // 최근 댓글 위주로 골라서 같은 부모/서브트리에 부딪히게 함
+                    int size = ids.size();
+                    Long target = ids.get(Math.max(0, size - 1 - random.nextInt(Math.min(size, 16))));
+                    int dice = random.nextInt(10);
+                    String op = dice < 5 ? "reply" : dice < 8 ? "delete" : dice < 9 ? "update" : "comment";
+                    // 새 댓글은 live 에 먼저 넣고 ids 에 올림 (다른 스레드가 골라서 지운 기록을 덮어쓰지 않도록)
+                    try {
+                        switch (op) {
+                            case "reply" -> {
+                                CommentDto reply = commentService.createComment(
+                                        new CommentDto("답글", "user" + random.nextInt(20), postId, target));
+                                live.put(reply.getId(), true);
+                                ids.add(reply.getId());
+                            }
+                            case "comment" -> {
+                                CommentDto comment = commentService.createComment(
+                                        new CommentDto("댓글", "user" + random.nextInt(20), postId, null));
+                                live.put(comment.getId(), true);
+                                ids.add(comment.getId());
+                            }
+                            case "delete" -> {
+                                commentService.deleteComment(target, "admin");
+                                live.put(target, false);
+                            }
+                            default -> commentService.updateComment(target, "수정됨", authorOf(target));
+                        }
+                        outcomes.computeIfAbsent(op + " ok", k -> new AtomicLong()).incrementAndGet();
+                    } catch (ObjectOptimisticLockingFailureException e) {
+                        // 수정은 잠그지 않으므로 그 사이 바뀌었으면 충돌 (클라이언트는 다시 읽고 재시도)
+                        outcomes.computeIfAbsent(op + " conflict", k -> new AtomicLong()).incrementAndGet();
+                    } catch (RuntimeException e) {
+                        if (EXPECTED_REJECTIONS.contains(e.getMessage())) {
+                            outcomes.computeIfAbsent(op + " rejected", k -> new AtomicLong()).incrementAndGet();
+                        } else {
+                            unexpected.add(e);
+                        }
+                    }
+                }
+                return null;
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+        System.out.printf("[stress] %d threads, %d ops in %.2fs (%.0f ops/s) %s%n",
+                threads, operations, seconds, operations / seconds, new TreeMap<>(outcomes));
+        Timer versionWait = meterRegistry.get("app.comments.version.wait").timer();
+        double waitedSeconds = versionWait.totalTime(TimeUnit.SECONDS);
+        System.out.printf("[stress] 버전 UPDATE %d회, 게시글 행을 기다린 시간 합계 %.2fs (스레드 실행 시간의 %.1f%%)%n",
+                versionWait.count(), waitedSeconds, 100 * waitedSeconds / (threads * seconds));
+
+        assertThat(unexpected).as("업무 규칙 외의 실패").isEmpty();
+        assertInvariants(postId, live);
+        assertVersions(postId);
+    }
+
+    private void assertVersions(Long postId) {
+        List<Long> versions = jdbcTemplate.queryForList(
+                "SELECT version FROM comment_changes WHERE post_id = ? ORDER BY version", Long.class, postId);
+        Long latest = jdbcTemplate.queryForObject("SELECT comment_version FROM posts WHERE id = ?", Long.class, postId);
+        for (int i = 0; i < versions.size(); i++) {
+            assertThat(versions.get(i)).as("빠진 버전").isEqualTo(i + 1L);
+        }
+        assertThat(latest).isEqualTo((long) versions.size());
+    }
+
+    private String authorOf(Long commentId) {
+        List<String> authors = jdbcTemplate.queryForList("SELECT author_id FROM comments WHERE id = ?", String.class, commentId);
+        return authors.isEmpty() ? "nobody" : authors.get(0);
+    }
+
+    private void assertInvariants(Long postId, Map<Long, Boolean> live) {
+        Map<Long, Map<String, Object>> rows = new HashMap<>();
+        for (Map<String, Object> row : jdbcTemplate.queryForList("SELECT * FROM comments")) {
+            rows.put(((Number) row.get("ID")).longValue(), row);
+        }
+
+        List<String> violations = new ArrayList<>();
+        for (Map<String, Object> row : rows.values()) {
+            Long id = ((Number) row.get("ID")).longValue();
+            int depth = ((Number) row.get("DEPTH")).intValue();
+            boolean deleted = (Boolean) row.get("DELETED");
+            Number parentId = (Number) row.get("PARENT_ID");
+
+            if (!postId.equals(((Number) row.get("POST_ID")).longValue())) {
+                violations.add(id + ": 다른 게시글");
+            }
+            if (depth > 4) {
+                violations.add(id + ": depth " + depth);
+            }
+            if (deleted && !DELETED_CONTENT.equals(row.get("CONTENT"))) {
+                violations.add(id + ": 삭제됐는데 내용이 남아 있음");
+            }
+            if (parentId == null) {
+                if (depth != 0) {
+                    violations.add(id + ": 최상위인데 depth " + depth);
+                }
+                continue;
+            }
+
+            Map<String, Object> parent = rows.get(parentId.longValue());
+            if (parent == null) {
+                violations.add(id + ": 부모 " + parentId + " 없음");
+                continue;
+            }
+            if (depth != ((Number) parent.get("DEPTH")).intValue() + 1) {
+                violations.add(id + ": depth 가 부모 + 1 이 아님");
+            }
+            if (!deleted && (Boolean) parent.get("DELETED")) {
+                LocalDateTime createdAt = ((Timestamp) row.get("CREATED_AT")).toLocalDateTime();
+                LocalDateTime parentDeletedAt = ((Timestamp) parent.get("UPDATED_AT")).toLocalDateTime();
+                if (createdAt.isAfter(parentDeletedAt)) {
+                    violations.add(id + ": 삭제된 부모 " + parentId + " 밑에 삭제 후 달린 답글");
+                }
+            }
+        }
+
+        live.forEach((id, alive) -> {
+            Map<String, Object> row = rows.get(id);
+            if (alive && (row == null || (Boolean) row.get("DELETED"))) {
+                violations.add(id + ": 삭제하지 않은 댓글이 사라짐");
+            }
+            if (!alive && row != null && !(Boolean) row.get("DELETED")) {
+                violations.add(id + ": 삭제했는데 살아 있음");
+            }
+        });
+
+        assertThat(violations).as("트리 불변식 위반").isEmpty();
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.ewhaspringteam.spring_study_susie.service;
+
+import io.github.ewhaspringteam.spring_study_susie.SpringStudySusieApplication;
+import io.github.ewhaspringteam.spring_study_susie.dto.CommentDto;
+import io.github.ewhaspringteam.spring_study_susie.dto.PostDto;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 답글 작성 경로 비교: 댓글 메타 색인(app.comment-index.enabled=true)과 엔티티를 읽어서 확인하는 예전 방식
+ * 본문이 긴 댓글이 많은 게시글에 여러 스레드가 답글을 달고 처리량, 지연 시간, 작성 한 번당 엔티티 로드/Hibernate 문장 수를 출력
+ * (JdbcTemplate 로 실행하는 부모 행 잠금, 게시글 버전 올리기, 무효화 기록은 Hibernate 통계에 잡히지 않음)
+ * 실행: mvn test -Pbenchmark -Dtest=CommentWriteBenchmark
+ */
+@Tag("benchmark")
+class CommentWriteBenchmark {
+
+    private static final int COMMENTS = 2_000;
+    private static final int CONTENT_LENGTH = 2_000;
+    private static final int THREADS = 8;
+    private static final int WARMUP = 500;
+    private static final int WRITES = 4_000;
+
+    @Test
+    void indexOnAndOff() throws Exception {
+        String on = run(true);
+        String off = run(false);
+        System.out.println("[write] 댓글 " + COMMENTS + "개 (본문 " + CONTENT_LENGTH + "자), 스레드 " + THREADS + "개, 답글 " + WRITES + "개");
+        System.out.print(on);
+        System.out.print(off);
+    }
+
+    private String run(boolean indexEnabled) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SpringStudySusieApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:commentwrite" + indexEnabled,
+                "--spring.jpa.show-sql=false",
+                "--app.comment-index.enabled=" + indexEnabled,
+                "--app.warmup.enabled=false",
+                "--logging.level.root=WARN")) {
+            CommentService commentService = context.getBean(CommentService.class);
+            Long postId = context.getBean(PostService.class).createPost(new PostDto("제목", "내용", "writer", null)).getId();
+            String content = "긴 댓글 ".repeat(CONTENT_LENGTH / 5);
+            List<Long> parents = new ArrayList<>();
+            for (int i = 0; i < COMMENTS; i++) {
+                parents.add(commentService.createComment(new CommentDto(content, "user" + (i % 50), postId, null)).getId());
+            }
+
+            write(commentService, postId, parents, WARMUP, 1);
+
+            Statistics statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+            statistics.clear();
+            long startedAt = System.nanoTime();
+            long[] latencies = write(commentService, postId, parents, WRITES, 2);
+            double seconds = (System.nanoTime() - startedAt) / 1e9;
+
+            Arrays.sort(latencies);
+            return String.format("[write]   index=%-5s %7.0f writes/s  p50 %6.3fms  p99 %6.3fms  "
+                            + "엔티티 로드 %.2f/작성  Hibernate 문장 %.2f/작성%n",
+                    indexEnabled, WRITES / seconds,
+                    latencies[latencies.length / 2] / 1e6, latencies[(int) (latencies.length * 0.99)] / 1e6,
+                    statistics.getEntityLoadCount() / (double) WRITES,
+                    statistics.getPrepareStatementCount() / (double) WRITES);
+        }
+    }
+
+    // 최상위 댓글에 고르게 답글 (작성별 지연 시간, ns)
+    private long[] write(CommentService commentService, Long postId, List<Long> parents, int writes, long seed) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            Random random = new Random(seed);
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int i = 0; i < writes; i++) {
+                Long parentId = parents.get(random.nextInt(parents.size()));
+                String authorId = "user" + random.nextInt(50);
+                futures.add(executor.submit(() -> {
+                    long startedAt = System.nanoTime();
+                    commentService.createComment(new CommentDto("답글", authorId, postId, parentId));
+                    return System.nanoTime() - startedAt;
+                }));
+            }
+            long[] latencies = new long[writes];
+            for (int i = 0; i < writes; i++) {
+                latencies[i] = futures.get(i).get();
+            }
+            return latencies;
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
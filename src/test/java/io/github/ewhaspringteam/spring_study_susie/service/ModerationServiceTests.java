@@ -0,0 +1,120 @@
+package io.github.ewhaspringteam.spring_study_susie.service;
+
+import io.github.ewhaspringteam.spring_study_susie.dto.CommentChangeDto;
+import io.github.ewhaspringteam.spring_study_susie.dto.CommentDto;
+import io.github.ewhaspringteam.spring_study_susie.dto.CommentSyncDto;
+import io.github.ewhaspringteam.spring_study_susie.dto.ModerationResultDto;
+import io.github.ewhaspringteam.spring_study_susie.dto.PostDto;
+import io.github.ewhaspringteam.spring_study_susie.entity.Post;
+import io.github.ewhaspringteam.spring_study_susie.repository.PostRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 작성자 일괄 정리 (게시글/댓글, 논리/물리 삭제 규칙, 델타 동기화 기록)
+ * 크기 조절: -Dmoderation.bulk=50000
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:moderation",
+        "spring.jpa.show-sql=false",
+        "app.comment-compaction.enabled=false",
+        "app.moderation.chunk-size=500"
+})
+class ModerationServiceTests {
+
+    private static final int BULK = Integer.getInteger("moderation.bulk", 5_000);
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private ModerationService moderationService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void removesOrSoftDeletesEverythingByAuthor() {
+        Long postId = postService.createPost(new PostDto("제목", "내용", "writer", null)).getId();
+        LocalDateTime now = LocalDateTime.now();
+        // 하루 한 개 제한을 피하려고 나머지 게시글은 바로 저장
+        Long spamPostId = postRepository.save(new Post("광고", "광고", "spammer", now, now.plusDays(1))).getId();
+        Long bulkPostId = postRepository.save(new Post("다른 글", "내용", "writer", now, now.plusDays(1))).getId();
+
+        // 1. 다른 사람 답글이 달린 스팸 → 논리 삭제
+        CommentDto kept = commentService.createComment(new CommentDto("광고", "spammer", postId, null));
+        CommentDto aliceReply = commentService.createComment(new CommentDto("신고합니다", "alice", postId, kept.getId()));
+        // 2. 스팸 밑에 스팸 → 둘 다 물리 삭제
+        CommentDto chain = commentService.createComment(new CommentDto("광고", "spammer", postId, null));
+        commentService.createComment(new CommentDto("광고 답글", "spammer", postId, chain.getId()));
+        // 3. 다른 사람 댓글 밑의 스팸 → 스팸만 물리 삭제
+        CommentDto alice = commentService.createComment(new CommentDto("댓글", "alice", postId, null));
+        commentService.createComment(new CommentDto("광고", "spammer", postId, alice.getId()));
+        // 4. 스팸 게시글의 다른 사람 댓글 → 게시글과 함께 삭제
+        commentService.createComment(new CommentDto("댓글", "bob", spamPostId, null));
+        long versionBefore = commentService.getCommentChanges(postId, 0).getVersion();
+
+        insertComments(bulkPostId, "spammer", BULK);
+
+        // 관리자가 아니면 거절하고 아무것도 안 지움
+        assertThatThrownBy(() -> moderationService.moderateAuthor("alice", "spammer", null, null))
+                .hasMessage("관리자만 일괄 정리할 수 있습니다.");
+        assertThat(postService.getPostById(spamPostId)).isPresent();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM comments WHERE author_id = 'spammer' AND deleted = FALSE",
+                Long.class)).isEqualTo(BULK + 4L);
+        assertThat(commentService.getCommentChanges(postId, 0).getVersion()).isEqualTo(versionBefore);
+
+        // 범위 밖이면 아무것도 안 지움
+        ModerationResultDto none = moderationService.moderateAuthor("admin", "spammer", null, now.minusDays(1));
+        assertThat(none.getPostsRemoved() + none.getCommentsRemoved() + none.getCommentsSoftDeleted()).isZero();
+
+        ModerationResultDto result = moderationService.moderateAuthor("admin", "spammer", now.minusHours(1), null);
+        System.out.println("[moderation] 댓글 " + (BULK + 4) + "개 정리: " + result);
+
+        assertThat(result.getPostsRemoved()).isEqualTo(1);
+        assertThat(result.getCommentsRemoved()).isEqualTo(BULK + 3);
+        assertThat(result.getCommentsSoftDeleted()).isEqualTo(1);
+
+        assertThat(postService.getPostById(spamPostId)).isEmpty();
+        CommentDto stub = commentService.getCommentById(kept.getId()).orElseThrow();
+        assertThat(stub.getDeleted()).isTrue();
+        assertThat(stub.getContent()).isEqualTo("삭제된 댓글입니다.");
+        assertThat(commentService.getCommentById(aliceReply.getId())).isPresent();
+        assertThat(commentService.getCommentById(alice.getId())).isPresent();
+        assertThat(commentService.getCommentById(chain.getId())).isEmpty();
+        assertThat(commentService.getCommentsByAuthor("spammer")).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM comments WHERE post_id = ?", Long.class, bulkPostId)).isZero();
+
+        // 델타 동기화 중인 클라이언트도 바뀐 것을 받음
+        CommentSyncDto delta = commentService.getCommentChanges(postId, versionBefore);
+        assertThat(delta.getChanges().stream().map(CommentChangeDto::getType).collect(Collectors.toList()))
+                .containsExactlyInAnyOrder("REMOVED", "REMOVED", "REMOVED", "DELETED");
+    }
+
+    private void insertComments(Long postId, String authorId, int count) {
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[] {"광고 " + i, authorId, createdAt, postId});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO comments (content, author_id, created_at, post_id, depth, deleted, version) "
+                + "VALUES (?, ?, ?, ?, 0, FALSE, 0)", rows);
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.ewhaspringteam.spring_study_susie.service;
+
+import io.github.ewhaspringteam.spring_study_susie.dto.CommentDto;
+import io.github.ewhaspringteam.spring_study_susie.dto.PostDto;
+import io.github.ewhaspringteam.spring_study_susie.workload.SimulatedClock;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:dayboundary")
+class PostDayBoundaryTests {
+
+    @TestConfiguration
+    static class ClockConfig {
+        @Bean
+        @Primary
+        SimulatedClock simulatedClock() {
+            return new SimulatedClock(LocalDateTime.of(2025, 3, 1, 23, 58));
+        }
+    }
+
+    @Autowired
+    private SimulatedClock clock;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Test
+    void midnightRolloverAndResetFollowTheClock() {
+        Long postId = postService.createPost(new PostDto("토요일", "내용", "alice", null)).getId();
+        CommentDto comment = commentService.createComment(new CommentDto("자정 전 댓글", "bob", postId, null));
+        assertThat(comment.getCreatedAt()).isEqualTo("2025-03-01 23:58");
+        assertThat(postService.getTodayPost()).isPresent();
+
+        // 자정이 지나면 오늘 게시글이 없고, 어제 쓴 사람은 이어서 쓸 수 없음
+        clock.advance(Duration.ofMinutes(3));
+        assertThat(postService.getTodayPost()).isEmpty();
+        assertThatThrownBy(() -> postService.createPost(new PostDto("일요일", "내용", "alice", null)))
+                .hasMessageContaining("이틀 연속");
+        Long sundayId = postService.createPost(new PostDto("일요일", "내용", "carol", null)).getId();
+        assertThat(postService.getTodayPost()).hasValueSatisfying(post -> assertThat(post.getId()).isEqualTo(sundayId));
+
+        // 초기화 시간(다음날 오전 9시) 전에는 남아 있다가 지나면 지워짐
+        clock.setTime(LocalDateTime.of(2025, 3, 2, 8, 59));
+        postService.resetExpiredPosts();
+        assertThat(postService.getPostById(postId)).isPresent();
+
+        clock.setTime(LocalDateTime.of(2025, 3, 2, 9, 0));
+        postService.resetExpiredPosts();
+        assertThat(postService.getPostById(postId)).isEmpty();
+        assertThat(postService.getPostById(sundayId)).isPresent();
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.ewhaspringteam.spring_study_susie.service;
+
+import io.github.ewhaspringteam.spring_study_susie.dto.CommentDto;
+import io.github.ewhaspringteam.spring_study_susie.dto.PostDto;
+import io.github.ewhaspringteam.spring_study_susie.entity.Post;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:l2cache")
+class SecondLevelCacheServiceTests {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private SecondLevelCacheService secondLevelCacheService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void repeatedReadsAreServedFromCache() {
+        PostDto post = postService.createPost(new PostDto("제목", "내용", "writer", null));
+        commentService.createComment(new CommentDto("댓글", "alice", post.getId(), null));
+
+        for (int i = 0; i < 3; i++) {
+            postService.getPostById(post.getId());
+            commentService.getCommentsByPost(post.getId());
+        }
+
+        Map<String, Map<String, Object>> stats = secondLevelCacheService.getRegionStats();
+        assertThat((Long) stats.get("post").get("hitCount")).isPositive();
+        assertThat((Long) stats.get("default-query-results-region").get("hitCount")).isPositive();
+
+        // 지우면 캐시에서 빠지고, 다음 조회는 캐시를 놓쳐서 DB에서 다시 읽음
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        assertThat(cache.containsEntity(Post.class, post.getId())).isTrue();
+        long misses = (Long) secondLevelCacheService.getRegionStats().get("post").get("missCount");
+
+        secondLevelCacheService.evictPosts(List.of(post.getId()));
+        assertThat(cache.containsEntity(Post.class, post.getId())).isFalse();
+
+        assertThat(postService.getPostById(post.getId())).isPresent();
+        assertThat((Long) secondLevelCacheService.getRegionStats().get("post").get("missCount")).isGreaterThan(misses);
+        assertThat(cache.containsEntity(Post.class, post.getId())).isTrue();
+    }
+}
@@ -0,0 +1,111 @@
+package io.github.ewhaspringteam.spring_study_susie.throttle;
+
+import io.github.ewhaspringteam.spring_study_susie.dto.PostDto;
+import io.github.ewhaspringteam.spring_study_susie.service.PostService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:concurrencylimit",
+        "app.throttle.enabled=false",
+        "app.concurrency-limit.write.initial-limit=2",
+        "app.concurrency-limit.write.min-limit=2",
+        "app.concurrency-limit.write.max-limit=2"
+})
+@AutoConfigureMockMvc
+class ConcurrencyLimitTests {
+
+    private static final long MILLI = 1_000_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private ConcurrencyLimitInterceptor interceptor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void shedsWritesOverLimitWith503() throws Exception {
+        Long postId = postService.createPost(new PostDto("제목", "내용", "writer", null)).getId();
+        AdaptiveConcurrencyLimit writeLimit = interceptor.getWriteLimit();
+        String body = "{\"content\":\"댓글\",\"authorId\":\"alice\"}";
+
+        // 쓰기 한도(2)를 다른 요청이 쓰고 있는 상태
+        assertThat(writeLimit.tryAcquire()).isTrue();
+        assertThat(writeLimit.tryAcquire()).isTrue();
+        try {
+            mockMvc.perform(post("/api/posts/{postId}/comments", postId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "1"));
+            // 조회는 한도가 따로라서 그대로 처리
+            mockMvc.perform(get("/api/posts/{postId}/comments", postId))
+                    .andExpect(status().isOk());
+        } finally {
+            writeLimit.release(MILLI, false);
+            writeLimit.release(MILLI, false);
+        }
+
+        mockMvc.perform(post("/api/posts/{postId}/comments", postId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk());
+        assertThat(writeLimit.getInFlight()).isZero();
+        assertThat(meterRegistry.get("app.concurrency.rejected").tag("type", "write").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("app.concurrency.limit").tag("type", "write").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    void limitFollowsLatency() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 4, 100, 0.2, 1.5, 100);
+
+        // 지연이 그대로면 한도를 다 쓰는 동안 조금씩 늘어남
+        run(limit, 200, MILLI);
+        int grown = limit.getLimit();
+        assertThat(grown).isGreaterThan(20);
+
+        // 지연이 평소의 몇 배가 되면 줄어듦 (최소 한도 아래로는 내려가지 않음)
+        // 오래 이어지면 그 지연이 새 평소 수준이 되어 다시 늘어나므로 직후만 확인
+        run(limit, 20, 10 * MILLI);
+        assertThat(limit.getLimit()).isLessThan(grown).isGreaterThanOrEqualTo(4);
+
+        // 실패는 바로 줄임
+        int before = limit.getLimit();
+        assertThat(limit.tryAcquire()).isTrue();
+        limit.release(MILLI, true);
+        assertThat(limit.getLimit()).isLessThanOrEqualTo(before);
+    }
+
+    // 한도까지 채운 채로 하나씩 끝내고 다시 채움
+    private void run(AdaptiveConcurrencyLimit limit, int requests, long rttNanos) {
+        while (limit.tryAcquire()) {
+        }
+        for (int i = 0; i < requests; i++) {
+            limit.release(rttNanos, false);
+            while (limit.tryAcquire()) {
+            }
+        }
+        while (limit.getInFlight() > 0) {
+            limit.release(rttNanos, false);
+        }
+        assertThat(limit.tryAcquire()).isTrue();
+        limit.release(rttNanos, false);
+    }
+}
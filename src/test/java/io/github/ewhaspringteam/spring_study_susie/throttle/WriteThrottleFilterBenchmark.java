@@ -0,0 +1,146 @@
+package io.github.ewhaspringteam.spring_study_susie.throttle;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+/**
+ * 쓰기 제한 필터의 요청당 오버헤드 측정
+ * 같은 요청을 필터 없이 처리한 시간과 비교해서 필터가 더하는 시간만 출력
+ * 실행: mvn test -Pbenchmark -Dtest=WriteThrottleFilterBenchmark
+ */
+@Tag("benchmark")
+class WriteThrottleFilterBenchmark {
+
+    private static final int WARMUP = 200_000;
+    private static final int ITERATIONS = 1_000_000;
+    private static final int AUTHORS = 10_000;
+
+    private static final FilterChain NOOP_CHAIN = (request, response) -> {};
+
+    private WriteThrottleFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        WriteThrottleProperties.EndpointLimit unlimited = new WriteThrottleProperties.EndpointLimit();
+        unlimited.setPatterns(List.of("/posts/*/comments", "/api/posts/*/comments"));
+        unlimited.setCapacity(Integer.MAX_VALUE);
+        unlimited.setRefillPerSecond(1e12);
+
+        WriteThrottleProperties properties = new WriteThrottleProperties();
+        properties.getEndpoints().put("comment", unlimited);
+
+        TokenBucketRegistry registry = new TokenBucketRegistry();
+        ReflectionTestUtils.setField(registry, "properties", properties);
+
+        filter = new WriteThrottleFilter();
+        ReflectionTestUtils.setField(filter, "properties", properties);
+        ReflectionTestUtils.setField(filter, "registry", registry);
+        ReflectionTestUtils.setField(filter, "objectMapper", new ObjectMapper());
+        filter.initRules();
+    }
+
+    @Test
+    void formPostOverhead() throws Exception {
+        report("form, 10k authors", i -> formRequest("user" + (i % AUTHORS)));
+    }
+
+    @Test
+    void jsonPostOverhead() throws Exception {
+        report("json, 10k authors", i -> jsonRequest("user" + (i % AUTHORS)));
+    }
+
+    @Test
+    void unmatchedPathOverhead() throws Exception {
+        report("unmatched path", i -> {
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/hello");
+            request.addParameter("authorId", "user" + (i % AUTHORS));
+            return request;
+        });
+    }
+
+    @Test
+    void contendedSingleAuthor() throws Exception {
+        int threads = Runtime.getRuntime().availableProcessors();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            runConcurrently(executor, threads, WARMUP);
+            long elapsed = runConcurrently(executor, threads, ITERATIONS);
+            System.out.printf("[throttle] %-24s %8.1f ns/op (%d threads, filter incl.)%n",
+                    "form, 1 author", (double) elapsed / ITERATIONS, threads);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private long runConcurrently(ExecutorService executor, int threads, int total) throws Exception {
+        int perThread = total / threads;
+        long start = System.nanoTime();
+        Future<?>[] futures = new Future<?>[threads];
+        for (int t = 0; t < threads; t++) {
+            futures[t] = executor.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    filter.doFilter(formRequest("hot"), new MockHttpServletResponse(), NOOP_CHAIN);
+                }
+                return null;
+            });
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private void report(String name, IntFunction<HttpServletRequest> requests) throws Exception {
+        measure(requests, false, WARMUP);
+        measure(requests, true, WARMUP);
+
+        long baseline = measure(requests, false, ITERATIONS);
+        long filtered = measure(requests, true, ITERATIONS);
+
+        System.out.printf("[throttle] %-24s %8.1f ns/op overhead (baseline %.1f ns/op)%n",
+                name, (double) (filtered - baseline) / ITERATIONS, (double) baseline / ITERATIONS);
+    }
+
+    private long measure(IntFunction<HttpServletRequest> requests, boolean withFilter, int iterations) throws Exception {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            HttpServletRequest request = requests.apply(i);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            if (withFilter) {
+                filter.doFilter(request, response, NOOP_CHAIN);
+            } else {
+                NOOP_CHAIN.doFilter(request, response);
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static MockHttpServletRequest formRequest(String authorId) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/posts/1/comments");
+        request.addParameter("authorId", authorId);
+        request.addParameter("content", "댓글 내용");
+        return request;
+    }
+
+    private static MockHttpServletRequest jsonRequest(String authorId) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/posts/1/comments");
+        request.setContentType("application/json");
+        request.setContent(("{\"authorId\":\"" + authorId + "\",\"content\":\"댓글 내용\"}")
+                .getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.ewhaspringteam.spring_study_susie.throttle;
+
+import io.github.ewhaspringteam.spring_study_susie.dto.CommentDto;
+import io.github.ewhaspringteam.spring_study_susie.dto.PostDto;
+import io.github.ewhaspringteam.spring_study_susie.service.CommentService;
+import io.github.ewhaspringteam.spring_study_susie.service.PostService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 작성자별 쓰기 제한: API 는 429 + Retry-After, 폼은 에러 메시지를 들고 원래 페이지로, 엔드포인트마다 따로 셈, 쉬는 버킷 정리
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:writethrottle",
+        "app.throttle.idle-timeout=50ms",
+        "app.throttle.endpoints.comment.capacity=2",
+        "app.throttle.endpoints.comment.refill-per-second=0.001",
+        "app.throttle.endpoints.reaction.refill-per-second=1000"
+})
+@AutoConfigureMockMvc
+class WriteThrottleFilterTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private TokenBucketRegistry registry;
+
+    @Test
+    void rejectsPerAuthorAndEndpoint() throws Exception {
+        Long postId = todayPostId();
+        Long commentId = commentService.createComment(new CommentDto("댓글", "writer", postId, null)).getId();
+        String body = "{\"content\":\"댓글\",\"authorId\":\"alice\"}";
+
+        // API: 용량(2)을 넘으면 429 와 다음 토큰까지 남은 초
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/api/posts/{postId}/comments", postId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isOk());
+        }
+        MockHttpServletResponse rejected = mockMvc.perform(post("/api/posts/{postId}/comments", postId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.success").value(false))
+                .andReturn().getResponse();
+        assertThat(Long.parseLong(rejected.getHeader("Retry-After"))).isGreaterThan(1);
+
+        // 같은 작성자라도 다른 엔드포인트, 같은 엔드포인트라도 다른 작성자는 따로 셈
+        mockMvc.perform(post("/api/comments/{commentId}/reactions", commentId).header("X-Author-Id", "alice"))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/posts/{postId}/comments", postId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"content\":\"댓글\",\"authorId\":\"bob\"}"))
+                .andExpect(status().isOk());
+
+        // 폼: 파라미터의 작성자로 세고, 거절되면 에러 메시지를 들고 보던 페이지로 돌아감
+        String page = "/posts/" + postId;
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/posts/{postId}/comments", postId)
+                            .param("content", "폼 댓글")
+                            .param("authorId", "carol")
+                            .header("Referer", page))
+                    .andExpect(redirectedUrl(page));
+        }
+        // 세션은 따로여도 작성자가 같으면 거절 (앞의 성공 메시지와 섞이지 않도록 새 세션에서 확인)
+        MockHttpSession session = new MockHttpSession();
+        mockMvc.perform(post("/posts/{postId}/comments", postId)
+                        .param("content", "폼 댓글")
+                        .param("authorId", "carol")
+                        .header("Referer", page)
+                        .session(session))
+                .andExpect(status().isFound())
+                .andExpect(redirectedUrl(page));
+        mockMvc.perform(get(page).session(session))
+                .andExpect(model().attribute("error", startsWith("요청이 너무 많습니다.")));
+    }
+
+    @Test
+    void evictsOnlyFullIdleBuckets() throws Exception {
+        WriteThrottleProperties.EndpointLimit slow = new WriteThrottleProperties.EndpointLimit();
+        slow.setCapacity(1);
+        slow.setRefillPerSecond(0.001);
+        WriteThrottleProperties.EndpointLimit fast = new WriteThrottleProperties.EndpointLimit();
+        fast.setCapacity(1);
+        fast.setRefillPerSecond(1000);
+
+        int before = registry.size();
+        assertThat(registry.tryAcquire("evict-slow", "author:dave", slow)).isZero();
+        assertThat(registry.tryAcquire("evict-fast", "author:dave", fast)).isZero();
+        assertThat(registry.size()).isEqualTo(before + 2);
+
+        // idle-timeout(50ms) 이 지나면 다시 가득 찬 버킷만 버림 (비어 있는 버킷을 버리면 제한이 풀림)
+        Thread.sleep(100);
+        registry.evictIdleBuckets();
+        assertThat(registry.size()).isLessThan(before + 2);
+        assertThat(registry.tryAcquire("evict-slow", "author:dave", slow)).isPositive();
+    }
+
+    // 게시글은 하루에 하나만 작성할 수 있으므로 테스트끼리 같은 게시글을 사용
+    private Long todayPostId() {
+        return postService.getTodayPost()
+                .orElseGet(() -> postService.createPost(new PostDto("제목", "내용", "writer", null)))
+                .getId();
+    }
+}
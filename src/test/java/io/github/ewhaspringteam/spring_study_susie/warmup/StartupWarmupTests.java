@@ -0,0 +1,54 @@
+package io.github.ewhaspringteam.spring_study_susie.warmup;
+
+import io.github.ewhaspringteam.spring_study_susie.config.CompiledMustacheView;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.servlet.view.MustacheViewResolver;
+import org.springframework.web.client.RestClient;
+
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:warmup",
+        "app.warmup.requests=20"
+})
+class StartupWarmupTests {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ApplicationAvailability availability;
+
+    @Autowired
+    private MustacheViewResolver viewResolver;
+
+    @Test
+    void warmsUpBeforeReportingReady() throws Exception {
+        for (String phase : new String[] {"queries", "views", "caches", "requests", "total"}) {
+            Timer timer = meterRegistry.find("app.warmup.duration").tag("phase", phase).timer();
+            assertThat(timer).as(phase).isNotNull();
+            assertThat(timer.count()).isEqualTo(1);
+        }
+        assertThat(availability.getReadinessState()).isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+
+        String readiness = RestClient.create("http://localhost:" + port)
+                .get().uri("/actuator/health/readiness").retrieve().body(String.class);
+        assertThat(readiness).contains("UP");
+
+        // 워밍업 때 컴파일한 템플릿을 그대로 씀
+        CompiledMustacheView view = (CompiledMustacheView) viewResolver.resolveViewName("post/today", Locale.KOREA);
+        assertThat(view.getTemplate()).isSameAs(view.getTemplate());
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.ewhaspringteam.spring_study_susie.workload;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 테스트용 시계
+ * speed 가 0 이면 멈춰 있고 setTime/advance 로만 움직임, N 이면 실제 시간보다 N배 빠르게 흐름
+ */
+public class SimulatedClock extends Clock {
+
+    private final ZoneId zone;
+
+    // 실제 시각 realBase 에서의 시뮬레이션 시각 simulatedBase (한 번에 바꾸도록 묶어서 보관)
+    private record State(long simulatedBase, long realBase, double speed) {}
+
+    private volatile State state;
+
+    public SimulatedClock(LocalDateTime start) {
+        this(start, ZoneId.systemDefault());
+    }
+
+    private SimulatedClock(LocalDateTime start, ZoneId zone) {
+        this.zone = zone;
+        this.state = new State(start.atZone(zone).toInstant().toEpochMilli(), System.nanoTime(), 0);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        SimulatedClock clock = new SimulatedClock(LocalDateTime.ofInstant(instant(), this.zone), zone);
+        clock.state = this.state;
+        return clock;
+    }
+
+    @Override
+    public long millis() {
+        State current = state;
+        return current.simulatedBase + (long) ((System.nanoTime() - current.realBase) / 1_000_000.0 * current.speed);
+    }
+
+    @Override
+    public Instant instant() {
+        return Instant.ofEpochMilli(millis());
+    }
+
+    public synchronized void setTime(LocalDateTime time) {
+        setMillis(time.atZone(zone).toInstant().toEpochMilli());
+    }
+
+    public synchronized void setMillis(long millis) {
+        state = new State(millis, System.nanoTime(), state.speed);
+    }
+
+    public synchronized void advance(Duration duration) {
+        setMillis(millis() + duration.toMillis());
+    }
+
+    public synchronized void setSpeed(double speed) {
+        state = new State(millis(), System.nanoTime(), speed);
+    }
+
+    public double getSpeed() {
+        return state.speed;
+    }
+}
@@ -0,0 +1,154 @@
+package io.github.ewhaspringteam.spring_study_susie.workload;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.ewhaspringteam.spring_study_susie.service.PostService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 날의 트래픽을 시뮬레이션 시각으로 빠르게 재생 (자정 전환, 오전 9시 초기화 포함)
+ * mvn test -Pbenchmark -Dtest=WorkloadReplayBenchmark [-Dworkload.trace=workload.jsonl] [-Dworkload.speed=600]
+ * trace 를 주지 않으면 고정 시드로 만든 일주일치 트래픽을 사용 (새 DB 기준이라 게시글 ID 가 1부터 하루에 하나씩 늘어남)
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:workloadreplay",
+        "app.throttle.enabled=false",
+        "app.concurrency-limit.enabled=false"
+})
+@AutoConfigureMockMvc
+class WorkloadReplayBenchmark {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 3, 3, 0, 0);
+    private static final int DAYS = 7;
+
+    @TestConfiguration
+    static class ClockConfig {
+        @Bean
+        @Primary
+        SimulatedClock simulatedClock() {
+            return new SimulatedClock(START);
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SimulatedClock clock;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void replayWeekOfTraffic() throws Exception {
+        String trace = System.getProperty("workload.trace");
+        List<WorkloadEvent> events = trace != null ? load(Path.of(trace)) : synthesize(new Random(42));
+        double speed = Double.parseDouble(System.getProperty("workload.speed", "600"));
+
+        WorkloadReplayer.Report report = new WorkloadReplayer(mockMvc, clock, speed, Duration.ofMinutes(1))
+                .onMinute(postService::resetExpiredPosts)
+                .replay(events);
+        System.out.println(report);
+
+        assertThat(report.getTickFailures()).isZero();
+        assertThat(report.getStatuses().keySet()).allMatch(status -> status < 500);
+    }
+
+    private List<WorkloadEvent> load(Path path) throws Exception {
+        List<WorkloadEvent> events = new ArrayList<>();
+        for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            if (!line.isBlank()) {
+                events.add(objectMapper.readValue(line, WorkloadEvent.class));
+            }
+        }
+        events.sort(Comparator.comparingLong(WorkloadEvent::getAt));
+        return events;
+    }
+
+    // 하루: 아침에 게시글 작성 → 낮 동안 조회/댓글 → 자정 전후 몰림 → 다음날 9시 초기화 직후 옛 게시글 조회
+    private List<WorkloadEvent> synthesize(Random random) {
+        List<WorkloadEvent> events = new ArrayList<>();
+        for (int day = 0; day < DAYS; day++) {
+            LocalDateTime dayStart = START.plusDays(day);
+            long postId = day + 1;
+            String author = "writer" + (day % 2); // 이틀 연속 작성 금지를 피해 번갈아 작성
+
+            events.add(form(dayStart.plusHours(8).plusMinutes(random.nextInt(30)), "/posts",
+                    "title=" + encode(day + "일차 게시글") + "&content=" + encode("오늘의 내용") + "&authorId=" + author));
+
+            for (int i = 0; i < 150; i++) {
+                LocalDateTime at = dayStart.plusHours(9).plusSeconds(random.nextInt(15 * 3600 - 300));
+                events.add(daytime(at, postId, random));
+            }
+            for (int i = 0; i < 60; i++) {
+                LocalDateTime at = dayStart.plusDays(1).minusMinutes(2).plusSeconds(random.nextInt(240));
+                events.add(daytime(at, postId, random));
+            }
+            for (int i = 0; i < 20; i++) {
+                LocalDateTime at = dayStart.plusDays(1).plusHours(9).minusMinutes(1).plusSeconds(random.nextInt(180));
+                events.add(get(at, "/api/posts/" + postId + "/comments"));
+            }
+        }
+        events.sort(Comparator.comparingLong(WorkloadEvent::getAt));
+        return events;
+    }
+
+    private WorkloadEvent daytime(LocalDateTime at, long postId, Random random) {
+        int kind = random.nextInt(100);
+        if (kind < 60) {
+            return get(at, "/");
+        }
+        if (kind < 80) {
+            return get(at, "/api/posts/" + postId + "/comments");
+        }
+        if (kind < 95) {
+            String author = "user" + random.nextInt(30);
+            String body = "{\"content\":\"댓글 " + random.nextInt(1000) + "\",\"authorId\":\"" + author + "\"}";
+            return event(at, "POST", "/api/posts/" + postId + "/comments", MediaType.APPLICATION_JSON_VALUE, body);
+        }
+        return get(at, "/posts");
+    }
+
+    private WorkloadEvent get(LocalDateTime at, String path) {
+        return event(at, "GET", path, null, null);
+    }
+
+    private WorkloadEvent form(LocalDateTime at, String path, String body) {
+        return event(at, "POST", path, MediaType.APPLICATION_FORM_URLENCODED_VALUE, body);
+    }
+
+    private WorkloadEvent event(LocalDateTime at, String method, String path, String contentType, String body) {
+        long millis = at.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return new WorkloadEvent(millis, method, path, contentType, null, body);
+    }
+
+    private String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
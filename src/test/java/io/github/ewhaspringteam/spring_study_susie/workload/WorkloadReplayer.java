@@ -0,0 +1,184 @@
+package io.github.ewhaspringteam.spring_study_susie.workload;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 기록된 요청을 시뮬레이션 시각에 맞춰 다시 보내는 재생기
+ * 시계를 speed 배로 흘리면서 요청 간격도 1/speed 로 줄여 보내고, maxIdle 보다 긴 빈 시간은 시계를 건너뜀
+ * 스케줄러 대신 시뮬레이션 시각으로 1분마다 onMinute 작업(게시글 초기화 등)을 실행
+ * 지연 시간은 시뮬레이션 날짜별, 자정 전후, 분 단위 작업으로 나눠서 집계
+ */
+public class WorkloadReplayer {
+
+    private final MockMvc mockMvc;
+    private final SimulatedClock clock;
+    private final double speed;
+    private final Duration maxIdle;
+
+    private Runnable onMinute = () -> {};
+    private Duration boundaryWindow = Duration.ofMinutes(5);
+
+    public WorkloadReplayer(MockMvc mockMvc, SimulatedClock clock, double speed, Duration maxIdle) {
+        this.mockMvc = mockMvc;
+        this.clock = clock;
+        this.speed = speed;
+        this.maxIdle = maxIdle;
+    }
+
+    public WorkloadReplayer onMinute(Runnable onMinute) {
+        this.onMinute = onMinute;
+        return this;
+    }
+
+    public WorkloadReplayer boundaryWindow(Duration boundaryWindow) {
+        this.boundaryWindow = boundaryWindow;
+        return this;
+    }
+
+    public Report replay(List<WorkloadEvent> events) throws Exception {
+        Report report = new Report();
+        if (events.isEmpty()) {
+            return report;
+        }
+
+        clock.setMillis(events.get(0).getAt());
+        clock.setSpeed(speed);
+        long lastMinute = clock.millis() / 60_000;
+        long startedAt = System.nanoTime();
+
+        for (WorkloadEvent event : events) {
+            long gap = event.getAt() - clock.millis();
+            if (gap > maxIdle.toMillis()) {
+                clock.setMillis(event.getAt());
+            } else if (gap > 0) {
+                LockSupport.parkNanos((long) (TimeUnit.MILLISECONDS.toNanos(gap) / speed));
+            }
+
+            long minute = clock.millis() / 60_000;
+            if (minute != lastMinute) {
+                lastMinute = minute;
+                long tickStartedAt = System.nanoTime();
+                try {
+                    onMinute.run();
+                } catch (RuntimeException e) {
+                    report.tickFailures++;
+                }
+                report.ticks.add(System.nanoTime() - tickStartedAt);
+            }
+
+            LocalDateTime now = LocalDateTime.ofInstant(Instant.ofEpochMilli(clock.millis()), clock.getZone());
+            long requestStartedAt = System.nanoTime();
+            int status = mockMvc.perform(toRequest(event)).andReturn().getResponse().getStatus();
+            long elapsed = System.nanoTime() - requestStartedAt;
+
+            report.byDay.computeIfAbsent(now.toLocalDate(), day -> new Latencies()).add(elapsed);
+            if (nearMidnight(now)) {
+                report.nearMidnight.add(elapsed);
+            }
+            report.statuses.merge(status, 1, Integer::sum);
+        }
+        report.wallTime = Duration.ofNanos(System.nanoTime() - startedAt);
+        report.simulatedTime = Duration.ofMillis(events.get(events.size() - 1).getAt() - events.get(0).getAt());
+        return report;
+    }
+
+    private boolean nearMidnight(LocalDateTime now) {
+        long fromMidnight = Duration.between(LocalTime.MIDNIGHT, now.toLocalTime()).toMillis();
+        long window = boundaryWindow.toMillis();
+        return fromMidnight < window || Duration.ofDays(1).toMillis() - fromMidnight < window;
+    }
+
+    private MockHttpServletRequestBuilder toRequest(WorkloadEvent event) {
+        MockHttpServletRequestBuilder request = MockMvcRequestBuilders.request(
+                HttpMethod.valueOf(event.getMethod()), URI.create(event.getPath()));
+        if (event.getContentType() != null) {
+            request.contentType(event.getContentType());
+        }
+        if (event.getAuthorId() != null) {
+            request.header("X-Author-Id", event.getAuthorId());
+        }
+        if (event.getBody() != null) {
+            request.content(event.getBody().getBytes(StandardCharsets.UTF_8));
+        }
+        return request;
+    }
+
+    /**
+     * 재생 결과
+     */
+    public static class Report {
+
+        private final Map<LocalDate, Latencies> byDay = new TreeMap<>();
+        private final Latencies nearMidnight = new Latencies();
+        private final Latencies ticks = new Latencies();
+        private final Map<Integer, Integer> statuses = new TreeMap<>();
+        private int tickFailures;
+        private Duration wallTime = Duration.ZERO;
+        private Duration simulatedTime = Duration.ZERO;
+
+        public Map<Integer, Integer> getStatuses() {
+            return statuses;
+        }
+
+        public int getTickFailures() {
+            return tickFailures;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder out = new StringBuilder();
+            out.append(String.format("simulated %s in %d ms wall time%n", simulatedTime, wallTime.toMillis()));
+            byDay.forEach((day, latencies) -> out.append(String.format("%-14s %s%n", day, latencies)));
+            out.append(String.format("%-14s %s%n", "near midnight", nearMidnight));
+            out.append(String.format("%-14s %s (failures %d)%n", "minute ticks", ticks, tickFailures));
+            out.append("statuses ").append(statuses);
+            return out.toString();
+        }
+    }
+
+    /**
+     * 지연 시간 모음 (ns)
+     */
+    static class Latencies {
+
+        private final List<Long> samples = new ArrayList<>();
+
+        void add(long nanos) {
+            samples.add(nanos);
+        }
+
+        private double percentileMillis(double percentile) {
+            int index = (int) Math.ceil(percentile * samples.size()) - 1;
+            return samples.get(Math.max(index, 0)) / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            if (samples.isEmpty()) {
+                return "n=0";
+            }
+            Collections.sort(samples);
+            return String.format("n=%-5d p50=%.2fms p95=%.2fms p99=%.2fms max=%.2fms",
+                    samples.size(), percentileMillis(0.50), percentileMillis(0.95), percentileMillis(0.99),
+                    samples.get(samples.size() - 1) / 1_000_000.0);
+        }
+    }
+}